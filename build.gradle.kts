@@ -1,6 +1,7 @@
 plugins {
     java
     id("xyz.jpenilla.run-paper") version "2.3.1"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group   = "dev.n1xend"
@@ -11,6 +12,15 @@ java {
     toolchain.languageVersion.set(JavaLanguageVersion.of(21))
 }
 
+// ── Offline simulator (src/simulation) — shared by jmh and test ──────────────
+sourceSets {
+    create("simulation") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+configurations["simulationImplementation"].extendsFrom(configurations.implementation.get())
+
 repositories {
     mavenCentral()
     maven("https://repo.papermc.io/repository/maven-public/")
@@ -43,9 +53,21 @@ dependencies {
     testImplementation("io.papermc.paper:paper-api:1.21.1-R0.1-SNAPSHOT")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher:1.11.4")
     testImplementation("org.apache.commons:commons-lang3:3.17.0")
+    testImplementation(sourceSets["simulation"].output)   // MarketSimulator determinism test
     constraints {
         testImplementation("junit:junit:4.13.2") { because("CVE-2020-15250") }
     }
+
+    // ── Benchmarks (src/jmh) ──────────────────────────────────────────────────
+    jmh("io.papermc.paper:paper-api:1.21.1-R0.1-SNAPSHOT")
+    jmh("com.github.MilkBowl:VaultAPI:1.7")
+    jmh("org.mockito:mockito-core:5.14.2")
+    jmh(sourceSets["simulation"].output)
+
+    // ── Simulator (src/simulation) ────────────────────────────────────────────
+    "simulationImplementation"("io.papermc.paper:paper-api:1.21.1-R0.1-SNAPSHOT")
+    "simulationImplementation"("com.github.MilkBowl:VaultAPI:1.7")
+    "simulationImplementation"("org.mockito:mockito-core:5.14.2")
 }
 
 // ── Fat JAR ───────────────────────────────────────────────────────────────────
@@ -80,6 +102,22 @@ tasks.test {
     testLogging { events("passed", "skipped", "failed") }
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    resultFormat.set("TEXT")
+    profilers.set(listOf("gc"))
+}
+
+// ── Offline simulator ─────────────────────────────────────────────────────────
+// ./gradlew simulate -PsimArgs="--players 200 --hours 168 --seed 7"
+tasks.register<JavaExec>("simulate") {
+    group = "verification"
+    description = "Runs the headless market simulator."
+    classpath = sourceSets["simulation"].runtimeClasspath
+    mainClass.set("dev.n1xend.dynamiceconomy.simulation.MarketSimulator")
+    args = (project.findProperty("simArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: listOf()
+}
+
 tasks.runServer {
     minecraftVersion("1.21.1")
 }
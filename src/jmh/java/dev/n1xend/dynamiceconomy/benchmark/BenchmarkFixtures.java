@@ -0,0 +1,119 @@
+package dev.n1xend.dynamiceconomy.benchmark;
+
+import dev.n1xend.dynamiceconomy.DynamicEconomy;
+import dev.n1xend.dynamiceconomy.config.ConfigManager;
+import dev.n1xend.dynamiceconomy.config.EconomyConfig;
+import dev.n1xend.dynamiceconomy.data.TransactionJournal;
+import dev.n1xend.dynamiceconomy.data.models.MarketCategory;
+import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.services.ContractService;
+import dev.n1xend.dynamiceconomy.services.DepositService;
+import dev.n1xend.dynamiceconomy.services.EconomyService;
+import dev.n1xend.dynamiceconomy.session.SessionService;
+import net.milkbowl.vault.economy.Economy;
+import org.bukkit.Material;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Server-less plugin wiring shared by the benchmarks.
+ *
+ * <p>The plugin, contract service and Vault are stub-only mocks; config,
+ * catalog, {@link MarketTable} and {@link EconomyService} are real. The
+ * catalog is spread over {@value #CATEGORIES} categories; sizes above the
+ * number of item materials reuse materials under synthetic ids.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class BenchmarkFixtures {
+
+    /** Size of the shipped items.yml. */
+    public static final int SHIPPED_CATALOG = 239;
+
+    private static final int CATEGORIES = 8;
+
+    private BenchmarkFixtures() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /** Shipped defaults, with the seasonal scheduler off (no server to schedule on). */
+    @NotNull
+    public static YamlConfiguration config() {
+        YamlConfiguration yaml = new YamlConfiguration();
+        yaml.set("seasonal-demand.enabled", false);
+        return yaml;
+    }
+
+    /**
+     * Builds a stubbed plugin with a real economy of {@code catalogSize} items.
+     *
+     * @param catalogSize number of market items
+     * @param dataFolder  plugin data folder (for file-backed benchmarks)
+     * @return plugin whose {@code getEconomyService()} returns the live service
+     */
+    @NotNull
+    public static DynamicEconomy plugin(int catalogSize, @NotNull File dataFolder) {
+        YamlConfiguration yaml = config();
+        Logger logger = Logger.getLogger("benchmark");
+        logger.setLevel(Level.OFF);
+
+        ContractService contracts = mock(ContractService.class, withSettings().stubOnly());
+        when(contracts.hasActiveContractFor(anyString())).thenReturn(false);
+
+        DynamicEconomy plugin = mock(DynamicEconomy.class, withSettings().stubOnly());
+        when(plugin.getConfig()).thenReturn(yaml);
+        when(plugin.getConfigManager()).thenReturn(new ConfigManager(EconomyConfig.from(yaml)));
+        when(plugin.getLogger()).thenReturn(logger);
+        when(plugin.getDataFolder()).thenReturn(dataFolder);
+        when(plugin.getContractService()).thenReturn(contracts);
+        when(plugin.getVaultEconomy()).thenReturn(mock(Economy.class, withSettings().stubOnly()));
+        when(plugin.getDepositService()).thenReturn(mock(DepositService.class, withSettings().stubOnly()));
+        when(plugin.getTransactionJournal()).thenReturn(mock(TransactionJournal.class, withSettings().stubOnly()));
+        when(plugin.getSessionService()).thenReturn(new SessionService());
+
+        MarketTable table = new MarketTable(catalogSize);
+        EconomyService service = new EconomyService(plugin, catalog(table, catalogSize), table);
+        when(plugin.getEconomyService()).thenReturn(service);
+        return plugin;
+    }
+
+    /** Item materials in declaration order, excluding air and legacy entries. */
+    @NotNull
+    public static List<Material> itemMaterials() {
+        List<Material> materials = new ArrayList<>();
+        for (Material m : Material.values()) {
+            if (!m.isLegacy() && !m.isAir() && m.isItem()) materials.add(m);
+        }
+        return materials;
+    }
+
+    private static Map<String, MarketCategory> catalog(MarketTable table, int size) {
+        List<Material> materials = itemMaterials();
+        Map<String, MarketCategory> categories = new LinkedHashMap<>();
+        for (int c = 0; c < CATEGORIES; c++) {
+            String id = "cat" + c;
+            categories.put(id, new MarketCategory(id, id, "", Material.CHEST, 10 + c, true));
+        }
+        for (int i = 0; i < size; i++) {
+            Material mat = materials.get(i % materials.size());
+            String id = i < materials.size() ? mat.name() : "ITEM_" + i;
+            MarketCategory cat = categories.get("cat" + (i % CATEGORIES));
+            cat.addItem(new MarketItem(table, id, cat.getId(), "§f" + id, mat, 1.0 + (i % 50)));
+        }
+        return categories;
+    }
+}
@@ -0,0 +1,104 @@
+package dev.n1xend.dynamiceconomy.benchmark;
+
+import dev.n1xend.dynamiceconomy.DynamicEconomy;
+import dev.n1xend.dynamiceconomy.data.models.MarketCategory;
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.services.MarketLoader;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Startup catalog load: {@link MarketLoader#loadCategories} from
+ * {@code items.yml} ({@code yaml} — parse, match every material and write
+ * the cache, as on a first boot) and from the compiled
+ * {@code cache/catalog.bin} ({@code cache}).
+ *
+ * <p>239 is the shipped items.yml. Larger sizes list every item material
+ * once per category, as many categories as needed.</p>
+ *
+ * <pre>./gradlew jmh</pre>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogLoadBenchmark {
+
+    @Param({"239", "10000"})
+    private int catalogSize;
+
+    @Param({"yaml", "cache"})
+    private String source;
+
+    private MarketLoader loader;
+    private Path         cacheFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path dir = Files.createTempDirectory("de-bench");
+        if (catalogSize == BenchmarkFixtures.SHIPPED_CATALOG) {
+            try (InputStream in = CatalogLoadBenchmark.class.getResourceAsStream("/items.yml")) {
+                Files.copy(in, dir.resolve("items.yml"));
+            }
+        } else {
+            Files.writeString(dir.resolve("items.yml"), itemsYaml(catalogSize));
+        }
+        cacheFile = dir.resolve("cache").resolve("catalog.bin");
+
+        Logger logger = Logger.getLogger("benchmark");
+        logger.setLevel(Level.OFF);
+        Server server = mock(Server.class, withSettings().stubOnly());
+        when(server.getBukkitVersion()).thenReturn("1.21.1-R0.1-SNAPSHOT");
+
+        DynamicEconomy plugin = mock(DynamicEconomy.class, withSettings().stubOnly());
+        when(plugin.getLogger()).thenReturn(logger);
+        when(plugin.getDataFolder()).thenReturn(dir.toFile());
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.getDescription()).thenReturn(
+            new PluginDescriptionFile("DynamicEconomy", "bench", "dev.n1xend.dynamiceconomy.DynamicEconomy"));
+
+        loader = new MarketLoader(plugin);
+        loader.loadCategories(new MarketTable(catalogSize)); // writes the cache
+    }
+
+    private static String itemsYaml(int size) {
+        List<Material> materials = BenchmarkFixtures.itemMaterials();
+        StringBuilder yaml = new StringBuilder("config-version: 2\ncategories:\n");
+        for (int n = 0, c = 0; n < size; c++) {
+            yaml.append("  cat").append(c).append(":\n    icon: CHEST\n    slot: ").append(10 + c).append("\n    items:\n");
+            for (int i = 0; i < materials.size() && n < size; i++, n++) {
+                String id = materials.get(i).name();
+                yaml.append("      ").append(id).append(":\n")
+                    .append("        display-name: \"&f").append(id).append("\"\n")
+                    .append("        base-price: ").append(1 + n % 50).append(".0\n");
+            }
+        }
+        return yaml.toString();
+    }
+
+    @Benchmark
+    public Map<String, MarketCategory> load() throws IOException {
+        if (source.equals("yaml")) Files.deleteIfExists(cacheFile);
+        return loader.loadCategories(new MarketTable(catalogSize));
+    }
+}
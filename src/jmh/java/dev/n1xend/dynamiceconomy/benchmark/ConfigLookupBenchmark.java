@@ -0,0 +1,72 @@
+package dev.n1xend.dynamiceconomy.benchmark;
+
+import dev.n1xend.dynamiceconomy.config.EconomyConfig;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Config reads done by one {@code trySell} / one rendered category slot.
+ *
+ * <p>{@code yamlLookups} walks the YAML section tree for every value, as the
+ * original getters did; {@code snapshotLookups} reads the same values from a
+ * compiled {@link EconomyConfig}. Both use the shipped config.yml.</p>
+ *
+ * <pre>./gradlew jmh</pre>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigLookupBenchmark {
+
+    private FileConfiguration yaml;
+    private EconomyConfig snapshot;
+
+    @Setup
+    public void setUp() throws Exception {
+        try (Reader reader = new InputStreamReader(
+                Objects.requireNonNull(getClass().getResourceAsStream("/config.yml")),
+                StandardCharsets.UTF_8)) {
+            yaml = YamlConfiguration.loadConfiguration(reader);
+        }
+        snapshot = EconomyConfig.from(yaml);
+    }
+
+    @Benchmark
+    public double yamlLookups() {
+        return yaml.getDouble("economy.sell-tax", 0.05)
+             + yaml.getDouble("economy.price-drop-per-stack", 0.02)
+             + yaml.getDouble("economy.min-price-multiplier", 0.2)
+             + yaml.getInt("economy.max-sell-amount", 2304)
+             + yaml.getDouble("diversity-bonus.bonus-multiplier", 0.1)
+             + yaml.getDouble("contracts.bonus-multiplier", 0.4)
+             + yaml.getDouble("buy-mode.spread-multiplier", 1.3)
+             + (yaml.getBoolean("buy-mode.enabled", true) ? 1 : 0);
+    }
+
+    @Benchmark
+    public double snapshotLookups() {
+        EconomyConfig c = snapshot;
+        return c.sellTax()
+             + c.priceDropPerStack()
+             + c.minPriceMultiplier()
+             + c.maxSellAmount()
+             + c.diversityBonusMultiplier()
+             + c.contractBonusMultiplier()
+             + c.buySpreadMultiplier()
+             + (c.buyModeEnabled() ? 1 : 0);
+    }
+}
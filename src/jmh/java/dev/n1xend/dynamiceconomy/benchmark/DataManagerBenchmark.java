@@ -0,0 +1,67 @@
+package dev.n1xend.dynamiceconomy.benchmark;
+
+import dev.n1xend.dynamiceconomy.DynamicEconomy;
+import dev.n1xend.dynamiceconomy.data.DataManager;
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON persistence: {@link DataManager#save()} of the whole catalog and of
+ * {@value #FEW_DIRTY} changed rows, and {@link DataManager#load()}.
+ * Runs at the shipped catalog size and at 10k items; the {@code gc} profiler
+ * reports allocation per operation ({@code gc.alloc.rate.norm}).
+ *
+ * <pre>./gradlew jmh</pre>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataManagerBenchmark {
+
+    private static final int FEW_DIRTY = 3;
+
+    @Param({"239", "10000"})
+    private int catalogSize;
+
+    private DataManager dataManager;
+    private MarketTable table;
+
+    @Setup
+    public void setUp() throws Exception {
+        DynamicEconomy plugin = BenchmarkFixtures.plugin(catalogSize,
+            Files.createTempDirectory("de-bench").toFile());
+        dataManager = new DataManager(plugin);
+        table = plugin.getEconomyService().getTable();
+        table.markAllDirty();
+        dataManager.save(); // something to load
+    }
+
+    @Benchmark
+    public void saveAll() {
+        table.markAllDirty();
+        dataManager.save();
+    }
+
+    @Benchmark
+    public void saveFewDirty() {
+        for (int i = 0; i < FEW_DIRTY; i++) {
+            table.markDirty(i);
+        }
+        dataManager.save();
+    }
+
+    @Benchmark
+    public void load() {
+        dataManager.load();
+    }
+}
@@ -0,0 +1,56 @@
+package dev.n1xend.dynamiceconomy.benchmark;
+
+import dev.n1xend.dynamiceconomy.data.MarketSnapshot;
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binary snapshot: {@link MarketSnapshot#write} and {@link MarketSnapshot#read}
+ * of the whole table, with ids in catalog order (the in-place match path).
+ *
+ * <pre>./gradlew jmh</pre>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarketSnapshotBenchmark {
+
+    @Param({"239", "10000", "100000"})
+    private int catalogSize;
+
+    private MarketTable table;
+    private Path        file;
+
+    @Setup
+    public void setUp() throws IOException {
+        table = new MarketTable(catalogSize);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < catalogSize; i++) {
+            table.allocate("ITEM_" + i, now);
+        }
+        file = Files.createTempDirectory("de-bench").resolve("market_data.bin");
+        MarketSnapshot.write(table, file);
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        MarketSnapshot.write(table, file);
+    }
+
+    @Benchmark
+    public int read() throws IOException {
+        return MarketSnapshot.read(file, table, id -> -1);
+    }
+}
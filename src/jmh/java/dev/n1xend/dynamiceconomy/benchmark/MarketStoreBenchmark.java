@@ -0,0 +1,98 @@
+package dev.n1xend.dynamiceconomy.benchmark;
+
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.data.store.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Save latency and throughput of every {@link MarketStore}: a full save, a
+ * save of 1% dirty rows (at least one), and a load. Multiply full-save
+ * throughput by {@code catalogSize} for rows per second.
+ *
+ * <pre>./gradlew jmh</pre>
+ *
+ * <p>MySQL is left out of the default run; add {@code mysql} to
+ * {@code store} and set {@code DE_TEST_MYSQL_HOST} (and {@code _PORT},
+ * {@code _DB}, {@code _USER}, {@code _PASSWORD}) to include it.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarketStoreBenchmark {
+
+    @Param({"memory", "json", "binary", "sqlite"})
+    private String store;
+
+    @Param({"239", "10000", "100000"})
+    private int catalogSize;
+
+    private MarketStore          marketStore;
+    private MarketTable          table;
+    private MarketTable.Snapshot snapshot;
+    private int[]                fewDirty;
+
+    @Setup
+    public void setUp() throws Exception {
+        table = new MarketTable(catalogSize);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < catalogSize; i++) {
+            table.allocate("ITEM_" + i, now);
+            table.recordSell(i, i % 64, now);
+        }
+        snapshot = table.snapshot();
+        fewDirty = new int[Math.max(1, catalogSize / 100)];
+        for (int i = 0; i < fewDirty.length; i++) {
+            fewDirty[i] = i * (catalogSize / fewDirty.length);
+        }
+
+        Path dir = Files.createTempDirectory("de-bench");
+        marketStore = switch (store) {
+            case "memory" -> new MemoryMarketStore();
+            case "json"   -> new JsonMarketStore(dir.resolve("market_data.json"), false);
+            case "binary" -> new BinaryMarketStore(dir.resolve("market_data.bin"), null);
+            case "sqlite" -> new SqliteMarketStore(dir.resolve("database.db"));
+            case "mysql"  -> new MySqlMarketStore(env("DE_TEST_MYSQL_HOST", "localhost"),
+                Integer.parseInt(env("DE_TEST_MYSQL_PORT", "3306")), env("DE_TEST_MYSQL_DB", "de_test"),
+                env("DE_TEST_MYSQL_USER", "root"), env("DE_TEST_MYSQL_PASSWORD", ""));
+            default -> throw new IllegalArgumentException("Unknown store: " + store);
+        };
+        if (marketStore instanceof JdbcMarketStore jdbc) jdbc.open();
+        marketStore.save(snapshot);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        marketStore.close();
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value != null ? value : fallback;
+    }
+
+    @Benchmark
+    public void saveAll() throws Exception {
+        marketStore.save(snapshot);
+    }
+
+    @Benchmark
+    public void saveFewDirty() throws Exception {
+        marketStore.saveDirty(snapshot, fewDirty);
+    }
+
+    @Benchmark
+    public int load() throws Exception {
+        return marketStore.load(table, id -> Integer.parseInt(id, 5, id.length(), 10));
+    }
+}
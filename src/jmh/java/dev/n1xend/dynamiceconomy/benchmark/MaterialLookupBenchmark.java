@@ -0,0 +1,91 @@
+package dev.n1xend.dynamiceconomy.benchmark;
+
+import dev.n1xend.dynamiceconomy.DynamicEconomy;
+import dev.n1xend.dynamiceconomy.config.ConfigManager;
+import dev.n1xend.dynamiceconomy.data.models.MarketCategory;
+import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.services.EconomyService;
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Click-path lookup in {@code GuiListener.handleCategory}: Material → MarketItem.
+ *
+ * <p>{@code linearScan} is the original implementation (scan over every indexed
+ * item), {@code ordinalIndex} is {@link EconomyService#getItemByMaterial}.
+ * Both run against a catalog the size of the shipped items.yml.</p>
+ *
+ * <pre>./gradlew jmh</pre>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaterialLookupBenchmark {
+
+    @Param({"239"})
+    private int catalogSize;
+
+    private EconomyService service;
+    private Material[] clicks;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        ConfigManager config = mock(ConfigManager.class, withSettings().stubOnly());
+        DynamicEconomy plugin = mock(DynamicEconomy.class, withSettings().stubOnly());
+        when(plugin.getConfigManager()).thenReturn(config);
+        when(plugin.getLogger()).thenReturn(Logger.getLogger("benchmark"));
+
+        MarketTable table = new MarketTable(catalogSize);
+        MarketCategory category = new MarketCategory("all", "All", "", Material.CHEST, 0, true);
+        List<Material> materials = new ArrayList<>();
+        for (Material m : Material.values()) {
+            if (materials.size() == catalogSize) break;
+            if (m.isLegacy() || m.isAir() || !m.isItem()) continue;
+            materials.add(m);
+            category.addItem(new MarketItem(table, m.name(), "all", m.name(), m, 1.0));
+        }
+
+        Map<String, MarketCategory> categories = new LinkedHashMap<>();
+        categories.put(category.getId(), category);
+        service = new EconomyService(plugin, categories, table);
+
+        // Players click anywhere in the catalog
+        Collections.shuffle(materials, new Random(42));
+        clicks = materials.toArray(new Material[0]);
+    }
+
+    @Benchmark
+    public MarketItem linearScan() {
+        Material material = next();
+        for (MarketItem item : service.getItemIndex().values()) {
+            if (item.getMaterial() == material) return item;
+        }
+        return null;
+    }
+
+    @Benchmark
+    public MarketItem ordinalIndex() {
+        return service.getItemByMaterial(next());
+    }
+
+    private Material next() {
+        Material m = clicks[cursor];
+        cursor = (cursor + 1) % clicks.length;
+        return m;
+    }
+}
@@ -0,0 +1,53 @@
+package dev.n1xend.dynamiceconomy.benchmark;
+
+import dev.n1xend.dynamiceconomy.DynamicEconomy;
+import dev.n1xend.dynamiceconomy.config.MessageManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link MessageManager#get(String, Object...)} with the placeholders of a sale message.
+ * Messages are loaded from the bundled messages_ru.yml.
+ *
+ * <pre>./gradlew jmh</pre>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageManagerBenchmark {
+
+    private MessageManager messages;
+
+    @Setup
+    public void setUp() throws Exception {
+        DynamicEconomy plugin = BenchmarkFixtures.plugin(0, Files.createTempDirectory("de-bench").toFile());
+        when(plugin.getResource(anyString())).thenAnswer(inv ->
+            MessageManagerBenchmark.class.getClassLoader().getResourceAsStream(inv.getArgument(0)));
+        messages = new MessageManager(plugin);
+    }
+
+    @Benchmark
+    public String plain() {
+        return messages.get("sell.cooldown");
+    }
+
+    @Benchmark
+    public String withPlaceholders() {
+        return messages.get("sell.success",
+            "%amount%", 64,
+            "%item%", "§eПшеница",
+            "%payout%", "128.00");
+    }
+}
@@ -0,0 +1,53 @@
+package dev.n1xend.dynamiceconomy.benchmark;
+
+import dev.n1xend.dynamiceconomy.config.ConfigManager;
+import dev.n1xend.dynamiceconomy.config.EconomyConfig;
+import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import dev.n1xend.dynamiceconomy.services.PriceCalculator;
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PriceCalculator} on the sell path: payout math and the CAS price update.
+ *
+ * <pre>./gradlew jmh</pre>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceCalculatorBenchmark {
+
+    private PriceCalculator calculator;
+    private MarketItem item;
+    private long now;
+
+    @Setup
+    public void setUp() {
+        calculator = new PriceCalculator(new ConfigManager(EconomyConfig.from(BenchmarkFixtures.config())));
+        item = new MarketItem("WHEAT", "farming", "Wheat", Material.WHEAT, 2.0);
+        item.setRecoveryPerHour(0.05);
+        now = System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public double calculatePayout() {
+        return calculator.calculatePayout(item, 64, 1.5, 1.1, 1.0);
+    }
+
+    @Benchmark
+    public long applySale() {
+        // Re-anchor so the multiplier never settles on the floor
+        item.setCurrentMultiplier(0.8, now);
+        calculator.applySale(item, 64, now);
+        return item.getPriceState();
+    }
+}
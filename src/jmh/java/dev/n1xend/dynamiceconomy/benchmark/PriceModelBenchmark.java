@@ -0,0 +1,75 @@
+package dev.n1xend.dynamiceconomy.benchmark;
+
+import dev.n1xend.dynamiceconomy.config.ConfigManager;
+import dev.n1xend.dynamiceconomy.config.EconomyConfig;
+import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import dev.n1xend.dynamiceconomy.pricing.PriceModel;
+import dev.n1xend.dynamiceconomy.pricing.PriceModels;
+import dev.n1xend.dynamiceconomy.services.PriceCalculator;
+import org.bukkit.Material;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of each {@link PriceModel} on the sell path.
+ *
+ * <p>{@code afterSale}/{@code recover} measure the raw curve math;
+ * {@code applySale} is the full CAS path in {@link PriceCalculator} including
+ * a lazy-recovery read. One model per fork, as on a server that configures a
+ * single curve, so the call sites stay monomorphic.</p>
+ *
+ * <pre>./gradlew jmh</pre>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceModelBenchmark {
+
+    @Param({"linear", "exponential", "logistic"})
+    private String model;
+
+    private PriceModel priceModel;
+    private PriceCalculator calculator;
+    private MarketItem item;
+    private double multiplier;
+    private long now;
+
+    @Setup
+    public void setUp() {
+        EconomyConfig config = EconomyConfig.from(new YamlConfiguration());
+        priceModel = PriceModels.create(model, 1.0, config.minPriceMultiplier());
+        calculator = new PriceCalculator(new ConfigManager(config));
+        item = new MarketItem("WHEAT", "farming", "Wheat", Material.WHEAT, 2.0);
+        item.setPriceModel(priceModel);
+        item.setRecoveryPerHour(config.priceRecoveryPerHour());
+        multiplier = 0.6;
+        now = System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public double afterSale() {
+        return priceModel.afterSale(multiplier, 1.0, 0.02);
+    }
+
+    @Benchmark
+    public double recover() {
+        return priceModel.recover(multiplier, 1.5, 0.05);
+    }
+
+    @Benchmark
+    public long applySale() {
+        // Re-anchor so the item never settles on the floor
+        item.setCurrentMultiplier(0.6, now);
+        calculator.applySale(item, 64, now + 3_600_000L);
+        return item.getPriceState();
+    }
+}
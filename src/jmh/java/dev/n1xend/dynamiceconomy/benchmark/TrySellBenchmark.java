@@ -0,0 +1,82 @@
+package dev.n1xend.dynamiceconomy.benchmark;
+
+import dev.n1xend.dynamiceconomy.DynamicEconomy;
+import dev.n1xend.dynamiceconomy.services.EconomyService;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Full {@link EconomyService#trySell} against a stubbed player and Vault.
+ *
+ * <p>The player holds a typical farm inventory (36 slots, a third of them
+ * wheat stacks) and sells 16 wheat per call. The player has the cooldown
+ * bypass permission so every call goes through the whole path.</p>
+ *
+ * <pre>./gradlew jmh</pre>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrySellBenchmark {
+
+    private EconomyService service;
+    private Player player;
+
+    @Setup
+    public void setUp() throws Exception {
+        DynamicEconomy plugin = BenchmarkFixtures.plugin(BenchmarkFixtures.SHIPPED_CATALOG,
+            Files.createTempDirectory("de-bench").toFile());
+        service = plugin.getEconomyService();
+
+        ItemStack[] contents = new ItemStack[36];
+        for (int i = 0; i < contents.length; i++) {
+            contents[i] = stack(i % 3 == 0 ? Material.WHEAT : Material.COBBLESTONE, 64);
+        }
+        PlayerInventory inventory = mock(PlayerInventory.class, withSettings().stubOnly());
+        when(inventory.getContents()).thenAnswer(inv -> contents.clone());
+
+        UUID id = UUID.randomUUID();
+        plugin.getSessionService().open(id);
+        player = mock(Player.class, withSettings().stubOnly());
+        when(player.getUniqueId()).thenReturn(id);
+        when(player.getName()).thenReturn("bench");
+        when(player.hasPermission(anyString())).thenReturn(true);
+        when(player.getInventory()).thenReturn(inventory);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPrices() {
+        service.getTable().resetAll(System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public EconomyService.SellData trySell() {
+        return service.trySell(player, "WHEAT", 16);
+    }
+
+    private static ItemStack stack(Material type, int amount) {
+        ItemStack copy = mock(ItemStack.class, withSettings().stubOnly());
+        ItemStack stack = mock(ItemStack.class, withSettings().stubOnly());
+        when(stack.getType()).thenReturn(type);
+        when(stack.getAmount()).thenReturn(amount);
+        when(stack.clone()).thenReturn(copy);
+        return stack;
+    }
+}
@@ -0,0 +1,58 @@
+package dev.n1xend.dynamiceconomy.gui;
+
+import dev.n1xend.dynamiceconomy.DynamicEconomy;
+import dev.n1xend.dynamiceconomy.benchmark.BenchmarkFixtures;
+import dev.n1xend.dynamiceconomy.data.models.MarketCategory;
+import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering of one category page in {@link CategoryGui}: lore for every item slot.
+ *
+ * <p>ItemStack/ItemMeta creation needs a running server and is left out;
+ * this measures the plugin's own work per slot (prices, bars, formatting).
+ * Lives in the gui package to reach the package-private lore builder.</p>
+ *
+ * <pre>./gradlew jmh</pre>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryGuiBenchmark {
+
+    private CategoryGui gui;
+    private MarketCategory category;
+    private MarketItem[] page;
+
+    @Setup
+    public void setUp() throws Exception {
+        DynamicEconomy plugin = BenchmarkFixtures.plugin(BenchmarkFixtures.SHIPPED_CATALOG,
+            Files.createTempDirectory("de-bench").toFile());
+        gui = new CategoryGui(plugin);
+        category = plugin.getEconomyService().getCategories().values().iterator().next();
+        page = category.getItems().stream()
+            .limit(CategoryGui.ITEMS_PER_PAGE)
+            .toArray(MarketItem[]::new);
+    }
+
+    @Benchmark
+    public int renderPage() {
+        int lines = 0;
+        for (MarketItem item : page) {
+            List<String> lore = gui.buildItemLore(item, category, false);
+            lines += lore.size();
+        }
+        return lines;
+    }
+}
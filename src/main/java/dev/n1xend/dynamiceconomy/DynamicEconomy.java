@@ -6,22 +6,29 @@ import dev.n1xend.dynamiceconomy.commands.CommandManager;
 import dev.n1xend.dynamiceconomy.config.ConfigManager;
 import dev.n1xend.dynamiceconomy.config.MessageManager;
 import dev.n1xend.dynamiceconomy.data.DataManager;
+import dev.n1xend.dynamiceconomy.data.ShutdownSaver;
+import dev.n1xend.dynamiceconomy.data.TransactionJournal;
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
 import dev.n1xend.dynamiceconomy.gui.GuiStateStore;
 import dev.n1xend.dynamiceconomy.history.PriceHistoryService;
 import dev.n1xend.dynamiceconomy.license.LicenseService;
 import dev.n1xend.dynamiceconomy.listeners.GuiListener;
+import dev.n1xend.dynamiceconomy.listeners.SessionListener;
 import dev.n1xend.dynamiceconomy.market.MarketEventService;
 import dev.n1xend.dynamiceconomy.placeholder.PlaceholderHook;
 import dev.n1xend.dynamiceconomy.region.RegionalMarketService;
 import dev.n1xend.dynamiceconomy.rest.RestApiServer;
 import dev.n1xend.dynamiceconomy.services.*;
+import dev.n1xend.dynamiceconomy.session.SessionService;
 import dev.n1xend.dynamiceconomy.treasury.TreasuryService;
 import net.milkbowl.vault.economy.Economy;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.RegisteredServiceProvider;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.IOException;
 import java.util.Objects;
+import java.util.logging.Level;
 
 /**
  * Main entry point for DynamicEconomy.
@@ -41,7 +48,11 @@ public final class DynamicEconomy extends JavaPlugin {
     private EconomyService   economyService;
     private ContractService  contractService;
     private BuyService       buyService;
+    private DepositService   depositService;
+    private TransactionJournal transactionJournal;
+    private SessionService   sessionService;
     private GuiStateStore    guiStateStore;
+    private ReloadService    reloadService;
 
     // Extended (1.2.x)
     private TreasuryService       treasuryService;
@@ -81,25 +92,50 @@ public final class DynamicEconomy extends JavaPlugin {
     public void onDisable() {
         if (marketEventService  != null) marketEventService.cancelAll();
         if (restApiServer       != null) restApiServer.stop();
-        if (dataManager         != null) dataManager.save();
-        if (treasuryService     != null) treasuryService.save();
-        if (priceHistoryService != null) priceHistoryService.save();
-        if (licenseService      != null) licenseService.save();
-        if (auctionService      != null) auctionService.save();
+        saveAllOnShutdown();
+        if (sessionService      != null) sessionService.clear();
         getLogger().info("DynamicEconomy disabled. Data saved.");
     }
 
+    /**
+     * Flushes payouts and the journal and saves every store in parallel under
+     * {@code data.shutdown-timeout-seconds}, so a slow database or Vault
+     * provider cannot hold the server past the host's kill timeout. The
+     * market falls back to its write-ahead log or a rescue snapshot; payouts
+     * not deposited in time stay in the ledger and are replayed on the next start.
+     */
+    private void saveAllOnShutdown() {
+        ShutdownSaver saver = new ShutdownSaver(getLogger());
+        if (depositService      != null) saver.add("Deposits", depositService::shutdown,
+                                                   () -> depositService.getPendingPlayers()
+                                                       + " players' payouts kept in the ledger for the next start");
+        if (transactionJournal  != null) saver.add("Journal", transactionJournal::shutdown, null);
+        if (dataManager         != null) saver.add("Market (" + dataManager.getStoreName() + ")",
+                                                   dataManager::shutdown, dataManager::rescue);
+        if (treasuryService     != null) saver.add("Treasury", treasuryService::save, null);
+        if (priceHistoryService != null) saver.add("Price history", priceHistoryService::save, null);
+        if (licenseService      != null) saver.add("Licenses", licenseService::save, null);
+        if (auctionService      != null) saver.add("Auctions", auctionService::save, null);
+        int timeout = configManager != null ? configManager.getShutdownTimeoutSeconds() : 20;
+        saver.run(timeout * 1000L);
+    }
+
     // ── Init ──────────────────────────────────────────────────────────────────
 
     private void initManagers() {
         configManager  = new ConfigManager(this);
         messageManager = new MessageManager(this);
-        guiStateStore  = new GuiStateStore();
+        sessionService = new SessionService();
+        guiStateStore  = new GuiStateStore(sessionService);
 
         MarketLoader loader = new MarketLoader(this);
-        economyService  = new EconomyService(this, loader.loadCategories());
+        MarketTable  table  = new MarketTable(256);
+        economyService  = new EconomyService(this, loader.loadCategories(table), table);
         contractService = new ContractService(this);
         buyService      = new BuyService(this);
+        depositService  = new DepositService(this);
+        transactionJournal = new TransactionJournal(getDataFolder().toPath().resolve("journal"), getLogger(),
+                configManager.getJournalMaxFileMb() * 1024L * 1024L, configManager.getJournalKeepFiles());
 
         treasuryService       = new TreasuryService(this);
         licenseService        = new LicenseService(this);
@@ -110,11 +146,15 @@ public final class DynamicEconomy extends JavaPlugin {
 
         dataManager = new DataManager(this);
         dataManager.load();
+        reloadService = new ReloadService(this);
 
         api = new DynamicEconomyAPI(this);
     }
 
     private void registerListeners() {
+        getServer().getPluginManager().registerEvents(new SessionListener(sessionService), this);
+        // Players already online (plugin reload) never fire a join
+        getServer().getOnlinePlayers().forEach(p -> sessionService.open(p.getUniqueId()));
         getServer().getPluginManager().registerEvents(new GuiListener(this), this);
     }
 
@@ -123,20 +163,35 @@ public final class DynamicEconomy extends JavaPlugin {
     }
 
     private void startTasks() {
-        economyService.startRecoveryTask();
+        depositService.start();
+        startJournal();
+        dataManager.start();
         contractService.startContractTask();
         marketEventService.startEventTask();
         priceHistoryService.startSnapshotTask();
         startAutoSave();
+        reloadService.startWatching();
+    }
+
+    private void startJournal() {
+        if (!configManager.isJournalEnabled()) return;
+        try {
+            transactionJournal.start();
+        } catch (IOException e) {
+            getLogger().log(Level.SEVERE, "[Journal] Cannot open transaction journal — transactions are not journaled", e);
+        }
     }
 
     private void startAutoSave() {
         long ticks = (long) configManager.getAutoSaveIntervalMinutes() * 60 * 20;
-        Bukkit.getScheduler().runTaskTimerAsynchronously(this, () -> {
-            dataManager.save();
-            treasuryService.save();
-            licenseService.save();
-            priceHistoryService.save();
+        Bukkit.getScheduler().runTaskTimer(this, () -> {
+            // Market state is captured on the main thread and written by the save thread
+            dataManager.requestSave();
+            Bukkit.getScheduler().runTaskAsynchronously(this, () -> {
+                treasuryService.save();
+                licenseService.save();
+                priceHistoryService.save();
+            });
         }, ticks, ticks);
     }
 
@@ -176,7 +231,11 @@ public final class DynamicEconomy extends JavaPlugin {
     public EconomyService         getEconomyService()         { return economyService; }
     public ContractService        getContractService()        { return contractService; }
     public BuyService             getBuyService()             { return buyService; }
+    public DepositService         getDepositService()         { return depositService; }
+    public TransactionJournal     getTransactionJournal()     { return transactionJournal; }
+    public SessionService         getSessionService()         { return sessionService; }
     public GuiStateStore          getGuiStateStore()          { return guiStateStore; }
+    public ReloadService          getReloadService()          { return reloadService; }
     public TreasuryService        getTreasuryService()        { return treasuryService; }
     public PriceHistoryService    getPriceHistoryService()    { return priceHistoryService; }
     public MarketEventService     getMarketEventService()     { return marketEventService; }
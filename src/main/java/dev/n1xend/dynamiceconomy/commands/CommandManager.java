@@ -35,6 +35,7 @@ public class CommandManager {
             ShopHistoryCommand historyCmd = new ShopHistoryCommand(plugin);
             AuctionCommand auctionCmd = new AuctionCommand(plugin);
             LicenseCommand licenseCmd = new LicenseCommand(plugin);
+            SellAllCommand sellAllCmd = new SellAllCommand(plugin);
 
             // /shop
             commands.register(
@@ -45,6 +46,21 @@ public class CommandManager {
                 "Open the dynamic market", List.of("market", "store")
             );
 
+            // /sellall [category]
+            commands.register(
+                Commands.literal("sellall")
+                    .requires(src -> src.getSender().hasPermission("dynamiceconomy.sellall"))
+                    .executes(ctx -> { sellAllCmd.execute(ctx.getSource().getSender(), null); return Command.SINGLE_SUCCESS; })
+                    .then(Commands.argument("category", StringArgumentType.word())
+                        .executes(ctx -> {
+                            sellAllCmd.execute(ctx.getSource().getSender(),
+                                ctx.getArgument("category", String.class));
+                            return Command.SINGLE_SUCCESS;
+                        }))
+                    .build(),
+                "Sell every accepted item in your inventory", List.of("sellinv")
+            );
+
             // /shophistory <item>
             commands.register(
                 Commands.literal("shophistory")
@@ -156,6 +172,12 @@ public class CommandManager {
                                         String.valueOf(ctx.getArgument("amount", Float.class))});
                                     return Command.SINGLE_SUCCESS;
                                 }))))
+                    .then(Commands.literal("journal")
+                        .executes(ctx -> { adminCmd.execute(ctx.getSource().getSender(), new String[]{"journal"}); return Command.SINGLE_SUCCESS; })
+                        .then(Commands.literal("export")
+                            .executes(ctx -> { adminCmd.execute(ctx.getSource().getSender(), new String[]{"journal", "export"}); return Command.SINGLE_SUCCESS; })))
+                    .then(Commands.literal("backup")
+                        .executes(ctx -> { adminCmd.execute(ctx.getSource().getSender(), new String[]{"backup"}); return Command.SINGLE_SUCCESS; }))
                     .build(),
                 "Admin commands for DynamicEconomy"
             );
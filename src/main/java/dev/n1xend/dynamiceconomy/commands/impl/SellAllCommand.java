@@ -0,0 +1,62 @@
+package dev.n1xend.dynamiceconomy.commands.impl;
+
+import dev.n1xend.dynamiceconomy.DynamicEconomy;
+import dev.n1xend.dynamiceconomy.config.MessageManager;
+import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import dev.n1xend.dynamiceconomy.services.EconomyService;
+import dev.n1xend.dynamiceconomy.utils.GUIHelper;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+/**
+ * Handles the {@code /sellall [category]} command — sells every accepted
+ * item in the player's inventory in one transaction.
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public class SellAllCommand {
+
+    private final DynamicEconomy plugin;
+
+    public SellAllCommand(@NotNull DynamicEconomy plugin) {
+        this.plugin = plugin;
+    }
+
+    public void execute(@NotNull CommandSender sender, @Nullable String categoryId) {
+        MessageManager msg = plugin.getMessageManager();
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage(msg.get("error.players-only"));
+            return;
+        }
+
+        Predicate<MarketItem> filter = item -> true;
+        if (categoryId != null) {
+            if (plugin.getEconomyService().getCategory(categoryId) == null) {
+                player.sendMessage(msg.prefixed("sellall.unknown-category", "%category%", categoryId));
+                return;
+            }
+            filter = item -> item.getCategoryId().equals(categoryId);
+        }
+
+        EconomyService.SellReceipt receipt = plugin.getEconomyService().trySellInventory(player, filter);
+        switch (receipt.result()) {
+            case SUCCESS -> {
+                plugin.getLicenseService().recordSell(player, receipt.totalAmount(), receipt.payout());
+                plugin.getTreasuryService().collectTax(
+                        receipt.payout() * plugin.getLicenseService().getTaxRate(player));
+                player.sendMessage(msg.prefixed("sellall.success",
+                        "%amount%", receipt.totalAmount(),
+                        "%types%", receipt.lines().size(),
+                        "%payout%", GUIHelper.formatPrice(receipt.payout())));
+            }
+            case COOLDOWN -> player.sendMessage(msg.prefixed("sell.cooldown"));
+            default       -> player.sendMessage(msg.prefixed("sellall.nothing"));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package dev.n1xend.dynamiceconomy.commands.impl;
 
 import dev.n1xend.dynamiceconomy.DynamicEconomy;
+import dev.n1xend.dynamiceconomy.data.JournalReader;
+import dev.n1xend.dynamiceconomy.data.TransactionJournal;
 import dev.n1xend.dynamiceconomy.data.models.MarketItem;
 import dev.n1xend.dynamiceconomy.market.MarketEventService;
 import dev.n1xend.dynamiceconomy.utils.GUIHelper;
@@ -8,9 +10,16 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
 /**
  * /shopadmin — admin utilities.
- * Subcommands: reload, reset, setprice, info, event, treasury
+ * Subcommands: reload, reset, setprice, info, event, treasury, journal, backup
  *
  * @author n1xend
  * @version 1.2.0
@@ -36,28 +45,47 @@ public class ShopAdminCommand {
             case "info"     -> handleInfo(sender);
             case "event"    -> handleEvent(sender, args);
             case "treasury" -> handleTreasury(sender, args);
+            case "journal"  -> handleJournal(sender, args);
+            case "backup"   -> handleBackup(sender);
             default         -> sendHelp(sender);
         }
     }
 
     // ── reload ────────────────────────────────────────────────────────────────
+    // Market state stays live: the catalog is diffed in, nothing is re-read from the store
     private void handleReload(@NotNull CommandSender sender) {
-        plugin.reloadConfig();
-        plugin.getDataManager().load();
-        sender.sendMessage("§a[DynamicEconomy] Конфигурация перезагружена.");
+        sender.sendMessage("§7[DynamicEconomy] Перезагрузка...");
+        plugin.getReloadService().reload(result -> {
+            var c = result.changes();
+            if (c == null) {
+                sender.sendMessage("§c[DynamicEconomy] items.yml не прочитан — каталог не изменён, конфигурация перезагружена.");
+            } else if (c.isEmpty()) {
+                sender.sendMessage("§a[DynamicEconomy] Перезагружено за " + result.millis() + " мс. Каталог без изменений.");
+            } else {
+                sender.sendMessage("§a[DynamicEconomy] Перезагружено за " + result.millis() + " мс.");
+                sender.sendMessage("§7Категории: §a+" + c.categoriesAdded() + " §c-" + c.categoriesRemoved()
+                    + " §e~" + c.categoriesChanged() + "§7, предметы: §a+" + c.itemsAdded()
+                    + " §c-" + c.itemsRemoved() + " §e~" + c.itemsChanged());
+            }
+        });
     }
 
     // ── reset ─────────────────────────────────────────────────────────────────
     private void handleReset(@NotNull CommandSender sender, @NotNull String[] args) {
         if (args.length < 2) { sender.sendMessage("§7Использование: /shopadmin reset <item|all>"); return; }
         if (args[1].equalsIgnoreCase("all")) {
-            plugin.getEconomyService().getCategories().values()
-                .forEach(cat -> cat.getItems().forEach(i -> i.setCurrentMultiplier(1.0)));
+            long now = System.currentTimeMillis();
+            TransactionJournal journal = plugin.getTransactionJournal();
+            for (MarketItem item : plugin.getEconomyService().getItemIndex().values()) {
+                journal.recordPriceChange(actor(sender), item.getId(), item.getMultiplierAt(now), 1.0);
+            }
+            plugin.getEconomyService().getTable().resetAll(now);
             sender.sendMessage("§aВсе цены сброшены до базовых.");
             return;
         }
         MarketItem item = plugin.getEconomyService().getItem(args[1].toUpperCase());
         if (item == null) { sender.sendMessage("§cПредмет не найден: §e" + args[1]); return; }
+        plugin.getTransactionJournal().recordPriceChange(actor(sender), item.getId(), item.getCurrentMultiplier(), 1.0);
         item.setCurrentMultiplier(1.0);
         sender.sendMessage("§aЦена §e" + item.getDisplayName() + " §aсброшена.");
     }
@@ -69,6 +97,7 @@ public class ShopAdminCommand {
         if (item == null) { sender.sendMessage("§cПредмет не найден: §e" + args[1]); return; }
         try {
             double m = Math.max(0.01, Math.min(10.0, Double.parseDouble(args[2])));
+            plugin.getTransactionJournal().recordPriceChange(actor(sender), item.getId(), item.getCurrentMultiplier(), m);
             item.setCurrentMultiplier(m);
             sender.sendMessage("§aМультипликатор §e" + item.getDisplayName()
                 + " §aустановлен: §e" + String.format("%.2f", m)
@@ -92,6 +121,14 @@ public class ShopAdminCommand {
             var cat = plugin.getEconomyService().getCategory(hot);
             sender.sendMessage("§7Горячая категория: §c🔥 " + (cat != null ? cat.getDisplayName() : hot));
         }
+        var saves = plugin.getDataManager().getSaveStats();
+        sender.sendMessage("§7Хранилище: §e" + plugin.getDataManager().getStoreName()
+            + " §7(сохранений: §e" + saves.saves() + "§7, ошибок: " + (saves.failures() > 0 ? "§c" : "§e") + saves.failures() + "§7)");
+        if (saves.saves() + saves.failures() > 0) {
+            sender.sendMessage("§7Сохранение: §e" + String.format("%.1f", saves.lastMillis()) + " мс §7("
+                + saves.lastRows() + " строк), среднее §e" + String.format("%.1f", saves.avgMillis())
+                + " мс§7, макс §e" + String.format("%.1f", saves.maxMillis()) + " мс");
+        }
         sender.sendMessage("§6§l══ Активные события ══");
         if (plugin.getMarketEventService().getActiveEvents().isEmpty()) {
             sender.sendMessage("§7  Нет активных событий");
@@ -180,10 +217,56 @@ public class ShopAdminCommand {
         handleTreasury(sender, new String[]{"treasury"});
     }
 
+    // ── journal ───────────────────────────────────────────────────────────────
+    private void handleJournal(@NotNull CommandSender sender, @NotNull String[] args) {
+        TransactionJournal journal = plugin.getTransactionJournal();
+        if (args.length >= 2 && args[1].equalsIgnoreCase("export")) {
+            Path out = plugin.getDataFolder().toPath().resolve("journal-export-" + System.currentTimeMillis() + ".csv");
+            sender.sendMessage("§7Экспорт журнала в §e" + out.getFileName() + "§7...");
+            plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+                String result;
+                try (Writer w = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+                    long rows = JournalReader.exportCsv(JournalReader.files(journal.getDirectory()), w, e -> true);
+                    result = "§aЭкспортировано записей: §e" + rows;
+                } catch (IOException e) {
+                    result = "§cОшибка экспорта: §e" + e.getMessage();
+                }
+                String message = result;
+                plugin.getServer().getScheduler().runTask(plugin, () -> sender.sendMessage(message));
+            });
+            return;
+        }
+        sender.sendMessage("§6§l══ Журнал транзакций ══");
+        sender.sendMessage("§7Статус:    " + (journal.isRunning() ? "§aвключён" : "§cвыключен"));
+        sender.sendMessage("§7Записано:  §e" + journal.getWritten());
+        sender.sendMessage("§7В очереди: §e" + journal.getQueued());
+        sender.sendMessage("§7Потеряно:  §e" + journal.getDropped());
+        sender.sendMessage("§7/shopadmin journal export §7— выгрузить в CSV");
+    }
+
+    // ── backup ────────────────────────────────────────────────────────────────
+    private void handleBackup(@NotNull CommandSender sender) {
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            String result;
+            try {
+                Path file = plugin.getDataManager().backup();
+                result = "§aСнимок рынка сохранён: §e" + plugin.getDataFolder().toPath().relativize(file);
+            } catch (IOException e) {
+                result = "§cОшибка резервного копирования: §e" + e.getMessage();
+            }
+            String message = result;
+            plugin.getServer().getScheduler().runTask(plugin, () -> sender.sendMessage(message));
+        });
+    }
+
+    private static UUID actor(@NotNull CommandSender sender) {
+        return sender instanceof Player p ? p.getUniqueId() : TransactionJournal.CONSOLE;
+    }
+
     // ── help ──────────────────────────────────────────────────────────────────
     private void sendHelp(@NotNull CommandSender sender) {
         sender.sendMessage("§6§l══ /shopadmin ══");
-        sender.sendMessage("§e/shopadmin reload §7— перезагрузить конфиг");
+        sender.sendMessage("§e/shopadmin reload §7— перезагрузить конфиг, предметы и сообщения (цены сохраняются)");
         sender.sendMessage("§e/shopadmin info §7— статистика сервера");
         sender.sendMessage("§e/shopadmin reset <item|all> §7— сброс цен");
         sender.sendMessage("§e/shopadmin setprice <item> <mult> §7— установить мультипликатор");
@@ -191,5 +274,7 @@ public class ShopAdminCommand {
         sender.sendMessage("§e/shopadmin treasury §7— информация о казне");
         sender.sendMessage("§e/shopadmin treasury give <игрок> <сумма> §7— выдать из казны");
         sender.sendMessage("§e/shopadmin treasury giveall <сумма> §7— раздать всем онлайн");
+        sender.sendMessage("§e/shopadmin journal [export] §7— журнал транзакций");
+        sender.sendMessage("§e/shopadmin backup §7— снимок рынка в backups/");
     }
 }
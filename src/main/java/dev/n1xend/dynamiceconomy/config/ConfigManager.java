@@ -2,13 +2,15 @@ package dev.n1xend.dynamiceconomy.config;
 
 import dev.n1xend.dynamiceconomy.DynamicEconomy;
 import org.bukkit.Material;
-import org.bukkit.configuration.file.FileConfiguration;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * Typed accessor for plugin configuration values.
  *
  * <p>All config reads are centralized here to avoid raw string keys
- * scattered throughout the codebase.</p>
+ * scattered throughout the codebase. Values are compiled into an immutable
+ * {@link EconomyConfig} on load and on {@link #reload()}; getters only read
+ * fields of the current snapshot.</p>
  *
  * @author n1xend
  * @version 1.0.0
@@ -17,9 +19,37 @@ import org.bukkit.configuration.file.FileConfiguration;
 public class ConfigManager {
 
     private final DynamicEconomy plugin;
+    private volatile EconomyConfig snapshot;
 
     public ConfigManager(DynamicEconomy plugin) {
         this.plugin = plugin;
+        this.snapshot = EconomyConfig.from(plugin.getConfig());
+    }
+
+    /**
+     * Creates a manager over a fixed snapshot without a running plugin,
+     * for benchmarks and offline tools. {@link #reload()} does nothing.
+     *
+     * @param snapshot compiled config to serve
+     */
+    public ConfigManager(@NotNull EconomyConfig snapshot) {
+        this.plugin = null;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Recompiles the snapshot from the plugin's current config.yml.
+     * Call after {@code plugin.reloadConfig()}; readers switch to the new values atomically.
+     */
+    public void reload() {
+        if (plugin == null) return;
+        snapshot = EconomyConfig.from(plugin.getConfig());
+    }
+
+    /** Returns the current compiled config; hold on to it for several reads that must agree. */
+    @NotNull
+    public EconomyConfig snapshot() {
+        return snapshot;
     }
 
     // -------------------------------------------------------------------------
@@ -27,31 +57,31 @@ public class ConfigManager {
     // -------------------------------------------------------------------------
 
     public double getMinPriceMultiplier() {
-        return getConfig().getDouble("economy.min-price-multiplier", 0.2);
+        return snapshot.minPriceMultiplier();
     }
 
     public double getMaxPriceMultiplier() {
-        return getConfig().getDouble("economy.max-price-multiplier", 1.0);
+        return snapshot.maxPriceMultiplier();
     }
 
     public double getPriceDropPerStack() {
-        return getConfig().getDouble("economy.price-drop-per-stack", 0.02);
+        return snapshot.priceDropPerStack();
     }
 
     public double getPriceRecoveryPerHour() {
-        return getConfig().getDouble("economy.price-recovery-per-hour", 0.05);
+        return snapshot.priceRecoveryPerHour();
     }
 
     public double getSellTax() {
-        return getConfig().getDouble("economy.sell-tax", 0.05);
+        return snapshot.sellTax();
     }
 
     public int getSellCooldownSeconds() {
-        return getConfig().getInt("economy.sell-cooldown-seconds", 3);
+        return snapshot.sellCooldownSeconds();
     }
 
     public int getMaxSellAmount() {
-        return getConfig().getInt("economy.max-sell-amount", 2304);
+        return snapshot.maxSellAmount();
     }
 
     // -------------------------------------------------------------------------
@@ -59,15 +89,15 @@ public class ConfigManager {
     // -------------------------------------------------------------------------
 
     public boolean isSeasonalDemandEnabled() {
-        return getConfig().getBoolean("seasonal-demand.enabled", true);
+        return snapshot.seasonalDemandEnabled();
     }
 
     public long getSeasonalChangeIntervalMinutes() {
-        return getConfig().getLong("seasonal-demand.change-interval-minutes", 1440);
+        return snapshot.seasonalChangeIntervalMinutes();
     }
 
     public double getHotMultiplier() {
-        return getConfig().getDouble("seasonal-demand.hot-multiplier", 1.5);
+        return snapshot.hotMultiplier();
     }
 
     // -------------------------------------------------------------------------
@@ -75,31 +105,31 @@ public class ConfigManager {
     // -------------------------------------------------------------------------
 
     public boolean isContractsEnabled() {
-        return getConfig().getBoolean("contracts.enabled", true);
+        return snapshot.contractsEnabled();
     }
 
     public int getContractsMaxActive() {
-        return getConfig().getInt("contracts.max-active", 3);
+        return snapshot.contractsMaxActive();
     }
 
     public long getContractSpawnIntervalMinutes() {
-        return getConfig().getLong("contracts.spawn-interval-minutes", 60);
+        return snapshot.contractSpawnIntervalMinutes();
     }
 
     public double getContractBonusMultiplier() {
-        return getConfig().getDouble("contracts.bonus-multiplier", 0.4);
+        return snapshot.contractBonusMultiplier();
     }
 
     public long getContractDurationMinutes() {
-        return getConfig().getLong("contracts.duration-minutes", 180);
+        return snapshot.contractDurationMinutes();
     }
 
     public int getContractAmountMin() {
-        return getConfig().getInt("contracts.amount-min", 200);
+        return snapshot.contractAmountMin();
     }
 
     public int getContractAmountMax() {
-        return getConfig().getInt("contracts.amount-max", 800);
+        return snapshot.contractAmountMax();
     }
 
     // -------------------------------------------------------------------------
@@ -107,19 +137,19 @@ public class ConfigManager {
     // -------------------------------------------------------------------------
 
     public boolean isDiversityBonusEnabled() {
-        return getConfig().getBoolean("diversity-bonus.enabled", true);
+        return snapshot.diversityBonusEnabled();
     }
 
     public int getDiversityMinCategories() {
-        return getConfig().getInt("diversity-bonus.min-categories", 3);
+        return snapshot.diversityMinCategories();
     }
 
     public long getDiversityWindowMinutes() {
-        return getConfig().getLong("diversity-bonus.window-minutes", 30);
+        return snapshot.diversityWindowMinutes();
     }
 
     public double getDiversityBonusMultiplier() {
-        return getConfig().getDouble("diversity-bonus.bonus-multiplier", 0.1);
+        return snapshot.diversityBonusMultiplier();
     }
 
     // -------------------------------------------------------------------------
@@ -127,15 +157,11 @@ public class ConfigManager {
     // -------------------------------------------------------------------------
 
     public Material getGuiFiller() {
-        String name = getConfig().getString("gui.filler-material", "BLACK_STAINED_GLASS_PANE");
-        Material mat = Material.matchMaterial(name);
-        return mat != null ? mat : Material.BLACK_STAINED_GLASS_PANE;
+        return snapshot.guiFiller();
     }
 
     public Material getGuiEmpty() {
-        String name = getConfig().getString("gui.empty-material", "GRAY_STAINED_GLASS_PANE");
-        Material mat = Material.matchMaterial(name);
-        return mat != null ? mat : Material.GRAY_STAINED_GLASS_PANE;
+        return snapshot.guiEmpty();
     }
 
     // -------------------------------------------------------------------------
@@ -143,85 +169,129 @@ public class ConfigManager {
     // -------------------------------------------------------------------------
 
     public int getAutoSaveIntervalMinutes() {
-        return getConfig().getInt("data.auto-save-interval-minutes", 5);
+        return snapshot.autoSaveIntervalMinutes();
+    }
+
+    public boolean isWriteAheadLogEnabled() {
+        return snapshot.writeAheadLogEnabled();
+    }
+
+    public boolean isPrettyJson() {
+        return snapshot.prettyJson();
+    }
+
+    /** File backend when the database is off: {@code json} or {@code binary}. */
+    public String getStorageFormat() {
+        return snapshot.storageFormat();
+    }
+
+    /** Time allowed for all final saves together when the server stops. */
+    public int getShutdownTimeoutSeconds() {
+        return snapshot.shutdownTimeoutSeconds();
     }
 
     public boolean isLogSales() {
-        return getConfig().getBoolean("logging.log-sales", false);
+        return snapshot.logSales();
     }
 
     public String getLanguage() {
-        return getConfig().getString("language", "ru");
+        return snapshot.language();
     }
 
-    // -------------------------------------------------------------------------
-    // Private
-    // -------------------------------------------------------------------------
+    // ── Live reload ───────────────────────────────────────────────────────────
+
+    /** Whether edits to config.yml, items.yml and messages are applied without a command. */
+    public boolean isReloadWatchEnabled() {
+        return snapshot.reloadWatch();
+    }
 
-    private FileConfiguration getConfig() {
-        return plugin.getConfig();
+    public int getReloadWatchIntervalSeconds() {
+        return snapshot.reloadWatchIntervalSeconds();
     }
 
     // ── Buy mode (1.2.0) ──────────────────────────────────────────────────────
 
     public boolean isBuyModeEnabled() {
-        return getConfig().getBoolean("buy-mode.enabled", true);
+        return snapshot.buyModeEnabled();
     }
 
     public double getBuySpreadMultiplier() {
-        return getConfig().getDouble("buy-mode.spread-multiplier", 1.3);
+        return snapshot.buySpreadMultiplier();
     }
 
     public double getBuyTreasuryCut() {
-        return getConfig().getDouble("buy-mode.treasury-cut", 0.10);
+        return snapshot.buyTreasuryCut();
     }
 
     // ── Market events (1.2.0) ─────────────────────────────────────────────────
 
     public boolean isMarketEventsEnabled() {
-        return getConfig().getBoolean("market-events.enabled", true);
+        return snapshot.marketEventsEnabled();
     }
 
     public int getEventMinIntervalMinutes() {
-        return getConfig().getInt("market-events.min-interval-minutes", 20);
+        return snapshot.eventMinIntervalMinutes();
     }
 
     public int getEventMaxIntervalMinutes() {
-        return getConfig().getInt("market-events.max-interval-minutes", 60);
+        return snapshot.eventMaxIntervalMinutes();
     }
 
     public int getEventDurationMinutes() {
-        return getConfig().getInt("market-events.duration-minutes", 30);
+        return snapshot.eventDurationMinutes();
     }
 
     // ── Licenses (1.2.0) ──────────────────────────────────────────────────────
 
     public boolean isLicensesEnabled() {
-        return getConfig().getBoolean("licenses.enabled", true);
+        return snapshot.licensesEnabled();
     }
 
     public long getMerchantThreshold() {
-        return getConfig().getLong("licenses.merchant-threshold", 10_000L);
+        return snapshot.merchantThreshold();
     }
 
     public long getTycoonThreshold() {
-        return getConfig().getLong("licenses.tycoon-threshold", 50_000L);
+        return snapshot.tycoonThreshold();
     }
 
     // ── History (1.2.0) ───────────────────────────────────────────────────────
 
     public int getHistorySnapshotIntervalMinutes() {
-        return getConfig().getInt("history.snapshot-interval-minutes", 15);
+        return snapshot.historySnapshotIntervalMinutes();
     }
 
     // ── Logging extras (1.2.0) ────────────────────────────────────────────────
 
     public boolean isLogBuys() {
-        return getConfig().getBoolean("logging.log-buys", false);
+        return snapshot.logBuys();
     }
 
     public boolean isLogEvents() {
-        return getConfig().getBoolean("logging.log-events", true);
+        return snapshot.logEvents();
+    }
+
+    // ── Deposits (1.2.2) ──────────────────────────────────────────────────────
+
+    public int getDepositFlushIntervalTicks() {
+        return snapshot.depositFlushIntervalTicks();
+    }
+
+    public int getDepositMaxAttempts() {
+        return snapshot.depositMaxAttempts();
+    }
+
+    // ── Transaction journal (1.2.2) ───────────────────────────────────────────
+
+    public boolean isJournalEnabled() {
+        return snapshot.journalEnabled();
     }
 
+    public int getJournalMaxFileMb() {
+        return snapshot.journalMaxFileMb();
+    }
+
+    public int getJournalKeepFiles() {
+        return snapshot.journalKeepFiles();
+    }
 }
@@ -0,0 +1,169 @@
+package dev.n1xend.dynamiceconomy.config;
+
+import org.bukkit.Material;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+
+/**
+ * Immutable snapshot of config.yml, compiled once per load.
+ *
+ * <p>Sell and GUI hot paths read these final fields instead of walking the
+ * YAML section tree. {@link ConfigManager} swaps the whole snapshot on reload,
+ * so a reader never sees a half-applied configuration.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public record EconomyConfig(
+    // Economy
+    double minPriceMultiplier,
+    double maxPriceMultiplier,
+    double priceDropPerStack,
+    double priceRecoveryPerHour,
+    double sellTax,
+    int sellCooldownSeconds,
+    int maxSellAmount,
+    // Seasonal demand
+    boolean seasonalDemandEnabled,
+    long seasonalChangeIntervalMinutes,
+    double hotMultiplier,
+    // Contracts
+    boolean contractsEnabled,
+    int contractsMaxActive,
+    long contractSpawnIntervalMinutes,
+    double contractBonusMultiplier,
+    long contractDurationMinutes,
+    int contractAmountMin,
+    int contractAmountMax,
+    // Diversity bonus
+    boolean diversityBonusEnabled,
+    int diversityMinCategories,
+    long diversityWindowMinutes,
+    double diversityBonusMultiplier,
+    // GUI
+    @NotNull Material guiFiller,
+    @NotNull Material guiEmpty,
+    // Data / logging
+    int autoSaveIntervalMinutes,
+    boolean logSales,
+    boolean logBuys,
+    boolean logEvents,
+    @NotNull String language,
+    // Buy mode
+    boolean buyModeEnabled,
+    double buySpreadMultiplier,
+    double buyTreasuryCut,
+    // Market events
+    boolean marketEventsEnabled,
+    int eventMinIntervalMinutes,
+    int eventMaxIntervalMinutes,
+    int eventDurationMinutes,
+    // Licenses
+    boolean licensesEnabled,
+    long merchantThreshold,
+    long tycoonThreshold,
+    // History
+    int historySnapshotIntervalMinutes,
+    // Deposits
+    int depositFlushIntervalTicks,
+    int depositMaxAttempts,
+    // Transaction journal
+    boolean journalEnabled,
+    int journalMaxFileMb,
+    int journalKeepFiles,
+    // Write-ahead log
+    boolean writeAheadLogEnabled,
+    boolean prettyJson,
+    String storageFormat,
+    int shutdownTimeoutSeconds,
+
+    // Live reload
+    boolean reloadWatch,
+    int reloadWatchIntervalSeconds
+) {
+
+    /**
+     * Reads every value from {@code cfg}, falling back to the shipped defaults.
+     *
+     * @param cfg loaded config.yml
+     * @return compiled snapshot
+     */
+    @NotNull
+    public static EconomyConfig from(@NotNull FileConfiguration cfg) {
+        return new EconomyConfig(
+            cfg.getDouble("economy.min-price-multiplier", 0.2),
+            cfg.getDouble("economy.max-price-multiplier", 1.0),
+            cfg.getDouble("economy.price-drop-per-stack", 0.02),
+            cfg.getDouble("economy.price-recovery-per-hour", 0.05),
+            cfg.getDouble("economy.sell-tax", 0.05),
+            cfg.getInt("economy.sell-cooldown-seconds", 3),
+            cfg.getInt("economy.max-sell-amount", 2304),
+
+            cfg.getBoolean("seasonal-demand.enabled", true),
+            cfg.getLong("seasonal-demand.change-interval-minutes", 1440),
+            cfg.getDouble("seasonal-demand.hot-multiplier", 1.5),
+
+            cfg.getBoolean("contracts.enabled", true),
+            cfg.getInt("contracts.max-active", 3),
+            cfg.getLong("contracts.spawn-interval-minutes", 60),
+            cfg.getDouble("contracts.bonus-multiplier", 0.4),
+            cfg.getLong("contracts.duration-minutes", 180),
+            cfg.getInt("contracts.amount-min", 200),
+            cfg.getInt("contracts.amount-max", 800),
+
+            cfg.getBoolean("diversity-bonus.enabled", true),
+            cfg.getInt("diversity-bonus.min-categories", 3),
+            cfg.getLong("diversity-bonus.window-minutes", 30),
+            cfg.getDouble("diversity-bonus.bonus-multiplier", 0.1),
+
+            material(cfg.getString("gui.filler-material", "BLACK_STAINED_GLASS_PANE"),
+                Material.BLACK_STAINED_GLASS_PANE),
+            material(cfg.getString("gui.empty-material", "GRAY_STAINED_GLASS_PANE"),
+                Material.GRAY_STAINED_GLASS_PANE),
+
+            cfg.getInt("data.auto-save-interval-minutes", 5),
+            cfg.getBoolean("logging.log-sales", false),
+            cfg.getBoolean("logging.log-buys", false),
+            cfg.getBoolean("logging.log-events", true),
+            cfg.getString("language", "ru"),
+
+            cfg.getBoolean("buy-mode.enabled", true),
+            cfg.getDouble("buy-mode.spread-multiplier", 1.3),
+            cfg.getDouble("buy-mode.treasury-cut", 0.10),
+
+            cfg.getBoolean("market-events.enabled", true),
+            cfg.getInt("market-events.min-interval-minutes", 20),
+            cfg.getInt("market-events.max-interval-minutes", 60),
+            cfg.getInt("market-events.duration-minutes", 30),
+
+            cfg.getBoolean("licenses.enabled", true),
+            cfg.getLong("licenses.merchant-threshold", 10_000L),
+            cfg.getLong("licenses.tycoon-threshold", 50_000L),
+
+            cfg.getInt("history.snapshot-interval-minutes", 15),
+
+            Math.max(1, cfg.getInt("deposits.flush-interval-ticks", 10)),
+            Math.max(1, cfg.getInt("deposits.max-attempts", 5)),
+
+            cfg.getBoolean("journal.enabled", true),
+            Math.max(1, cfg.getInt("journal.max-file-mb", 64)),
+            Math.max(0, cfg.getInt("journal.keep-files", 30)),
+
+            cfg.getBoolean("data.write-ahead-log", true),
+            cfg.getBoolean("data.pretty-json", false),
+            cfg.getString("data.format", "json").toLowerCase(Locale.ROOT),
+            Math.max(1, cfg.getInt("data.shutdown-timeout-seconds", 20)),
+
+            cfg.getBoolean("reload.watch", true),
+            Math.max(1, cfg.getInt("reload.watch-interval-seconds", 5))
+        );
+    }
+
+    private static Material material(String name, Material fallback) {
+        Material mat = name != null ? Material.matchMaterial(name) : null;
+        return mat != null ? mat : fallback;
+    }
+}
@@ -33,7 +33,7 @@ public class MessageManager {
     public MessageManager(DynamicEconomy plugin) {
         this.plugin = plugin;
         saveDefaultMessages();
-        loadMessages();
+        loadMessages(messages);
     }
 
     // -------------------------------------------------------------------------
@@ -90,11 +90,16 @@ public class MessageManager {
     }
 
     /**
-     * Reloads messages from disk after config change.
+     * Reloads messages from disk after config change. The file is parsed
+     * before the current messages are replaced; if it cannot be loaded they
+     * are kept.
      */
     public void reload() {
+        Map<String, String> fresh = new HashMap<>();
+        loadMessages(fresh);
+        if (fresh.isEmpty()) return;
         messages.clear();
-        loadMessages();
+        messages.putAll(fresh);
     }
 
     // -------------------------------------------------------------------------
@@ -112,7 +117,7 @@ public class MessageManager {
         }
     }
 
-    private void loadMessages() {
+    private void loadMessages(@NotNull Map<String, String> target) {
         String lang = plugin.getConfigManager().getLanguage();
         String fileName = "messages_" + lang + ".yml";
         File file = new File(plugin.getDataFolder(), MESSAGES_DIR + "/" + fileName);
@@ -135,8 +140,8 @@ public class MessageManager {
             config = YamlConfiguration.loadConfiguration(new InputStreamReader(stream, StandardCharsets.UTF_8));
         }
 
-        flattenKeys(config, "", messages);
-        plugin.getLogger().info("Loaded " + messages.size() + " messages (" + lang + ").");
+        flattenKeys(config, "", target);
+        plugin.getLogger().info("Loaded " + target.size() + " messages (" + lang + ").");
     }
 
     private void flattenKeys(FileConfiguration config, String prefix, Map<String, String> target) {
@@ -1,127 +1,488 @@
 package dev.n1xend.dynamiceconomy.data;
 
-import com.google.gson.*;
 import dev.n1xend.dynamiceconomy.DynamicEconomy;
 import dev.n1xend.dynamiceconomy.data.models.MarketItem;
-import dev.n1xend.dynamiceconomy.database.DatabaseManager;
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.data.store.*;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.io.*;
-import java.nio.file.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 /**
  * Persists market item state between server restarts.
  *
- * <p>Uses {@link DatabaseManager} (MySQL or SQLite) when
- * {@code database.enabled: true} in config, otherwise falls back to
- * {@code market_data.json}.</p>
+ * <p>Rows go to one {@link MarketStore}: SQLite or MySQL when
+ * {@code database.enabled: true} in config, otherwise {@code market_data.json},
+ * or the binary {@link MarketSnapshot} {@code market_data.bin} with
+ * {@code data.format: binary}. A database that cannot be reached falls back
+ * to the file store.</p>
+ *
+ * <p>Each full {@link #save} is a checkpoint. Between checkpoints every row
+ * change goes to the {@link MarketWal}, and {@link #load} replays it on top
+ * of the last checkpoint, so a crash loses no price movement.</p>
+ *
+ * <p>Saves are incremental: only rows the {@link MarketTable} marked dirty
+ * since the previous save are handed to {@link MarketStore#saveDirty}. A save
+ * with nothing dirty writes nothing.</p>
+ *
+ * <p>A save is split in two. {@link #requestSave} captures a
+ * {@link MarketTable.Snapshot} — a copy of the primitive row state — under a
+ * lock; the single {@code DynamicEconomy-Save} thread takes it through the
+ * same lock, which orders the copy before every read of it, and serializes
+ * it. Nothing the writer reads is shared with the live table. A capture made
+ * while the previous one is still queued replaces it, so a slow store never
+ * builds a backlog.</p>
+ *
+ * <p>Every store write is timed; {@link #getSaveStats} reports the latency
+ * and a write slower than {@value #SLOW_SAVE_MILLIS} ms is logged.</p>
+ *
+ * <p>If the final save on shutdown cannot finish in time, {@link #rescue}
+ * keeps the state without the store, and the next {@link #load} picks it
+ * up.</p>
  *
  * @author n1xend
  * @version 1.2.1
  */
 public final class DataManager {
 
-    private static final String JSON_FILE = "market_data.json";
+    private static final String JSON_FILE     = "market_data.json";
+    private static final String SNAPSHOT_FILE = "market_data.bin";
+    private static final String SQLITE_FILE   = "database.db";
+    private static final String WAL_DIR       = "wal";
+    private static final String BACKUP_DIR    = "backups";
+    private static final String RESCUE_FILE   = "market_data.rescue.bin";
+
+    private static final long JOIN_MILLIS      = 10_000L;
+    private static final long SLOW_SAVE_MILLIS = 1_000L;
 
-    private final DynamicEconomy   plugin;
-    private final Logger           logger;
-    private final Path             jsonFile;
-    private final Gson             gson;
-    private final DatabaseManager  db;
-    private final boolean          useDb;
+    /**
+     * Latency of store writes since startup. Saves with nothing dirty are
+     * not counted.
+     *
+     * @param saves       successful writes
+     * @param failures    failed writes
+     * @param lastRows    rows in the last write
+     * @param lastMillis  duration of the last write
+     * @param maxMillis   slowest write
+     * @param totalMillis sum over all writes
+     */
+    public record SaveStats(long saves, long failures, int lastRows,
+                            double lastMillis, double maxMillis, double totalMillis) {
+
+        static final SaveStats EMPTY = new SaveStats(0, 0, 0, 0, 0, 0);
+
+        public double avgMillis() {
+            long n = saves + failures;
+            return n == 0 ? 0 : totalMillis / n;
+        }
+
+        @NotNull
+        SaveStats plus(int rows, double millis, boolean ok) {
+            return new SaveStats(saves + (ok ? 1 : 0), failures + (ok ? 0 : 1), rows,
+                millis, Math.max(maxMillis, millis), totalMillis + millis);
+        }
+    }
+
+    /**
+     * A captured save: the state of every row, the rows changed since the
+     * previous capture, and the last write-ahead log segment it covers.
+     */
+    private record SaveJob(long seq, @NotNull MarketTable.Snapshot snapshot, @NotNull int[] rows, long sealed) {}
+
+    private final DynamicEconomy plugin;
+    private final Logger         logger;
+    private final MarketStore    store;
+    private final MarketWal      wal;
+
+    // Save pipeline: captures wait in pending for the save thread
+    private final Object saveLock = new Object();
+    private SaveJob pending;
+    private long    captured;
+    private long    written;
+    private boolean running;
+    private Thread  writer;
+
+    private volatile SaveStats saveStats = SaveStats.EMPTY;
+    private volatile boolean   lastWriteFailed;
+
+    // A rescue snapshot was loaded; deleted after the next full write
+    private boolean rescueLoaded;
 
     public DataManager(@NotNull DynamicEconomy plugin) {
-        this.plugin   = Objects.requireNonNull(plugin);
-        this.logger   = plugin.getLogger();
-        this.jsonFile = plugin.getDataFolder().toPath().resolve(JSON_FILE);
-        this.gson     = new GsonBuilder().setPrettyPrinting().create();
+        this.plugin = Objects.requireNonNull(plugin);
+        this.logger = plugin.getLogger();
+        this.store  = openStore();
+        this.wal    = plugin.getConfigManager().isWriteAheadLogEnabled()
+            ? new MarketWal(plugin.getDataFolder().toPath().resolve(WAL_DIR), logger)
+            : null;
+    }
 
-        boolean dbEnabled = plugin.getConfig().getBoolean("database.enabled", false);
-        if (dbEnabled) {
-            this.db    = new DatabaseManager(plugin);
-            this.useDb = db.connect();
-            if (!useDb) logger.warning("[DB] Connection failed — using JSON fallback.");
-        } else {
-            this.db    = null;
-            this.useDb = false;
+    @NotNull
+    private MarketStore openStore() {
+        Path folder = plugin.getDataFolder().toPath();
+        FileConfiguration cfg = plugin.getConfig();
+        if (cfg.getBoolean("database.enabled", false)) {
+            JdbcMarketStore db = "mysql".equalsIgnoreCase(cfg.getString("database.type", "sqlite"))
+                ? new MySqlMarketStore(
+                    cfg.getString("database.host", "localhost"),
+                    cfg.getInt("database.port", 3306),
+                    cfg.getString("database.name", "dynamiceconomy"),
+                    cfg.getString("database.username", "root"),
+                    cfg.getString("database.password", ""),
+                    jdbcProperties(cfg.getConfigurationSection("database.properties")))
+                : new SqliteMarketStore(folder.resolve(cfg.getString("database.file", SQLITE_FILE)));
+            db.legacyTable(cfg.getString("database.legacy-table", ""), new JdbcMarketStore.LegacyColumns(
+                cfg.getString("database.legacy-columns.id", "id"),
+                cfg.getString("database.legacy-columns.multiplier", "multiplier"),
+                cfg.getString("database.legacy-columns.total-sold", ""),
+                cfg.getString("database.legacy-columns.last-sell", "")));
+            try {
+                JdbcMarketStore.LegacyImport imported = db.open();
+                if (imported != null && imported.skipped() != null) {
+                    logger.warning("[DB] Legacy table " + imported.table() + " skipped: "
+                        + imported.skipped() + ".");
+                } else if (imported != null) {
+                    logger.info("[DB] Imported " + imported.rows() + " item states from legacy table "
+                        + imported.table() + " into " + db.name() + ".");
+                }
+                return db;
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "[DB] Connection failed — using file fallback.", e);
+            }
         }
+        MarketStore json = new JsonMarketStore(folder.resolve(JSON_FILE), plugin.getConfigManager().isPrettyJson());
+        return "binary".equals(plugin.getConfigManager().getStorageFormat())
+            ? new BinaryMarketStore(folder.resolve(SNAPSHOT_FILE), json)
+            : json;
+    }
+
+    @NotNull
+    private static Map<String, String> jdbcProperties(@Nullable ConfigurationSection section) {
+        if (section == null) return Map.of();
+        Map<String, String> properties = new HashMap<>();
+        for (String key : section.getKeys(false)) {
+            properties.put(key, String.valueOf(section.get(key)));
+        }
+        return properties;
     }
 
     // ── Load ──────────────────────────────────────────────────────────────────
 
-    public void load() {
-        if (useDb) {
-            int n = db.loadAll(plugin.getEconomyService().getItemIndex());
-            logger.info("[DB] Loaded " + n + " item states from database.");
-        } else {
-            loadJson();
+    /**
+     * Loads the last checkpoint, applies a rescue snapshot left by a shutdown
+     * that missed its deadline, replays the write-ahead log on top and starts
+     * logging row changes. If the checkpoint does not cover every item, or a
+     * rescue snapshot was applied, all rows are left dirty so the next save
+     * writes a full one.
+     */
+    public synchronized void load() {
+        MarketTable table = plugin.getEconomyService().getTable();
+        table.setRowListener(null);
+        long start = System.nanoTime();
+        int loaded = 0;
+        try {
+            loaded = store.load(table, this::ordinalOf);
+            logger.info("[Store] Loaded " + loaded + " item states from " + store.name() + " in "
+                + (System.nanoTime() - start) / 1_000 + " µs.");
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "[Store] Failed to load " + store.name() + " — starting with default prices", e);
+        }
+        table.drainDirty();
+        if (loaded < table.size()) table.markAllDirty();
+
+        Path rescue = plugin.getDataFolder().toPath().resolve(RESCUE_FILE);
+        if (Files.exists(rescue)) {
+            try {
+                int applied = MarketSnapshot.read(rescue, table, this::ordinalOf);
+                logger.warning("[Store] Applied " + applied + " item states from " + RESCUE_FILE
+                    + " left by an interrupted shutdown.");
+                table.markAllDirty();
+                rescueLoaded = true;
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "[Store] Failed to read " + RESCUE_FILE + " — ignoring it", e);
+            }
+        }
+        if (wal == null) return;
+
+        try {
+            int replayed = wal.replay(table, this::ordinalOf);
+            if (replayed > 0) logger.info("[WAL] Replayed " + replayed + " changes since the last save.");
+            wal.open();
+            table.setRowListener(wal);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "[WAL] Write-ahead log unavailable — changes since the last save are lost on a crash", e);
         }
     }
 
     // ── Save ──────────────────────────────────────────────────────────────────
 
-    public synchronized void save() {
-        if (useDb) {
-            db.saveAll(plugin.getEconomyService().getItemIndex().values());
-        } else {
-            saveJson();
+    /**
+     * Captures the current state and hands it to the save thread without
+     * waiting. If the previous capture is still waiting to be written, the
+     * two are merged into one write of the newer state.
+     *
+     * <p>Capturing rolls the write-ahead log, drains the dirty rows and copies
+     * every row — microseconds for the shipped catalog. Call it on the main
+     * thread so the copy sees every sale made before it.</p>
+     *
+     * @return sequence number of the capture
+     */
+    public long requestSave() {
+        synchronized (saveLock) {
+            SaveJob job = capture();
+            pending = pending == null ? job : merge(pending, job);
+            saveLock.notifyAll();
+            return job.seq();
         }
     }
 
-    // ── Shutdown ──────────────────────────────────────────────────────────────
+    /**
+     * Captures the current state and blocks until it is written. Without a
+     * running save thread the write happens on the calling thread.
+     */
+    public void save() {
+        long seq = requestSave();
+        synchronized (saveLock) {
+            while (written < seq) {
+                if (writer == null) {
+                    SaveJob job = pending;
+                    if (job == null) return;
+                    pending = null;
+                    write(job);
+                    written = job.seq();
+                    continue;
+                }
+                try {
+                    saveLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
 
-    public void shutdown() {
-        save();
-        if (db != null) db.disconnect();
+    /**
+     * Starts the save thread. Before this and after {@link #shutdown},
+     * {@link #save} writes on the calling thread.
+     */
+    public void start() {
+        synchronized (saveLock) {
+            if (writer != null) return;
+            running = true;
+            writer = new Thread(this::drain, "DynamicEconomy-Save");
+            writer.setDaemon(true);
+            writer.start();
+        }
     }
 
-    // ── JSON fallback ─────────────────────────────────────────────────────────
+    // ── Save thread ───────────────────────────────────────────────────────────
 
-    private void loadJson() {
-        if (!Files.exists(jsonFile)) {
-            logger.info("No market_data.json found — starting with default prices.");
-            return;
-        }
-        try (Reader r = Files.newBufferedReader(jsonFile)) {
-            JsonObject root = gson.fromJson(r, JsonObject.class);
-            if (root == null) return;
-            int loaded = 0;
-            for (var entry : root.entrySet()) {
-                MarketItem item = plugin.getEconomyService().getItem(entry.getKey());
-                if (item == null) continue;
-                JsonObject d = entry.getValue().getAsJsonObject();
-                if (d.has("multiplier")) item.setCurrentMultiplier(d.get("multiplier").getAsDouble());
-                if (d.has("lastSell"))   item.setLastSellTimestamp(d.get("lastSell").getAsLong());
-                if (d.has("totalSold"))  item.setTotalSold(d.get("totalSold").getAsLong());
-                loaded++;
+    // Called with saveLock held, so captures are numbered in the order they were taken
+    @NotNull
+    private SaveJob capture() {
+        long sealed = -1;
+        if (wal != null && wal.isOpen()) {
+            try {
+                sealed = wal.roll();
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "[WAL] Failed to roll write-ahead log", e);
             }
-            logger.info("Loaded " + loaded + " item states from market_data.json.");
-        } catch (IOException | JsonParseException e) {
-            logger.log(Level.SEVERE, "Failed to load market_data.json", e);
         }
+        MarketTable table = plugin.getEconomyService().getTable();
+        // Drain before copying: a write after the drain marks its row for the next save
+        int[] rows = table.drainDirty();
+        return new SaveJob(++captured, table.snapshot(), rows, sealed);
+    }
+
+    @NotNull
+    private static SaveJob merge(@NotNull SaveJob older, @NotNull SaveJob newer) {
+        // The newer snapshot holds current values for every row; only the row sets need joining
+        int[] rows = IntStream.concat(Arrays.stream(older.rows()), Arrays.stream(newer.rows()))
+            .distinct()
+            .toArray();
+        return new SaveJob(newer.seq(), newer.snapshot(), rows, Math.max(older.sealed(), newer.sealed()));
     }
 
-    private void saveJson() {
+    private void drain() {
         try {
-            Files.createDirectories(jsonFile.getParent());
-            JsonObject root = new JsonObject();
-            for (var cat : plugin.getEconomyService().getCategories().values()) {
-                for (MarketItem item : cat.getItems()) {
-                    JsonObject d = new JsonObject();
-                    d.addProperty("multiplier", item.getCurrentMultiplier());
-                    d.addProperty("lastSell",   item.getLastSellTimestamp());
-                    d.addProperty("totalSold",  item.getTotalSold());
-                    root.add(item.getId(), d);
+            while (true) {
+                SaveJob job;
+                synchronized (saveLock) {
+                    while (pending == null && running) saveLock.wait();
+                    if (pending == null) return;
+                    job = pending;
+                    pending = null;
+                }
+                write(job);
+                synchronized (saveLock) {
+                    written = job.seq();
+                    saveLock.notifyAll();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            synchronized (saveLock) {
+                writer = null;
+                saveLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Writes the rows of a capture and checkpoints the write-ahead log. The
+     * segments sealed by the capture are dropped only if the write succeeded;
+     * on failure the rows are marked dirty again.
+     */
+    private synchronized void write(@NotNull SaveJob job) {
+        boolean saved = true;
+        if (job.rows().length > 0) {
+            long start = System.nanoTime();
+            try {
+                if (job.rows().length == job.snapshot().size()) {
+                    store.save(job.snapshot());
+                } else {
+                    store.saveDirty(job.snapshot(), job.rows());
                 }
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "[Store] Failed to save " + job.rows().length + " item states to " + store.name(), e);
+                saved = false;
             }
-            try (Writer w = Files.newBufferedWriter(jsonFile)) {
-                gson.toJson(root, w);
+            double millis = (System.nanoTime() - start) / 1_000_000.0;
+            saveStats = saveStats.plus(job.rows().length, millis, saved);
+            lastWriteFailed = !saved;
+            if (saved && millis > SLOW_SAVE_MILLIS) {
+                logger.warning("[Store] Slow save: " + job.rows().length + " item states to " + store.name()
+                    + " took " + String.format("%.1f", millis) + " ms");
+            }
+        }
+
+        if (!saved) {
+            MarketTable table = plugin.getEconomyService().getTable();
+            for (int ordinal : job.rows()) table.markDirty(ordinal);
+            return;
+        }
+        if (job.sealed() >= 0) {
+            try {
+                wal.discardThrough(job.sealed());
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "[WAL] Failed to delete checkpointed segments", e);
+            }
+        }
+        if (rescueLoaded && job.rows().length == job.snapshot().size()) {
+            try {
+                Files.deleteIfExists(plugin.getDataFolder().toPath().resolve(RESCUE_FILE));
+                rescueLoaded = false;
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "[Store] Failed to delete " + RESCUE_FILE, e);
+            }
+        }
+    }
+
+    /** Name of the active store, e.g. {@code "SQLite"}. */
+    @NotNull
+    public String getStoreName() {
+        return store.name();
+    }
+
+    @NotNull
+    public SaveStats getSaveStats() {
+        return saveStats;
+    }
+
+    // ── Backup ────────────────────────────────────────────────────────────────
+
+    /**
+     * Writes a binary snapshot of the current state to {@code backups/},
+     * whatever the configured backend. Copy it over {@code market_data.bin}
+     * with {@code data.format: binary} to restore.
+     *
+     * @return the written file
+     * @throws IOException if the snapshot cannot be written
+     */
+    @NotNull
+    public Path backup() throws IOException {
+        Path file = plugin.getDataFolder().toPath().resolve(BACKUP_DIR)
+            .resolve("market-" + System.currentTimeMillis() + ".bin");
+        MarketSnapshot.write(plugin.getEconomyService().getTable(), file);
+        return file;
+    }
+
+    // ── Shutdown ──────────────────────────────────────────────────────────────
+
+    /**
+     * Writes the final state, stops the save thread and closes the stores.
+     *
+     * @throws IOException if the final write to the store failed; call
+     *                     {@link #rescue} to keep the state
+     */
+    public void shutdown() throws IOException {
+        save();
+        Thread thread;
+        synchronized (saveLock) {
+            running = false;
+            saveLock.notifyAll();
+            thread = writer;
+        }
+        if (thread != null) {
+            try {
+                thread.join(JOIN_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
+        }
+        if (wal != null) {
+            plugin.getEconomyService().getTable().setRowListener(null);
+            wal.close();
+        }
+        try {
+            store.close();
         } catch (IOException e) {
-            logger.log(Level.SEVERE, "Failed to save market_data.json", e);
+            logger.log(Level.WARNING, "[Store] Failed to close " + store.name(), e);
         }
+        if (lastWriteFailed) throw new IOException("Final save to " + store.name() + " failed");
+    }
+
+    /**
+     * Keeps the current state without the store, for a shutdown whose final
+     * save failed or is still blocked in the store. Does not wait for the
+     * save thread.
+     *
+     * <p>With the write-ahead log open, every change since the last checkpoint
+     * is already in its segments; they are closed and replayed on the next
+     * start. Otherwise the live table is written to
+     * {@code market_data.rescue.bin}, which the next {@link #load} applies
+     * over the store.</p>
+     *
+     * @return description of what was kept, for the log
+     * @throws IOException if the rescue snapshot cannot be written
+     */
+    @NotNull
+    public String rescue() throws IOException {
+        if (wal != null && wal.isOpen()) {
+            plugin.getEconomyService().getTable().setRowListener(null);
+            wal.close();
+            return "changes kept in " + WAL_DIR + "/";
+        }
+        MarketSnapshot.write(plugin.getEconomyService().getTable(), plugin.getDataFolder().toPath().resolve(RESCUE_FILE));
+        return "snapshot written to " + RESCUE_FILE;
+    }
+
+    private int ordinalOf(@NotNull String id) {
+        MarketItem item = plugin.getEconomyService().getItem(id);
+        return item != null ? item.getOrdinal() : -1;
     }
 }
@@ -0,0 +1,146 @@
+package dev.n1xend.dynamiceconomy.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Append-only journal of sale payouts that have not yet reached Vault.
+ *
+ * <p>Each payout is written as a {@code C} line before the sale returns and
+ * acknowledged with an {@code A} line once Vault accepted it. Replaying the
+ * file yields every credit without an acknowledgement, so a crash between
+ * the sale and the deposit loses nothing. Delivery is at-least-once: a crash
+ * after Vault accepted a batch but before its {@code A} line was synced
+ * replays that batch.</p>
+ *
+ * <pre>
+ * C &lt;seq&gt; &lt;uuid&gt; &lt;amount&gt;
+ * A &lt;seq&gt;
+ * </pre>
+ *
+ * <p>{@link #append} only hands the line to the OS, which survives a process
+ * crash; {@link #sync} forces it to disk and runs off the main thread.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class DepositLedger {
+
+    /**
+     * One payout owed to a player.
+     *
+     * @param seq    ledger sequence number
+     * @param player recipient
+     * @param amount amount to deposit
+     */
+    public record Credit(long seq, UUID player, double amount) {}
+
+    private final Path   file;
+    private final Logger logger;
+
+    private Writer      writer;
+    private FileChannel channel;
+    private long        unacked;
+
+    public DepositLedger(@NotNull Path file, @NotNull Logger logger) {
+        this.file   = file;
+        this.logger = logger;
+    }
+
+    /**
+     * Replays the journal, rewrites it with only the pending credits and opens it for appending.
+     *
+     * @return credits that were never acknowledged, in ledger order
+     * @throws IOException if the ledger cannot be rewritten or opened
+     */
+    @NotNull
+    public synchronized List<Credit> open() throws IOException {
+        Map<Long, Credit> pending = new LinkedHashMap<>();
+        if (Files.exists(file)) {
+            String content = Files.readString(file, StandardCharsets.UTF_8);
+            // A line without its newline was torn by a crash mid-write and never counted
+            String[] lines = content.substring(0, content.lastIndexOf('\n') + 1).split("\n");
+            int line = 0;
+            for (String raw : lines) {
+                line++;
+                if (raw.isEmpty()) continue;
+                String[] parts = raw.split(" ");
+                try {
+                    switch (parts[0]) {
+                        case "C" -> {
+                            Credit c = new Credit(Long.parseLong(parts[1]),
+                                UUID.fromString(parts[2]), Double.parseDouble(parts[3]));
+                            pending.put(c.seq(), c);
+                        }
+                        case "A" -> pending.remove(Long.parseLong(parts[1]));
+                        default  -> throw new IllegalArgumentException(raw);
+                    }
+                } catch (RuntimeException e) {
+                    logger.warning("[Deposits] Skipping bad ledger line " + line + ": " + raw);
+                }
+            }
+        }
+
+        List<Credit> credits = new ArrayList<>(pending.values());
+        Files.createDirectories(file.getParent());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer w = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            for (Credit c : credits) w.write(creditLine(c));
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        writer  = new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8);
+        unacked = credits.size();
+        return credits;
+    }
+
+    /** Records a payout; the line reaches the OS before this returns. */
+    public synchronized void append(@NotNull Credit credit) throws IOException {
+        writer.write(creditLine(credit));
+        writer.flush();
+        unacked++;
+    }
+
+    /** Marks credits as deposited. */
+    public synchronized void ack(@NotNull long[] seqs) throws IOException {
+        StringBuilder sb = new StringBuilder(seqs.length * 12);
+        for (long seq : seqs) sb.append("A ").append(seq).append('\n');
+        writer.write(sb.toString());
+        writer.flush();
+        unacked -= seqs.length;
+    }
+
+    /** Forces appended lines to disk; truncates the file once nothing is pending. */
+    public synchronized void sync() throws IOException {
+        if (channel == null) return;
+        if (unacked == 0) channel.truncate(0);
+        channel.force(false);
+    }
+
+    /** Syncs and closes the file. Pending credits stay in it for the next {@link #open}. */
+    public synchronized void close() {
+        if (channel == null) return;
+        try {
+            sync();
+            writer.close();
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "[Deposits] Failed to close deposit ledger", e);
+        }
+        channel = null;
+        writer  = null;
+    }
+
+    private static String creditLine(@NotNull Credit c) {
+        return "C " + c.seq() + ' ' + c.player() + ' ' + c.amount() + '\n';
+    }
+}
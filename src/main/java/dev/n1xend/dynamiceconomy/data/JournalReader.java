@@ -0,0 +1,221 @@
+package dev.n1xend.dynamiceconomy.data;
+
+import dev.n1xend.dynamiceconomy.data.TransactionJournal.Entry;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Reads {@link TransactionJournal} files and exports them as CSV.
+ *
+ * <p>Files are memory-mapped and decoded record by record; a torn last record
+ * is ignored. Records longer than this version's are read up to the known
+ * fields, so newer journals stay readable.</p>
+ *
+ * <p>Runs without a server for offline audits:</p>
+ * <pre>
+ * java -cp DynamicEconomy.jar dev.n1xend.dynamiceconomy.data.JournalReader \
+ *     plugins/DynamicEconomy/journal [--player &lt;uuid&gt;] [--item &lt;id&gt;] [--out &lt;file.csv&gt;]
+ * </pre>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class JournalReader {
+
+    static final String CSV_HEADER =
+        "seq,time,type,player,item,amount,money,multiplier_before,multiplier_after";
+
+    private JournalReader() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    // ── Files ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Lists the journal files in a directory, oldest first.
+     *
+     * @param dir journal directory
+     * @return journal files, empty if the directory does not exist
+     * @throws IOException if the directory cannot be listed
+     */
+    @NotNull
+    public static List<Path> files(@NotNull Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) return List.of();
+        try (Stream<Path> s = Files.list(dir)) {
+            return s.filter(p -> {
+                    String name = p.getFileName().toString();
+                    return name.startsWith(TransactionJournal.PREFIX) && name.endsWith(TransactionJournal.SUFFIX);
+                })
+                .sorted()
+                .toList();
+        }
+    }
+
+    /** Returns true if {@code file} starts with a journal header this version can read. */
+    public static boolean isJournal(@NotNull Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(TransactionJournal.HEADER_SIZE);
+            if (ch.read(header, 0) < TransactionJournal.HEADER_SIZE) return false;
+            header.flip();
+            return header.getInt() == TransactionJournal.MAGIC
+                && header.getShort() == TransactionJournal.VERSION;
+        }
+    }
+
+    /**
+     * Returns the sequence number of the last complete record in a file.
+     *
+     * @param file journal file
+     * @return last sequence number, 0 if the file holds no complete record
+     * @throws IOException if the file cannot be read
+     */
+    public static long lastSeq(@NotNull Path file) throws IOException {
+        // Positioned reads rather than a mapping: the writer truncates this file right after
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buf = ByteBuffer.allocate(TransactionJournal.HEADER_SIZE);
+            if (ch.read(buf, 0) < TransactionJournal.HEADER_SIZE) return 0L;
+            int recordSize = buf.getShort(6) & 0xFFFF;
+            if (recordSize == 0) return 0L;
+            long records = (ch.size() - TransactionJournal.HEADER_SIZE) / recordSize;
+            if (records == 0) return 0L;
+            buf.clear().limit(Long.BYTES);
+            ch.read(buf, TransactionJournal.HEADER_SIZE + (records - 1) * recordSize);
+            return buf.getLong(0);
+        }
+    }
+
+    // ── Read ──────────────────────────────────────────────────────────────────
+
+    /**
+     * Decodes every complete record of one file in order.
+     *
+     * @param file   journal file
+     * @param action receives each entry
+     * @throws IOException if the file cannot be read or has no valid header
+     */
+    public static void forEach(@NotNull Path file, @NotNull Consumer<Entry> action) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            if (size < TransactionJournal.HEADER_SIZE) return;
+            MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (map.getInt() != TransactionJournal.MAGIC) {
+                throw new IOException("Not a journal file: " + file);
+            }
+            map.getShort(); // version — newer versions only append fields
+            int recordSize = map.getShort() & 0xFFFF;
+            if (recordSize < TransactionJournal.RECORD_SIZE) {
+                throw new IOException("Unsupported record size " + recordSize + " in " + file);
+            }
+            map.position(TransactionJournal.HEADER_SIZE);
+            while (map.remaining() >= recordSize) {
+                int start = map.position();
+                Entry entry = TransactionJournal.decode(map);
+                map.position(start + recordSize);
+                if (entry != null) action.accept(entry);
+            }
+        }
+    }
+
+    /**
+     * Decodes every complete record of several files in order.
+     *
+     * @param files  journal files, oldest first
+     * @param action receives each entry
+     * @throws IOException if a file cannot be read
+     */
+    public static void forEach(@NotNull List<Path> files, @NotNull Consumer<Entry> action) throws IOException {
+        for (Path file : files) forEach(file, action);
+    }
+
+    // ── Export ────────────────────────────────────────────────────────────────
+
+    /**
+     * Writes matching entries as CSV with a header line.
+     *
+     * @param files  journal files, oldest first
+     * @param out    destination; not closed
+     * @param filter entries to include
+     * @return number of rows written
+     * @throws IOException if reading or writing fails
+     */
+    public static long exportCsv(@NotNull List<Path> files, @NotNull Writer out,
+                                 @NotNull Predicate<Entry> filter) throws IOException {
+        out.write(CSV_HEADER);
+        out.write('\n');
+        long[] rows = {0L};
+        StringBuilder sb = new StringBuilder(128);
+        try {
+            forEach(files, e -> {
+                if (!filter.test(e)) return;
+                sb.setLength(0);
+                sb.append(e.seq()).append(',')
+                  .append(Instant.ofEpochMilli(e.timeMillis())).append(',')
+                  .append(e.type()).append(',')
+                  .append(e.player()).append(',')
+                  .append(e.itemId()).append(',')
+                  .append(e.amount()).append(',')
+                  .append(e.money()).append(',')
+                  .append(e.multiplierBefore()).append(',')
+                  .append(e.multiplierAfter()).append('\n');
+                try {
+                    out.write(sb.toString());
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+        return rows[0];
+    }
+
+    // ── CLI ───────────────────────────────────────────────────────────────────
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: JournalReader <journal dir|file> [--player <uuid>] [--item <id>] [--out <file.csv>]");
+            System.exit(2);
+        }
+        Path source = Path.of(args[0]);
+        Predicate<Entry> filter = e -> true;
+        Path outFile = null;
+        for (int i = 1; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--player" -> {
+                    UUID player = UUID.fromString(value);
+                    filter = filter.and(e -> e.player().equals(player));
+                }
+                case "--item" -> {
+                    String item = value.toUpperCase(Locale.ROOT);
+                    filter = filter.and(e -> e.itemId().equals(item));
+                }
+                case "--out" -> outFile = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        List<Path> files = Files.isDirectory(source) ? files(source) : List.of(source);
+        Writer out = outFile != null
+            ? Files.newBufferedWriter(outFile, StandardCharsets.UTF_8)
+            : new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        try (out) {
+            long rows = exportCsv(files, out, filter);
+            System.err.println("Exported " + rows + " records from " + files.size() + " files.");
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package dev.n1xend.dynamiceconomy.data;
+
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.function.ToIntFunction;
+import java.util.zip.CRC32;
+
+/**
+ * Binary image of the whole {@link MarketTable}: one row per item with its
+ * packed price state, last sell and sold count.
+ *
+ * <pre>
+ * header (40 bytes, big-endian):
+ *   i32 magic "DESN"   u16 version      u16 header size
+ *   u16 row fields     u16 flags        i32 row count
+ *   i64 written at     i64 body length  i32 CRC32 of body
+ *   i32 CRC32 of header bytes 0..35
+ * row:
+ *   u8 id length, id (ASCII), row fields × i64
+ *   (price state, last sell, total sold, ...)
+ * </pre>
+ *
+ * <p>Header size and row field count are stored, so a newer writer can
+ * append header or row fields and this reader skips them. {@code version}
+ * only changes for incompatible layouts, which are rejected.</p>
+ *
+ * <p>Written through a {@link FileChannel} to a temporary file that is
+ * forced and atomically moved into place. Read from a memory mapping; when
+ * the file lists items in the table's own order — the usual case — rows
+ * are matched by comparing bytes in place and no id strings are created.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class MarketSnapshot {
+
+    static final int   MAGIC       = 0x4445534E; // "DESN"
+    static final short VERSION     = 1;
+    static final int   HEADER_SIZE = 40;
+    static final int   ROW_FIELDS  = 3;
+
+    private static final int MAX_ID = 255;
+
+    private MarketSnapshot() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    // ── Write ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Writes every row of {@code table} to {@code file}, replacing it atomically.
+     *
+     * @param table source rows
+     * @param file  destination
+     * @throws IOException if the file cannot be written or an id is longer than 255 bytes
+     */
+    public static void write(@NotNull MarketTable table, @NotNull Path file) throws IOException {
+        write(table.snapshot(), file);
+    }
+
+    /**
+     * Writes every row of a table snapshot to {@code file}, replacing it atomically.
+     *
+     * @param snapshot source rows
+     * @param file     destination
+     * @throws IOException if the file cannot be written or an id is longer than 255 bytes
+     */
+    public static void write(@NotNull MarketTable.Snapshot snapshot, @NotNull Path file) throws IOException {
+        String[] ids = snapshot.ids();
+        int rows = ids.length;
+        long bodyLength = 0;
+        for (String id : ids) {
+            if (id.length() > MAX_ID) throw new IOException("Item id too long for a snapshot: " + id);
+            bodyLength += 1 + id.length() + ROW_FIELDS * Long.BYTES;
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate(Math.toIntExact(HEADER_SIZE + bodyLength));
+        buf.position(HEADER_SIZE);
+        for (int i = 0; i < rows; i++) {
+            String id = ids[i];
+            buf.put((byte) id.length());
+            for (int k = 0; k < id.length(); k++) buf.put((byte) id.charAt(k));
+            buf.putLong(snapshot.priceStates()[i])
+               .putLong(snapshot.lastSell()[i])
+               .putLong(snapshot.totalSold()[i]);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buf.array(), HEADER_SIZE, (int) bodyLength);
+        buf.position(0);
+        buf.putInt(MAGIC)
+           .putShort(VERSION)
+           .putShort((short) HEADER_SIZE)
+           .putShort((short) ROW_FIELDS)
+           .putShort((short) 0)
+           .putInt(rows)
+           .putLong(System.currentTimeMillis())
+           .putLong(bodyLength)
+           .putInt((int) crc.getValue());
+        crc.reset();
+        crc.update(buf.array(), 0, buf.position());
+        buf.putInt((int) crc.getValue());
+        buf.position(0);
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buf.hasRemaining()) ch.write(buf);
+            ch.force(true);
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // ── Read ──────────────────────────────────────────────────────────────────
+
+    /**
+     * Applies every row of a snapshot to {@code table}. The file is fully
+     * validated before the first row is applied.
+     *
+     * @param file      snapshot file
+     * @param table     table to write rows into
+     * @param ordinalOf item id to row ordinal, negative if the item no longer exists
+     * @return number of rows applied
+     * @throws IOException if the file cannot be read, is truncated, fails its
+     *                     checksum or has an unsupported version
+     */
+    public static int read(@NotNull Path file, @NotNull MarketTable table,
+                           @NotNull ToIntFunction<String> ordinalOf) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            if (size < HEADER_SIZE) throw new IOException("Truncated snapshot header: " + file);
+            MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            if (map.getInt(0) != MAGIC) throw new IOException("Not a market snapshot: " + file);
+            int version = map.getShort(4) & 0xFFFF;
+            if (version > VERSION) throw new IOException("Snapshot version " + version + " is newer than supported: " + file);
+            int headerSize = map.getShort(6) & 0xFFFF;
+            int rowFields  = map.getShort(8) & 0xFFFF;
+            int rows       = map.getInt(12);
+            long bodyLength = map.getLong(24);
+            if (headerSize < HEADER_SIZE || rowFields < ROW_FIELDS
+                    || rows < 0 || rows > bodyLength / (1 + (long) rowFields * Long.BYTES)) {
+                throw new IOException("Malformed snapshot header: " + file);
+            }
+            if (headerSize + bodyLength != size) throw new IOException("Truncated snapshot: " + file);
+
+            CRC32 crc = new CRC32();
+            crc.update(map.slice(0, HEADER_SIZE - Integer.BYTES));
+            if ((int) crc.getValue() != map.getInt(HEADER_SIZE - Integer.BYTES)) {
+                throw new IOException("Snapshot header checksum mismatch: " + file);
+            }
+            crc.reset();
+            crc.update(map.slice(headerSize, (int) bodyLength));
+            if ((int) crc.getValue() != map.getInt(32)) {
+                throw new IOException("Snapshot checksum mismatch: " + file);
+            }
+
+            int[]  ordinals = new int[rows];
+            long[] values   = new long[rows * ROW_FIELDS];
+            int pos = headerSize;
+            for (int r = 0; r < rows; r++) {
+                if (pos >= size) throw new IOException("Malformed snapshot row " + r + ": " + file);
+                int idLength = map.get(pos) & 0xFF;
+                int idStart  = pos + 1;
+                pos = idStart + idLength;
+                if (pos + (long) rowFields * Long.BYTES > size) throw new IOException("Malformed snapshot row " + r + ": " + file);
+                ordinals[r] = r < table.size() && sameId(map, idStart, idLength, table.id(r))
+                    ? r
+                    : ordinalOf.applyAsInt(ascii(map, idStart, idLength));
+                for (int f = 0; f < ROW_FIELDS; f++) {
+                    values[r * ROW_FIELDS + f] = map.getLong(pos + f * Long.BYTES);
+                }
+                pos += rowFields * Long.BYTES;
+            }
+
+            int applied = 0;
+            for (int r = 0; r < rows; r++) {
+                int ordinal = ordinals[r];
+                if (ordinal < 0) continue;
+                table.setPriceState(ordinal, values[r * ROW_FIELDS]);
+                table.setLastSell(ordinal, values[r * ROW_FIELDS + 1]);
+                table.setTotalSold(ordinal, values[r * ROW_FIELDS + 2]);
+                applied++;
+            }
+            return applied;
+        }
+    }
+
+    private static boolean sameId(@NotNull ByteBuffer map, int start, int length, @NotNull String id) {
+        if (id.length() != length) return false;
+        for (int k = 0; k < length; k++) {
+            if ((map.get(start + k) & 0xFF) != id.charAt(k)) return false;
+        }
+        return true;
+    }
+
+    @NotNull
+    private static String ascii(@NotNull ByteBuffer map, int start, int length) {
+        byte[] bytes = new byte[length];
+        map.get(start, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,219 @@
+package dev.n1xend.dynamiceconomy.data;
+
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead log of market row state between full saves.
+ *
+ * <p>Attached to the {@link MarketTable} as its {@link MarketTable.RowListener}:
+ * every price, last-sell or sold-count write appends an image of the whole
+ * row. Images are idempotent, so replay is "last image per item wins" and
+ * replaying records that a checkpoint already contains is harmless.</p>
+ *
+ * <p>The log is split into segments. A checkpoint ({@link DataManager#save})
+ * first {@link #roll}s to a new segment, then writes the full state, then
+ * {@link #discardThrough discards} the sealed segments. Startup loads the last
+ * checkpoint and {@link #replay}s whatever segments are left.</p>
+ *
+ * <pre>
+ * record: u16 id length, id (ASCII), i64 price state, i64 last sell,
+ *         i64 total sold, i32 CRC32 of the preceding bytes
+ * </pre>
+ *
+ * <p>Appends go straight to the channel on the writing thread, so a record
+ * is in the OS before the sale returns and survives {@code kill -9}. The log
+ * is not forced to disk per record; a power loss can drop the tail, which is
+ * detected by the checksum and ignored.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class MarketWal implements MarketTable.RowListener {
+
+    private static final String PREFIX     = "market-";
+    private static final String SUFFIX     = ".wal";
+    private static final int    MAX_ID     = 255;
+    private static final int    FIXED_SIZE = Short.BYTES + 3 * Long.BYTES + Integer.BYTES;
+
+    private final Path   dir;
+    private final Logger logger;
+    private final ByteBuffer buffer = ByteBuffer.allocate(FIXED_SIZE + MAX_ID);
+    private final CRC32  crc = new CRC32();
+
+    private FileChannel channel;
+    private long        segment;
+    private boolean     failing;
+
+    public MarketWal(@NotNull Path dir, @NotNull Logger logger) {
+        this.dir    = dir;
+        this.logger = logger;
+    }
+
+    // ── Replay ────────────────────────────────────────────────────────────────
+
+    /**
+     * Applies every intact record of every segment, oldest first. Call with
+     * no listener attached to {@code table}, after loading the checkpoint.
+     *
+     * @param table     table to write row images into
+     * @param ordinalOf item id to row ordinal, negative if the item no longer exists
+     * @return number of records applied
+     * @throws IOException if a segment cannot be read
+     */
+    public synchronized int replay(@NotNull MarketTable table, @NotNull ToIntFunction<String> ordinalOf)
+            throws IOException {
+        int applied = 0;
+        for (Path file : segments()) {
+            ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file));
+            while (in.remaining() >= FIXED_SIZE) {
+                int start = in.position();
+                int idLength = in.getShort() & 0xFFFF;
+                if (idLength > MAX_ID || in.remaining() < idLength + FIXED_SIZE - Short.BYTES) break;
+                byte[] id = new byte[idLength];
+                in.get(id);
+                long state     = in.getLong();
+                long lastSell  = in.getLong();
+                long totalSold = in.getLong();
+                crc.reset();
+                crc.update(in.array(), start, in.position() - start);
+                if ((int) crc.getValue() != in.getInt()) {
+                    in.position(start);
+                    break;
+                }
+                int ordinal = ordinalOf.applyAsInt(new String(id, StandardCharsets.US_ASCII));
+                if (ordinal < 0) continue;
+                table.setPriceState(ordinal, state);
+                table.setLastSell(ordinal, lastSell);
+                table.setTotalSold(ordinal, totalSold);
+                applied++;
+            }
+            if (in.hasRemaining()) {
+                logger.warning("[WAL] Ignoring " + in.remaining() + " torn bytes at the end of " + file.getFileName());
+            }
+        }
+        return applied;
+    }
+
+    // ── Append ────────────────────────────────────────────────────────────────
+
+    /** Starts a fresh segment after the existing ones. No-op if already open. */
+    public synchronized void open() throws IOException {
+        if (channel != null) return;
+        Files.createDirectories(dir);
+        List<Path> existing = segments();
+        segment = existing.isEmpty() ? 0 : index(existing.get(existing.size() - 1));
+        openNext();
+    }
+
+    public synchronized boolean isOpen() {
+        return channel != null;
+    }
+
+    @Override
+    public synchronized void rowChanged(@NotNull MarketTable table, int ordinal) {
+        if (channel == null) return;
+        byte[] id = table.id(ordinal).getBytes(StandardCharsets.US_ASCII);
+        int idLength = Math.min(id.length, MAX_ID);
+        buffer.clear();
+        buffer.putShort((short) idLength)
+              .put(id, 0, idLength)
+              .putLong(table.priceState(ordinal))
+              .putLong(table.lastSell(ordinal))
+              .putLong(table.totalSold(ordinal));
+        crc.reset();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue()).flip();
+        try {
+            while (buffer.hasRemaining()) channel.write(buffer);
+            failing = false;
+        } catch (IOException e) {
+            if (!failing) logger.log(Level.SEVERE, "[WAL] Failed to append to " + fileName(segment), e);
+            failing = true;
+        }
+    }
+
+    // ── Checkpoint ────────────────────────────────────────────────────────────
+
+    /**
+     * Seals the current segment and starts the next one. Writes that happen
+     * after this land in the new segment.
+     *
+     * @return index of the sealed segment, for {@link #discardThrough}
+     * @throws IOException if the next segment cannot be created
+     */
+    public synchronized long roll() throws IOException {
+        long sealed = segment;
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+        openNext();
+        return sealed;
+    }
+
+    /**
+     * Deletes every segment up to and including {@code sealed}, once a
+     * checkpoint containing their changes has been written.
+     */
+    public synchronized void discardThrough(long sealed) throws IOException {
+        for (Path file : segments()) {
+            if (index(file) <= sealed) Files.deleteIfExists(file);
+        }
+    }
+
+    /** Closes the current segment. Its records are replayed on the next start. */
+    public synchronized void close() {
+        if (channel == null) return;
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "[WAL] Failed to close " + fileName(segment), e);
+        }
+        channel = null;
+    }
+
+    // ── Segments ──────────────────────────────────────────────────────────────
+
+    private void openNext() throws IOException {
+        segment++;
+        channel = FileChannel.open(dir.resolve(fileName(segment)),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @NotNull
+    private List<Path> segments() throws IOException {
+        if (!Files.isDirectory(dir)) return List.of();
+        try (Stream<Path> s = Files.list(dir)) {
+            return s.filter(p -> {
+                    String name = p.getFileName().toString();
+                    return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                })
+                .sorted()
+                .toList();
+        }
+    }
+
+    private static String fileName(long segment) {
+        return String.format("%s%012d%s", PREFIX, segment, SUFFIX);
+    }
+
+    private static long index(@NotNull Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
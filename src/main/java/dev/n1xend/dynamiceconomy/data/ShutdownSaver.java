@@ -0,0 +1,139 @@
+package dev.n1xend.dynamiceconomy.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs the final saves of every store in parallel under one deadline.
+ *
+ * <p>Each save gets its own {@code DynamicEconomy-Shutdown} thread, so a slow
+ * database holds up only its own store. The caller waits until every save
+ * has finished or the deadline has passed, whichever comes first. A save
+ * that fails or misses the deadline runs its fallback on the calling thread
+ * — a local write that does not depend on the slow store — and is left
+ * running on its daemon thread.</p>
+ *
+ * <p>Every store's time is logged, so a shutdown that comes close to the
+ * host's kill timeout shows which store to look at.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class ShutdownSaver {
+
+    /** A save or fallback that may throw. */
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    /** A fallback that reports what it kept, e.g. the file it wrote. */
+    @FunctionalInterface
+    public interface Fallback {
+        @NotNull
+        String run() throws Exception;
+    }
+
+    private record Task(@NotNull String name, @NotNull Action save, @Nullable Fallback fallback) {}
+
+    private final Logger     logger;
+    private final List<Task> tasks = new ArrayList<>();
+
+    public ShutdownSaver(@NotNull Logger logger) {
+        this.logger = Objects.requireNonNull(logger);
+    }
+
+    /**
+     * Adds a store to save.
+     *
+     * @param name     store name for the log
+     * @param save     final save
+     * @param fallback run if the save fails or misses the deadline; {@code null} if there is none
+     * @return this saver
+     */
+    @NotNull
+    public ShutdownSaver add(@NotNull String name, @NotNull Action save, @Nullable Fallback fallback) {
+        tasks.add(new Task(name, save, fallback));
+        return this;
+    }
+
+    /**
+     * Starts every save and waits for them, at most {@code deadlineMillis}
+     * in total, then runs the fallbacks of those that did not succeed.
+     *
+     * @param deadlineMillis time allowed for all saves together
+     */
+    public void run(long deadlineMillis) {
+        if (tasks.isEmpty()) return;
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size(), r -> {
+            Thread t = new Thread(r, "DynamicEconomy-Shutdown-" + threads.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        long start    = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        List<Future<Long>> futures = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            futures.add(executor.submit(() -> {
+                long begin = System.nanoTime();
+                task.save().run();
+                return System.nanoTime() - begin;
+            }));
+        }
+        executor.shutdown();
+
+        int fellBack = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            try {
+                long nanos = futures.get(i).get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                logger.info("[Shutdown] " + task.name() + " saved in " + millis(nanos) + " ms.");
+                continue;
+            } catch (TimeoutException e) {
+                logger.warning("[Shutdown] " + task.name() + " did not finish within " + deadlineMillis + " ms.");
+            } catch (ExecutionException e) {
+                logger.log(Level.SEVERE, "[Shutdown] " + task.name() + " failed after "
+                    + millis(System.nanoTime() - start) + " ms", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warning("[Shutdown] Interrupted while waiting for " + task.name() + ".");
+            }
+            fellBack++;
+            fallback(task);
+        }
+
+        // Saves that missed the deadline keep running on daemon threads until the JVM exits
+        logger.info("[Shutdown] " + tasks.size() + " stores done in " + millis(System.nanoTime() - start) + " ms"
+            + (fellBack > 0 ? ", " + fellBack + " by fallback." : "."));
+    }
+
+    private void fallback(@NotNull Task task) {
+        if (task.fallback() == null) {
+            logger.warning("[Shutdown] " + task.name() + " has no fallback — changes since its last save may be lost.");
+            return;
+        }
+        long begin = System.nanoTime();
+        try {
+            String kept = task.fallback().run();
+            logger.warning("[Shutdown] " + task.name() + " fallback: " + kept + " in " + millis(System.nanoTime() - begin) + " ms.");
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "[Shutdown] " + task.name() + " fallback failed — its unsaved changes are lost", e);
+        }
+    }
+
+    @NotNull
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / 1_000_000.0);
+    }
+}
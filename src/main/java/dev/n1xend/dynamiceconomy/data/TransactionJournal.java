@@ -0,0 +1,382 @@
+package dev.n1xend.dynamiceconomy.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Append-only binary journal of sales, buys and admin price changes.
+ *
+ * <p>Callers only build an {@link Entry} and offer it to a bounded queue; a
+ * dedicated writer thread drains the queue in batches, encodes fixed-size
+ * records into a direct buffer and writes them through a {@link FileChannel}.
+ * If the queue is full the entry is dropped and counted — its sequence number
+ * is still consumed, so a drop shows up as a gap in the journal.</p>
+ *
+ * <p>Files are named {@code journal-<first seq>.dej} so lexical order is
+ * chronological. The newest file is rotated once it reaches
+ * {@code journal.max-file-mb}; the oldest files beyond
+ * {@code journal.keep-files} are deleted. {@link JournalReader} reads and
+ * exports them.</p>
+ *
+ * <pre>
+ * header  16 B: magic "DEJL", u16 version, u16 record size, i64 created millis
+ * record 128 B: i64 seq, i64 time millis, i64 player msb, i64 player lsb,
+ *               f64 money, f64 multiplier before, f64 multiplier after,
+ *               i32 amount, u8 type, 3 B reserved, 64 B item id (ASCII, zero padded)
+ * </pre>
+ *
+ * <p>Records reach the OS when a batch is written, which survives a process
+ * crash; the file is forced to disk on rotation and on {@link #shutdown}.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class TransactionJournal {
+
+    /** What a journal record describes. Ordinals are stored on disk — append only. */
+    public enum Type { SALE, BUY, ADMIN_PRICE }
+
+    /**
+     * One journaled transaction.
+     *
+     * @param seq              journal sequence number, gap-free unless entries were dropped
+     * @param timeMillis       epoch millis of the transaction
+     * @param type             transaction kind
+     * @param player           seller, buyer or admin; {@link #CONSOLE} for the console
+     * @param itemId           market item id (e.g. "WHEAT")
+     * @param amount           units sold or bought, 0 for price changes
+     * @param money            amount paid out or charged, 0 for price changes
+     * @param multiplierBefore item multiplier before the transaction
+     * @param multiplierAfter  item multiplier after the transaction
+     */
+    public record Entry(
+        long seq,
+        long timeMillis,
+        Type type,
+        UUID player,
+        String itemId,
+        int amount,
+        double money,
+        double multiplierBefore,
+        double multiplierAfter
+    ) {}
+
+    /** Actor recorded for changes made from the console. */
+    public static final UUID CONSOLE = new UUID(0L, 0L);
+
+    static final int  MAGIC       = 0x44454A4C; // "DEJL"
+    static final int  VERSION     = 1;
+    static final int  HEADER_SIZE = 16;
+    static final int  RECORD_SIZE = 128;
+    static final int  ID_BYTES    = 64;
+    static final String PREFIX    = "journal-";
+    static final String SUFFIX    = ".dej";
+
+    private static final int  QUEUE_CAPACITY = 65_536;
+    private static final int  BATCH          = 512;
+    private static final long POLL_MILLIS    = 200;
+    private static final long JOIN_MILLIS    = 5_000;
+
+    private static final Type[] TYPES = Type.values();
+
+    private final Path   dir;
+    private final Logger logger;
+    private final long   maxFileBytes;
+    private final int    keepFiles;
+
+    private final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong nextSeq = new AtomicLong(1);
+    private final AtomicLong dropped = new AtomicLong();
+    private final ByteBuffer buffer  = ByteBuffer.allocateDirect(BATCH * RECORD_SIZE);
+
+    private volatile boolean running;
+    private volatile long    written;
+    private Thread      writer;
+    private FileChannel channel;
+    private long        fileBytes;
+    private long        reportedDrops;
+
+    /**
+     * @param dir          directory holding the journal files
+     * @param logger       plugin logger
+     * @param maxFileBytes size at which the current file is rotated
+     * @param keepFiles    number of files to keep, 0 keeps all
+     */
+    public TransactionJournal(@NotNull Path dir, @NotNull Logger logger, long maxFileBytes, int keepFiles) {
+        this.dir          = dir;
+        this.logger       = logger;
+        this.maxFileBytes = Math.max(HEADER_SIZE + RECORD_SIZE, maxFileBytes);
+        this.keepFiles    = Math.max(0, keepFiles);
+    }
+
+    // ── Lifecycle ─────────────────────────────────────────────────────────────
+
+    /**
+     * Opens the newest journal file (or a new one), resumes the sequence and
+     * starts the writer thread. Entries recorded before this are ignored.
+     *
+     * @throws IOException if the journal directory or file cannot be opened
+     */
+    public synchronized void start() throws IOException {
+        if (running) return;
+        Files.createDirectories(dir);
+        List<Path> files = JournalReader.files(dir);
+        Path last = files.isEmpty() ? null : files.get(files.size() - 1);
+        if (last != null && !JournalReader.isJournal(last)) {
+            logger.warning("[Journal] " + last.getFileName() + " is not a readable journal; starting a new file.");
+            Files.move(last, last.resolveSibling(last.getFileName() + ".bad"), StandardCopyOption.REPLACE_EXISTING);
+            last = null;
+        }
+        nextSeq.set((last != null ? JournalReader.lastSeq(last) : 0L) + 1);
+
+        if (last != null && Files.size(last) < maxFileBytes) {
+            channel = FileChannel.open(last, StandardOpenOption.WRITE);
+            // Drop a record torn by a crash mid-write
+            long size = channel.size();
+            fileBytes = size - (size - HEADER_SIZE) % RECORD_SIZE;
+            channel.truncate(fileBytes);
+            channel.position(fileBytes);
+        } else {
+            openNew(nextSeq.get());
+        }
+
+        running = true;
+        writer = new Thread(this::drain, "DynamicEconomy-Journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /** Stops accepting entries, writes what is queued and closes the file. */
+    public synchronized void shutdown() {
+        if (!running) return;
+        running = false;
+        try {
+            writer.join(JOIN_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            logger.warning("[Journal] Writer did not finish in time; " + queue.size() + " entries not written.");
+            return;
+        }
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "[Journal] Failed to close journal", e);
+        }
+        channel = null;
+    }
+
+    // ── Record ────────────────────────────────────────────────────────────────
+
+    /**
+     * Journals a sale. Only allocates the entry and offers it to the queue.
+     *
+     * @param player           seller
+     * @param itemId           item sold
+     * @param amount           units sold
+     * @param payout           amount credited
+     * @param multiplierBefore multiplier before the sale
+     * @param multiplierAfter  multiplier after the sale
+     */
+    public void recordSale(@NotNull UUID player, @NotNull String itemId, int amount, double payout,
+                           double multiplierBefore, double multiplierAfter) {
+        record(Type.SALE, player, itemId, amount, payout, multiplierBefore, multiplierAfter);
+    }
+
+    /**
+     * Journals a purchase from the market.
+     *
+     * @param player           buyer
+     * @param itemId           item bought
+     * @param amount           units bought
+     * @param cost             amount charged
+     * @param multiplierBefore multiplier before the purchase
+     * @param multiplierAfter  multiplier after the purchase
+     */
+    public void recordBuy(@NotNull UUID player, @NotNull String itemId, int amount, double cost,
+                          double multiplierBefore, double multiplierAfter) {
+        record(Type.BUY, player, itemId, amount, cost, multiplierBefore, multiplierAfter);
+    }
+
+    /**
+     * Journals an admin price change.
+     *
+     * @param admin  admin who made the change, {@link #CONSOLE} for the console
+     * @param itemId item whose multiplier changed
+     * @param before multiplier before the change
+     * @param after  multiplier after the change
+     */
+    public void recordPriceChange(@NotNull UUID admin, @NotNull String itemId, double before, double after) {
+        record(Type.ADMIN_PRICE, admin, itemId, 0, 0, before, after);
+    }
+
+    private void record(Type type, UUID player, String itemId, int amount, double money,
+                        double before, double after) {
+        if (!running) return;
+        Entry entry = new Entry(nextSeq.getAndIncrement(), System.currentTimeMillis(), type,
+            player, itemId, amount, money, before, after);
+        if (!queue.offer(entry)) dropped.incrementAndGet();
+    }
+
+    // ── Writer thread ─────────────────────────────────────────────────────────
+
+    private void drain() {
+        List<Entry> batch = new ArrayList<>(BATCH);
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, BATCH - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "[Journal] Failed to write " + batch.size() + " journal records", e);
+            } finally {
+                batch.clear();
+            }
+            reportDrops();
+        }
+    }
+
+    private void write(@NotNull List<Entry> batch) throws IOException {
+        buffer.clear();
+        for (Entry entry : batch) {
+            if (fileBytes + buffer.position() + RECORD_SIZE > maxFileBytes) {
+                flushBuffer();
+                rotate(entry.seq());
+            }
+            encode(entry, buffer);
+        }
+        flushBuffer();
+        written += batch.size();
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            fileBytes += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void rotate(long firstSeq) throws IOException {
+        channel.force(false);
+        channel.close();
+        openNew(firstSeq);
+
+        if (keepFiles == 0) return;
+        List<Path> files = JournalReader.files(dir);
+        for (int i = 0; i < files.size() - keepFiles; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    private void openNew(long firstSeq) throws IOException {
+        Path file = dir.resolve(String.format("%s%012d%s", PREFIX, firstSeq, SUFFIX));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+            .putInt(MAGIC)
+            .putShort((short) VERSION)
+            .putShort((short) RECORD_SIZE)
+            .putLong(System.currentTimeMillis())
+            .flip();
+        while (header.hasRemaining()) channel.write(header);
+        fileBytes = HEADER_SIZE;
+    }
+
+    private void reportDrops() {
+        long drops = dropped.get();
+        if (drops == reportedDrops) return;
+        logger.warning("[Journal] Queue full — " + (drops - reportedDrops) + " entries dropped.");
+        reportedDrops = drops;
+    }
+
+    // ── Encoding ──────────────────────────────────────────────────────────────
+
+    static void encode(@NotNull Entry e, @NotNull ByteBuffer out) {
+        out.putLong(e.seq())
+           .putLong(e.timeMillis())
+           .putLong(e.player().getMostSignificantBits())
+           .putLong(e.player().getLeastSignificantBits())
+           .putDouble(e.money())
+           .putDouble(e.multiplierBefore())
+           .putDouble(e.multiplierAfter())
+           .putInt(e.amount())
+           .put((byte) e.type().ordinal())
+           .put((byte) 0).put((byte) 0).put((byte) 0);
+        byte[] id = e.itemId().getBytes(StandardCharsets.US_ASCII);
+        int idLength = Math.min(id.length, ID_BYTES);
+        out.put(id, 0, idLength);
+        // The buffer is reused across batches: clear what an earlier, longer id left behind
+        for (int i = idLength; i < ID_BYTES; i++) out.put((byte) 0);
+    }
+
+    /** Decodes one record starting at the buffer's position; advances by {@link #RECORD_SIZE}. */
+    @Nullable
+    static Entry decode(@NotNull ByteBuffer in) {
+        int start = in.position();
+        long   seq    = in.getLong();
+        long   time   = in.getLong();
+        UUID   player = new UUID(in.getLong(), in.getLong());
+        double money  = in.getDouble();
+        double before = in.getDouble();
+        double after  = in.getDouble();
+        int    amount = in.getInt();
+        int    type   = in.get() & 0xFF;
+        in.position(in.position() + 3);
+        int idLength = 0;
+        while (idLength < ID_BYTES && in.get(in.position() + idLength) != 0) idLength++;
+        byte[] id = new byte[idLength];
+        in.get(id);
+        in.position(start + RECORD_SIZE);
+        if (type >= TYPES.length) return null;
+        return new Entry(seq, time, TYPES[type], player,
+            new String(id, StandardCharsets.US_ASCII), amount, money, before, after);
+    }
+
+    // ── Query ─────────────────────────────────────────────────────────────────
+
+    @NotNull
+    public Path getDirectory() {
+        return dir;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Records written since {@link #start}. */
+    public long getWritten() {
+        return written;
+    }
+
+    /** Entries dropped because the queue was full. */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /** Entries waiting for the writer thread. */
+    public int getQueued() {
+        return queue.size();
+    }
+}
@@ -1,11 +1,14 @@
 package dev.n1xend.dynamiceconomy.data.models;
 
+import dev.n1xend.dynamiceconomy.pricing.PriceModels;
 import org.bukkit.Material;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -22,16 +25,27 @@ import java.util.Map;
 public class MarketCategory {
 
     private final String id;
-    private final String displayName;
-    private final String description;
-    private final Material icon;
-    private final int guiSlot;
+    // Presentation; a reload of items.yml updates it in place
+    private String displayName;
+    private String description;
+    private Material icon;
+    private int guiSlot;
     private final boolean enabled;
     private final Map<String, MarketItem> items = new LinkedHashMap<>();
 
+    // MarketTable rows of this category's items, in insertion order
+    private int[] ordinals = new int[0];
+
+    // Dense index of this category in the catalog, assigned by EconomyService
+    private int ordinal = -1;
+
     private boolean hotCategory = false;
     private double hotMultiplier = 1.0;
 
+    // Price curve from items.yml (price-model.type / price-model.elasticity)
+    private String priceModelType = PriceModels.DEFAULT_TYPE;
+    private double elasticity = 1.0;
+
     /**
      * Creates a new market category.
      *
@@ -58,7 +72,26 @@ public class MarketCategory {
     // -------------------------------------------------------------------------
 
     public void addItem(@NotNull MarketItem item) {
-        items.put(item.getId(), item);
+        if (items.put(item.getId(), item) == null) {
+            ordinals = Arrays.copyOf(ordinals, ordinals.length + 1);
+            ordinals[ordinals.length - 1] = item.getOrdinal();
+        }
+    }
+
+    /**
+     * Replaces this category's items with {@code newItems}, in that order.
+     * Used by catalog reloads; rows of the items are not touched.
+     *
+     * @param newItems items in display order
+     */
+    public void setItems(@NotNull List<MarketItem> newItems) {
+        items.clear();
+        int[] rows = new int[newItems.size()];
+        int n = 0;
+        for (MarketItem item : newItems) {
+            if (items.put(item.getId(), item) == null) rows[n++] = item.getOrdinal();
+        }
+        ordinals = Arrays.copyOf(rows, n);
     }
 
     @Nullable
@@ -76,6 +109,72 @@ public class MarketCategory {
         return items;
     }
 
+    /**
+     * Returns the {@link MarketTable} rows of this category's items,
+     * for linear scans over the table. Callers must not modify the array.
+     *
+     * @return item ordinals in insertion order
+     */
+    @NotNull
+    public int[] getOrdinals() {
+        return ordinals;
+    }
+
+    /**
+     * Returns this category's dense index in the catalog, for per-category
+     * arrays such as diversity history. -1 until the catalog is indexed.
+     *
+     * @return category ordinal
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    public void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
+    // -------------------------------------------------------------------------
+    // Price model
+    // -------------------------------------------------------------------------
+
+    @NotNull
+    public String getPriceModelType() {
+        return priceModelType;
+    }
+
+    public double getElasticity() {
+        return elasticity;
+    }
+
+    /**
+     * Sets the price curve of this category's items.
+     *
+     * @param type       model identifier, see {@link PriceModels}
+     * @param elasticity scale applied to the configured price drop
+     */
+    public void setPriceModel(@NotNull String type, double elasticity) {
+        this.priceModelType = type;
+        this.elasticity = elasticity;
+    }
+
+    /**
+     * Updates the main-menu presentation in place, keeping items, hot state
+     * and category ordinal.
+     *
+     * @param displayName colored display name
+     * @param description short description shown in GUI lore
+     * @param icon        material icon in the main menu
+     * @param guiSlot     slot in the main menu inventory
+     */
+    public void setPresentation(@NotNull String displayName, @NotNull String description,
+                                @NotNull Material icon, int guiSlot) {
+        this.displayName = displayName;
+        this.description = description;
+        this.icon = icon;
+        this.guiSlot = guiSlot;
+    }
+
     // -------------------------------------------------------------------------
     // Seasonal demand
     // -------------------------------------------------------------------------
@@ -1,13 +1,26 @@
 package dev.n1xend.dynamiceconomy.data.models;
 
+import dev.n1xend.dynamiceconomy.pricing.PriceModel;
 import org.bukkit.Material;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Represents a single tradeable item in the dynamic market.
  *
- * <p>Tracks the current price multiplier, last sell timestamp for recovery
- * calculation, and cumulative sell statistics.</p>
+ * <p>Holds the immutable catalog data (id, category, name, material, base price)
+ * and is a thin view over one row of a {@link MarketTable}, where the dynamic
+ * state — price multiplier, last sell timestamp, sold counter — lives in
+ * primitive arrays shared by the whole catalog.</p>
+ *
+ * <p>Recovery is lazy: the row stores the multiplier together with the moment
+ * it was written (see {@link PriceState}) and every read evaluates the
+ * closed-form recovery of the item's {@link PriceModel} (linear by default:
+ * {@code min(1, m + recoveryPerHour × hoursSinceWrite)}).
+ * The stored value is only rewritten on sales, admin changes and saves.</p>
+ *
+ * <p>All mutations are atomic (compare-and-set on the price state, atomic add
+ * on the sold counter), so sales on the main thread and async saves or
+ * loads never lose updates.</p>
  *
  * @author n1xend
  * @version 1.0.0
@@ -21,13 +34,13 @@ public class MarketItem {
     private final Material material;
     private final double basePrice;
 
-    // Dynamic state — persisted to JSON between restarts
-    private double currentMultiplier;
-    private long lastSellTimestamp;
-    private long totalSold;
+    // Dynamic state — one row of the shared table, persisted between restarts
+    private final MarketTable table;
+    private final int ordinal;
 
     /**
-     * Creates a new market item with default multiplier of 1.0.
+     * Creates a standalone market item with default multiplier of 1.0,
+     * backed by its own single-row table.
      *
      * @param id          material name used as unique identifier (e.g. "WHEAT")
      * @param categoryId  parent category identifier
@@ -37,14 +50,52 @@ public class MarketItem {
      */
     public MarketItem(@NotNull String id, @NotNull String categoryId,
                       @NotNull String displayName, @NotNull Material material, double basePrice) {
+        this(new MarketTable(1), id, categoryId, displayName, material, basePrice);
+    }
+
+    /**
+     * Creates a market item with default multiplier of 1.0 in a new row of {@code table}.
+     *
+     * @param table       catalog table that stores this item's dynamic state
+     * @param id          material name used as unique identifier (e.g. "WHEAT")
+     * @param categoryId  parent category identifier
+     * @param displayName colored display name shown in GUI
+     * @param material    bukkit material
+     * @param basePrice   base price in Vault currency
+     */
+    public MarketItem(@NotNull MarketTable table, @NotNull String id, @NotNull String categoryId,
+                      @NotNull String displayName, @NotNull Material material, double basePrice) {
+        this.id = id;
+        this.categoryId = categoryId;
+        this.displayName = displayName;
+        this.material = material;
+        this.basePrice = basePrice;
+        this.table = table;
+        this.ordinal = table.allocate(id, System.currentTimeMillis());
+    }
+
+    /**
+     * Creates a view over an existing row of {@code table}, keeping its
+     * multiplier and sell statistics. Used when a catalog reload changes an
+     * item's name, material, base price or category.
+     *
+     * @param table       catalog table that stores this item's dynamic state
+     * @param ordinal     existing row of the item
+     * @param id          material name used as unique identifier (e.g. "WHEAT")
+     * @param categoryId  parent category identifier
+     * @param displayName colored display name shown in GUI
+     * @param material    bukkit material
+     * @param basePrice   base price in Vault currency
+     */
+    public MarketItem(@NotNull MarketTable table, int ordinal, @NotNull String id, @NotNull String categoryId,
+                      @NotNull String displayName, @NotNull Material material, double basePrice) {
         this.id = id;
         this.categoryId = categoryId;
         this.displayName = displayName;
         this.material = material;
         this.basePrice = basePrice;
-        this.currentMultiplier = 1.0;
-        this.lastSellTimestamp = System.currentTimeMillis();
-        this.totalSold = 0;
+        this.table = table;
+        this.ordinal = ordinal;
     }
 
     // -------------------------------------------------------------------------
@@ -57,7 +108,7 @@ public class MarketItem {
      * @return current price before tax and bonuses
      */
     public double getCurrentPrice() {
-        return basePrice * currentMultiplier;
+        return basePrice * getCurrentMultiplier();
     }
 
     /**
@@ -67,17 +118,67 @@ public class MarketItem {
      * @return trend value
      */
     public double getTrend() {
-        return currentMultiplier - 1.0;
+        return getCurrentMultiplier() - 1.0;
+    }
+
+    /**
+     * Returns the multiplier at the given instant, including lazy recovery.
+     *
+     * @param nowMillis epoch millis to evaluate at
+     * @return effective multiplier
+     */
+    public double getMultiplierAt(long nowMillis) {
+        return table.multiplierAt(ordinal, nowMillis);
+    }
+
+    /**
+     * Evaluates a packed state previously read via {@link #getPriceState()}.
+     *
+     * <p>Multipliers at or above 1.0 are left untouched; suppressed ones recover
+     * along the item's {@link PriceModel} from the moment they were written and stop at 1.0.</p>
+     *
+     * @param state     packed price state
+     * @param nowMillis epoch millis to evaluate at
+     * @return effective multiplier
+     */
+    public double multiplierOf(long state, long nowMillis) {
+        return table.multiplierOf(ordinal, state, nowMillis);
     }
 
     /**
      * Records a sell event — updates timestamp and total.
      *
+     * <p>Safe to call from several threads at once: the total is incremented
+     * atomically and the timestamp never moves backwards.</p>
+     *
      * @param amount units sold
      */
     public void recordSell(int amount) {
-        this.lastSellTimestamp = System.currentTimeMillis();
-        this.totalSold += amount;
+        table.recordSell(ordinal, amount, System.currentTimeMillis());
+    }
+
+    /**
+     * Atomically replaces the price state if it still holds {@code expected}.
+     *
+     * <p>Callers read the state, compute the new multiplier and retry on
+     * failure, so concurrent sales and admin changes never overwrite each other.</p>
+     *
+     * @param expected state previously read via {@link #getPriceState()}
+     * @param newState packed state to store, see {@link PriceState#pack(double, long)}
+     * @return true if the state was updated
+     */
+    public boolean compareAndSetPriceState(long expected, long newState) {
+        return table.compareAndSetPriceState(ordinal, expected, newState);
+    }
+
+    /**
+     * Folds the recovery accumulated so far into the stored multiplier.
+     * Called when the item is persisted; reads give the same value before and after.
+     *
+     * @param nowMillis epoch millis to settle at
+     */
+    public void settle(long nowMillis) {
+        table.settle(ordinal, nowMillis);
     }
 
     // -------------------------------------------------------------------------
@@ -108,16 +209,39 @@ public class MarketItem {
         return basePrice;
     }
 
+    @NotNull
+    public MarketTable getTable() {
+        return table;
+    }
+
+    /** Returns this item's row in {@link #getTable()}. */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     public double getCurrentMultiplier() {
-        return currentMultiplier;
+        return getMultiplierAt(System.currentTimeMillis());
+    }
+
+    public long getPriceState() {
+        return table.priceState(ordinal);
+    }
+
+    public double getRecoveryPerHour() {
+        return table.recoveryPerHour(ordinal);
+    }
+
+    @NotNull
+    public PriceModel getPriceModel() {
+        return table.priceModel(ordinal);
     }
 
     public long getLastSellTimestamp() {
-        return lastSellTimestamp;
+        return table.lastSell(ordinal);
     }
 
     public long getTotalSold() {
-        return totalSold;
+        return table.totalSold(ordinal);
     }
 
     // -------------------------------------------------------------------------
@@ -125,14 +249,44 @@ public class MarketItem {
     // -------------------------------------------------------------------------
 
     public void setCurrentMultiplier(double multiplier) {
-        this.currentMultiplier = multiplier;
+        setCurrentMultiplier(multiplier, System.currentTimeMillis());
+    }
+
+    /**
+     * Stores a multiplier that was valid at {@code asOfMillis}; recovery runs from that moment.
+     *
+     * @param multiplier price multiplier
+     * @param asOfMillis epoch millis the multiplier was observed at
+     */
+    public void setCurrentMultiplier(double multiplier, long asOfMillis) {
+        table.setPriceState(ordinal, PriceState.pack(multiplier, asOfMillis));
+    }
+
+    /**
+     * Changes the recovery speed. Recovery accumulated under the old speed is
+     * settled first so the current price does not jump.
+     *
+     * @param recoveryPerHour multiplier regained per hour, 0 disables recovery
+     */
+    public void setRecoveryPerHour(double recoveryPerHour) {
+        table.setRecoveryPerHour(ordinal, recoveryPerHour, System.currentTimeMillis());
+    }
+
+    /**
+     * Changes the price curve. Recovery accumulated under the old model is
+     * settled first so the current price does not jump.
+     *
+     * @param model new price model
+     */
+    public void setPriceModel(@NotNull PriceModel model) {
+        table.setPriceModel(ordinal, model, System.currentTimeMillis());
     }
 
     public void setLastSellTimestamp(long timestamp) {
-        this.lastSellTimestamp = timestamp;
+        table.setLastSell(ordinal, timestamp);
     }
 
     public void setTotalSold(long totalSold) {
-        this.totalSold = totalSold;
+        table.setTotalSold(ordinal, totalSold);
     }
 }
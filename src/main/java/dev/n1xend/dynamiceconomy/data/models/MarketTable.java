@@ -0,0 +1,402 @@
+package dev.n1xend.dynamiceconomy.data.models;
+
+import dev.n1xend.dynamiceconomy.pricing.LinearPriceModel;
+import dev.n1xend.dynamiceconomy.pricing.PriceModel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * Dense struct-of-arrays store for the dynamic state of the whole catalog.
+ *
+ * <p>Every {@link MarketItem} owns one compact ordinal in this table; its packed
+ * price state ({@link PriceState}), last sell timestamp, sold counter,
+ * recovery speed and {@link PriceModel} live in parallel arrays at that index. Per-item
+ * access goes through array {@link VarHandle}s (CAS for prices, atomic add for
+ * counters); full-catalog passes are plain linear scans.</p>
+ *
+ * <p>Rows live in segments that are never copied or replaced: segment
+ * {@code k} holds {@code initialCapacity × 2^k} rows, and growing the table
+ * only appends a segment. A CAS on another thread therefore always lands in
+ * the row's one and only slot. {@link #allocate} — at startup or on a
+ * catalog reload — fills the new row before publishing it with a volatile
+ * write of the size and segment directory. Only one thread, the main
+ * thread, may allocate.</p>
+ *
+ * <p>Every write to persisted row state (price, last sell, sold counter)
+ * marks the row dirty and is reported to the {@link RowListener}, if one is
+ * set. Settling recovery, recovery speed and price model changes are neither:
+ * they never change what a reader sees. Saves {@link #drainDirty drain} the
+ * dirty rows, so their cost follows activity rather than catalog size.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class MarketTable {
+
+    private static final VarHandle INTS    = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final VarHandle LONGS   = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle DOUBLES = MethodHandles.arrayElementVarHandle(double[].class);
+    private static final VarHandle MODELS  = MethodHandles.arrayElementVarHandle(PriceModel[].class);
+
+    private static final double MILLIS_PER_HOUR = 3_600_000.0;
+
+    /** Observes writes to persisted row state. Called on the writing thread, after the write. */
+    @FunctionalInterface
+    public interface RowListener {
+        void rowChanged(@NotNull MarketTable table, int ordinal);
+    }
+
+    /** Storage for a fixed run of ordinals. Its arrays are never replaced. */
+    private static final class Segment {
+        final String[]     ids;
+        final long[]       priceStates;
+        final long[]       lastSell;
+        final long[]       totalSold;
+        final double[]     recoveryPerHour;
+        final PriceModel[] models;
+        final int[]        dirty;
+
+        Segment(int capacity) {
+            ids             = new String[capacity];
+            priceStates     = new long[capacity];
+            lastSell        = new long[capacity];
+            totalSold       = new long[capacity];
+            recoveryPerHour = new double[capacity];
+            models          = new PriceModel[capacity];
+            dirty           = new int[capacity];
+        }
+    }
+
+    // Segment k starts at ordinal base × (2^k - 1); base is a power of two
+    private final int base;
+    private final int baseShift;
+    private volatile Segment[] segments;
+    private volatile int       size;
+
+    // Ordinals whose dirty flag went 0 → 1 since the last drain
+    private final Object dirtyLock = new Object();
+    private int[] dirtyRows = new int[16];
+    private int   dirtyCount;
+
+    private volatile RowListener listener;
+
+    public MarketTable(int initialCapacity) {
+        int cap = Math.max(1, initialCapacity);
+        this.base      = cap == 1 ? 1 : Integer.highestOneBit(cap - 1) << 1;
+        this.baseShift = Integer.numberOfTrailingZeros(base);
+        this.segments  = new Segment[] {new Segment(base)};
+    }
+
+    @NotNull
+    private Segment segment(int ordinal) {
+        int n = ordinal + base;
+        return segments[31 - Integer.numberOfLeadingZeros(n) - baseShift];
+    }
+
+    private int slot(int ordinal) {
+        int n = ordinal + base;
+        return n ^ Integer.highestOneBit(n);
+    }
+
+    // ── Rows ──────────────────────────────────────────────────────────────────
+
+    /**
+     * Appends a row at base price and returns its ordinal.
+     *
+     * @param id        item identifier (e.g. "WHEAT")
+     * @param nowMillis creation time, used as price anchor and last sell time
+     * @return ordinal of the new row
+     */
+    public int allocate(@NotNull String id, long nowMillis) {
+        int ordinal = size;
+        int k = 31 - Integer.numberOfLeadingZeros(ordinal + base) - baseShift;
+        if (k == segments.length) {
+            Segment[] grown = Arrays.copyOf(segments, k + 1);
+            grown[k] = new Segment(base << k);
+            segments = grown;
+        }
+        Segment seg = segments[k];
+        int i = slot(ordinal);
+        seg.ids[i]         = id;
+        seg.priceStates[i] = PriceState.pack(1.0, nowMillis);
+        seg.lastSell[i]    = nowMillis;
+        seg.models[i]      = LinearPriceModel.DEFAULT;
+        size = ordinal + 1; // publishes the row
+        return ordinal;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @NotNull
+    public String id(int ordinal) {
+        return segment(ordinal).ids[slot(ordinal)];
+    }
+
+    /** Sets the listener told about every persisted-state write; {@code null} removes it. */
+    public void setRowListener(@Nullable RowListener listener) {
+        this.listener = listener;
+    }
+
+    private void changed(int ordinal) {
+        markDirty(ordinal);
+        RowListener l = listener;
+        if (l != null) l.rowChanged(this, ordinal);
+    }
+
+    // ── Dirty tracking ────────────────────────────────────────────────────────
+
+    /** Marks a row as changed since the last save. Cheap if it already is. */
+    public void markDirty(int ordinal) {
+        if (!INTS.compareAndSet(segment(ordinal).dirty, slot(ordinal), 0, 1)) return;
+        synchronized (dirtyLock) {
+            if (dirtyCount == dirtyRows.length) dirtyRows = Arrays.copyOf(dirtyRows, dirtyCount * 2);
+            dirtyRows[dirtyCount++] = ordinal;
+        }
+    }
+
+    /** Marks every row as changed, e.g. when the backing store has no copy yet. */
+    public void markAllDirty() {
+        int n = size;
+        for (int i = 0; i < n; i++) {
+            markDirty(i);
+        }
+    }
+
+    /**
+     * Returns the rows changed since the last drain and marks them clean.
+     *
+     * <p>Flags are cleared before the caller reads the rows, so a write that
+     * races with the save either is seen by it or marks the row dirty again.
+     * If the save fails, hand the rows back with {@link #markDirty}.</p>
+     *
+     * @return dirty ordinals, in the order they first changed
+     */
+    @NotNull
+    public int[] drainDirty() {
+        int[] rows;
+        synchronized (dirtyLock) {
+            rows = Arrays.copyOf(dirtyRows, dirtyCount);
+            dirtyCount = 0;
+        }
+        for (int ordinal : rows) {
+            INTS.setVolatile(segment(ordinal).dirty, slot(ordinal), 0);
+        }
+        return rows;
+    }
+
+    public boolean isDirty(int ordinal) {
+        return (int) INTS.getVolatile(segment(ordinal).dirty, slot(ordinal)) != 0;
+    }
+
+    // ── Price state ───────────────────────────────────────────────────────────
+
+    public long priceState(int ordinal) {
+        return (long) LONGS.getVolatile(segment(ordinal).priceStates, slot(ordinal));
+    }
+
+    public boolean compareAndSetPriceState(int ordinal, long expected, long newState) {
+        if (!LONGS.compareAndSet(segment(ordinal).priceStates, slot(ordinal), expected, newState)) return false;
+        changed(ordinal);
+        return true;
+    }
+
+    public void setPriceState(int ordinal, long state) {
+        LONGS.setVolatile(segment(ordinal).priceStates, slot(ordinal), state);
+        changed(ordinal);
+    }
+
+    /**
+     * Evaluates a packed state for a row, including lazy recovery toward 1.0
+     * along the row's {@link PriceModel}.
+     *
+     * @param ordinal   row the state belongs to (selects recovery speed and model)
+     * @param state     packed price state
+     * @param nowMillis epoch millis to evaluate at
+     * @return effective multiplier
+     */
+    public double multiplierOf(int ordinal, long state, long nowMillis) {
+        double stored = PriceState.multiplier(state);
+        double rate   = recoveryPerHour(ordinal);
+        if (stored >= 1.0 || rate <= 0.0) {
+            return stored;
+        }
+        long elapsed = nowMillis - PriceState.timestamp(state);
+        if (elapsed <= 0) {
+            return stored;
+        }
+        return Math.min(1.0, priceModel(ordinal).recover(stored, elapsed / MILLIS_PER_HOUR, rate));
+    }
+
+    public double multiplierAt(int ordinal, long nowMillis) {
+        return multiplierOf(ordinal, priceState(ordinal), nowMillis);
+    }
+
+    /**
+     * Folds accumulated recovery into the stored multiplier of one row.
+     *
+     * @param ordinal   row to settle
+     * @param nowMillis epoch millis to settle at
+     */
+    public void settle(int ordinal, long nowMillis) {
+        long[] states = segment(ordinal).priceStates;
+        int i = slot(ordinal);
+        long at = PriceState.anchor(nowMillis);
+        long state;
+        long settled;
+        do {
+            state = (long) LONGS.getVolatile(states, i);
+            settled = PriceState.pack(multiplierOf(ordinal, state, at), at);
+        } while (state != settled && !LONGS.compareAndSet(states, i, state, settled));
+    }
+
+    // ── Recovery speed ────────────────────────────────────────────────────────
+
+    public double recoveryPerHour(int ordinal) {
+        return (double) DOUBLES.getAcquire(segment(ordinal).recoveryPerHour, slot(ordinal));
+    }
+
+    /** Changes one row's recovery speed, settling recovery accrued under the old speed first. */
+    public void setRecoveryPerHour(int ordinal, double perHour, long nowMillis) {
+        settle(ordinal, nowMillis);
+        DOUBLES.setRelease(segment(ordinal).recoveryPerHour, slot(ordinal), perHour);
+    }
+
+    // ── Price model ───────────────────────────────────────────────────────────
+
+    @NotNull
+    public PriceModel priceModel(int ordinal) {
+        return (PriceModel) MODELS.getAcquire(segment(ordinal).models, slot(ordinal));
+    }
+
+    /** Changes one row's price model, settling recovery accrued under the old model first. */
+    public void setPriceModel(int ordinal, @NotNull PriceModel model, long nowMillis) {
+        settle(ordinal, nowMillis);
+        MODELS.setRelease(segment(ordinal).models, slot(ordinal), model);
+    }
+
+    // ── Sell statistics ───────────────────────────────────────────────────────
+
+    public long lastSell(int ordinal) {
+        return (long) LONGS.getVolatile(segment(ordinal).lastSell, slot(ordinal));
+    }
+
+    public void setLastSell(int ordinal, long timestamp) {
+        LONGS.setVolatile(segment(ordinal).lastSell, slot(ordinal), timestamp);
+        changed(ordinal);
+    }
+
+    public long totalSold(int ordinal) {
+        return (long) LONGS.getVolatile(segment(ordinal).totalSold, slot(ordinal));
+    }
+
+    public void setTotalSold(int ordinal, long value) {
+        LONGS.setVolatile(segment(ordinal).totalSold, slot(ordinal), value);
+        changed(ordinal);
+    }
+
+    /**
+     * Adds to the sold counter and moves the last sell time forward (never backward).
+     *
+     * @param ordinal   row that was sold
+     * @param amount    units sold
+     * @param nowMillis epoch millis of the sale
+     */
+    public void recordSell(int ordinal, int amount, long nowMillis) {
+        Segment seg = segment(ordinal);
+        int i = slot(ordinal);
+        LONGS.getAndAdd(seg.totalSold, i, (long) amount);
+        long current;
+        do {
+            current = (long) LONGS.getVolatile(seg.lastSell, i);
+        } while (current < nowMillis && !LONGS.compareAndSet(seg.lastSell, i, current, nowMillis));
+        changed(ordinal);
+    }
+
+    // ── Full-catalog passes ───────────────────────────────────────────────────
+
+    /**
+     * Average effective multiplier over a set of rows.
+     *
+     * @param ordinals  rows to average (e.g. one category)
+     * @param nowMillis epoch millis to evaluate at
+     * @return average multiplier, 1.0 if {@code ordinals} is empty
+     */
+    public double averageMultiplier(@NotNull int[] ordinals, long nowMillis) {
+        if (ordinals.length == 0) return 1.0;
+        double sum = 0;
+        for (int ordinal : ordinals) {
+            sum += multiplierAt(ordinal, nowMillis);
+        }
+        return sum / ordinals.length;
+    }
+
+    /** Resets every row to base price, anchored at {@code nowMillis}. */
+    public void resetAll(long nowMillis) {
+        long reset = PriceState.pack(1.0, nowMillis);
+        int n = size;
+        for (int i = 0; i < n; i++) {
+            setPriceState(i, reset);
+        }
+    }
+
+    /** Settles every row so stored multipliers match what readers currently see. */
+    public void settleAll(long nowMillis) {
+        int n = size;
+        for (int i = 0; i < n; i++) {
+            settle(i, nowMillis);
+        }
+    }
+
+    /** Assigns the same recovery speed to every row, settling under the old speed first. */
+    public void setRecoveryPerHourAll(double perHour, long nowMillis) {
+        int n = size;
+        for (int i = 0; i < n; i++) {
+            setRecoveryPerHour(i, perHour, nowMillis);
+        }
+    }
+
+    // ── Snapshot ──────────────────────────────────────────────────────────────
+
+    /**
+     * Copy of the persisted state of every row, indexed by ordinal. The arrays
+     * are never written after {@link #snapshot} returns, so a snapshot handed
+     * to another thread through a lock or volatile field is safe to read there.
+     */
+    public record Snapshot(@NotNull String[] ids, @NotNull long[] priceStates,
+                           @NotNull long[] lastSell, @NotNull long[] totalSold) {
+
+        public int size() {
+            return ids.length;
+        }
+    }
+
+    /**
+     * Copies the persisted state of every row. Each field is read with
+     * volatile semantics; to pair a snapshot with the rows it must save,
+     * {@link #drainDirty} first so that a later write marks its row again.
+     *
+     * @return a detached copy of the current row state
+     */
+    @NotNull
+    public Snapshot snapshot() {
+        int n = size;
+        String[] rowIds = new String[n];
+        long[] states = new long[n];
+        long[] sells  = new long[n];
+        long[] sold   = new long[n];
+        for (int i = 0; i < n; i++) {
+            rowIds[i] = id(i);
+            states[i] = priceState(i);
+            sells[i]  = lastSell(i);
+            sold[i]   = totalSold(i);
+        }
+        return new Snapshot(rowIds, states, sells, sold);
+    }
+}
@@ -0,0 +1,65 @@
+package dev.n1xend.dynamiceconomy.data.models;
+
+/**
+ * Packs a price multiplier and the moment it was written into a single {@code long}.
+ *
+ * <p>Recovery is evaluated lazily from the time the multiplier was last written,
+ * so both values must change together. Packing them lets a single
+ * compare-and-set publish a consistent pair without locks.</p>
+ *
+ * <p>Layout: high 32 bits — unsigned fixed-point multiplier in units of
+ * 2<sup>-28</sup> (range 0.0 to just under 16.0, resolution ~3.7e-9);
+ * low 32 bits — unsigned epoch seconds.</p>
+ *
+ * <p>Because the timestamp keeps whole seconds, a writer that derives the
+ * multiplier from the time it writes at evaluates it at {@link #anchor} of
+ * that time. The stored pair is then exact: a reader at any later instant
+ * adds only the recovery after the anchor, never time already folded in.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class PriceState {
+
+    private static final double ONE        = 1 << 28;
+    private static final long   MAX_FIXED  = 0xFFFF_FFFFL;
+    private static final long   LOW_MASK   = 0xFFFF_FFFFL;
+
+    private PriceState() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Packs a multiplier and the epoch millis it is valid from.
+     *
+     * @param multiplier price multiplier, clamped to the representable range
+     * @param timeMillis epoch millis the multiplier was computed for
+     * @return packed state
+     */
+    public static long pack(double multiplier, long timeMillis) {
+        long fixed   = Math.max(0L, Math.min(MAX_FIXED, Math.round(multiplier * ONE)));
+        long seconds = Math.max(0L, Math.min(LOW_MASK, timeMillis / 1000L));
+        return (fixed << 32) | seconds;
+    }
+
+    /**
+     * Rounds epoch millis down to the precision a packed state keeps.
+     *
+     * @param timeMillis epoch millis
+     * @return the timestamp {@link #pack} would store for {@code timeMillis}
+     */
+    public static long anchor(long timeMillis) {
+        return timestamp(pack(0.0, timeMillis));
+    }
+
+    /** Returns the multiplier stored in a packed state. */
+    public static double multiplier(long state) {
+        return (state >>> 32) / ONE;
+    }
+
+    /** Returns the epoch millis (second precision) a packed state was written at. */
+    public static long timestamp(long state) {
+        return (state & LOW_MASK) * 1000L;
+    }
+}
@@ -0,0 +1,83 @@
+package dev.n1xend.dynamiceconomy.data.store;
+
+import dev.n1xend.dynamiceconomy.data.MarketSnapshot;
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.ToIntFunction;
+
+/**
+ * Stores rows as a {@link MarketSnapshot} file ({@code market_data.bin}).
+ *
+ * <p>Every save writes the whole image — a few dozen bytes per item — so
+ * {@link #saveDirty} costs the same as {@link #save}. While the file does
+ * not exist yet, {@link #load} reads from the {@code importFrom} store, so
+ * switching formats keeps the market state.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class BinaryMarketStore implements MarketStore {
+
+    private final Path        file;
+    private final MarketStore importFrom;
+
+    /**
+     * @param file       snapshot file
+     * @param importFrom store to load from while {@code file} does not exist, or {@code null}
+     */
+    public BinaryMarketStore(@NotNull Path file, @Nullable MarketStore importFrom) {
+        this.file       = file;
+        this.importFrom = importFrom;
+    }
+
+    @NotNull
+    @Override
+    public String name() {
+        return file.getFileName().toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A snapshot that fails validation is renamed to {@code .bad} before
+     * the exception is thrown, so the next save does not overwrite it.</p>
+     */
+    @Override
+    public int load(@NotNull MarketTable table, @NotNull ToIntFunction<String> ordinalOf) throws IOException {
+        if (!Files.exists(file)) {
+            return importFrom != null ? importFrom.load(table, ordinalOf) : 0;
+        }
+        try {
+            return MarketSnapshot.read(file, table, ordinalOf);
+        } catch (IOException e) {
+            try {
+                Files.move(file, file.resolveSibling(file.getFileName() + ".bad"), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException moveFailed) {
+                e.addSuppressed(moveFailed);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void save(@NotNull MarketTable.Snapshot snapshot) throws IOException {
+        MarketSnapshot.write(snapshot, file);
+    }
+
+    @Override
+    public void saveDirty(@NotNull MarketTable.Snapshot snapshot, @NotNull int[] rows) throws IOException {
+        MarketSnapshot.write(snapshot, file);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (importFrom != null) importFrom.close();
+    }
+}
@@ -0,0 +1,301 @@
+package dev.n1xend.dynamiceconomy.data.store;
+
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.data.models.PriceState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.sql.*;
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+/**
+ * Stores rows in a SQL table, one row per item, upserted by id.
+ *
+ * <pre>
+ * de_market_items(id PK, multiplier, as_of, last_sell, total_sold)
+ * </pre>
+ *
+ * <p>Every save is one transaction: rows are bound to one prepared upsert
+ * and sent in JDBC batches of {@value #BATCH_SIZE}, so a full save of a
+ * large catalog is a handful of round trips rather than one per row. A
+ * failed save is rolled back and leaves the previous rows.</p>
+ *
+ * <p>The store holds one connection — all calls come from the save thread —
+ * and checks it before each use, reconnecting if the server dropped it.
+ * Subclasses supply the connection, session settings and the dialect's
+ * upsert statement.</p>
+ *
+ * <p>While the table is empty, {@link #open} imports the item states an
+ * older version kept in the same database, but only from a table named with
+ * {@link #legacyTable} and only by the column names given there — nothing
+ * is guessed. {@code last_sell} is read as epoch milliseconds; the recovery
+ * anchor of imported rows is the time of the import.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public abstract class JdbcMarketStore implements MarketStore {
+
+    protected static final String TABLE = "de_market_items";
+
+    private static final String CREATE_TABLE =
+        "CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+            + "id VARCHAR(64) NOT NULL PRIMARY KEY, "
+            + "multiplier DOUBLE NOT NULL, "
+            + "as_of BIGINT NOT NULL, "
+            + "last_sell BIGINT NOT NULL, "
+            + "total_sold BIGINT NOT NULL)";
+    private static final String SELECT_ALL =
+        "SELECT id, multiplier, as_of, last_sell, total_sold FROM " + TABLE;
+
+    private static final int BATCH_SIZE       = 500;
+    private static final int VALIDATE_SECONDS = 2;
+
+    /**
+     * Columns of a legacy table. {@code totalSold} and {@code lastSell} may be
+     * blank when the table has no such column; {@code lastSell} holds epoch
+     * milliseconds.
+     */
+    public record LegacyColumns(@NotNull String id, @NotNull String multiplier,
+                                @NotNull String totalSold, @NotNull String lastSell) {
+
+        /** The column names this version uses, as in {@code de_market_items}. */
+        public static final LegacyColumns DEFAULT =
+            new LegacyColumns("id", "multiplier", "total_sold", "last_sell");
+    }
+
+    /**
+     * Outcome of importing the configured legacy table on first open.
+     *
+     * @param table   legacy table
+     * @param rows    number of rows imported
+     * @param skipped why the table was not imported, or {@code null} if it was
+     */
+    public record LegacyImport(@NotNull String table, int rows, @Nullable String skipped) {}
+
+    private Connection        connection;
+    private PreparedStatement upsert;
+    private String            legacyTable;
+    private LegacyColumns     legacyColumns = LegacyColumns.DEFAULT;
+
+    /** Opens a new connection to the database. */
+    @NotNull
+    protected abstract Connection connect() throws SQLException;
+
+    /** Applies session settings to a new connection. */
+    protected void configure(@NotNull Connection connection) throws SQLException {
+    }
+
+    /**
+     * Insert-or-update statement with parameters
+     * {@code (id, multiplier, as_of, last_sell, total_sold)}.
+     */
+    @NotNull
+    protected abstract String upsertSql();
+
+    /**
+     * Names the table an older version stored item states in, and its columns.
+     * Without a table nothing is imported.
+     *
+     * @param table   legacy table name, or {@code null} or blank for none
+     * @param columns column names in that table
+     * @return this store
+     */
+    @NotNull
+    public JdbcMarketStore legacyTable(@Nullable String table, @NotNull LegacyColumns columns) {
+        this.legacyTable   = table == null || table.isBlank() ? null : table.trim();
+        this.legacyColumns = Objects.requireNonNull(columns);
+        return this;
+    }
+
+    /**
+     * Connects, creates the table if it does not exist and, while it is
+     * empty, imports the rows of the configured legacy table.
+     *
+     * @return the outcome of the import, or {@code null} if no legacy table is
+     *         configured or the market table already has rows
+     * @throws IOException if the database is unreachable or the import failed
+     */
+    @Nullable
+    public LegacyImport open() throws IOException {
+        try {
+            return importLegacy(connection());
+        } catch (SQLException e) {
+            throw new IOException("Cannot open " + name() + " market store", e);
+        }
+    }
+
+    @NotNull
+    private Connection connection() throws SQLException {
+        if (connection != null && connection.isValid(VALIDATE_SECONDS)) return connection;
+        closeConnection();
+        Connection c = connect();
+        try {
+            configure(c);
+            try (Statement st = c.createStatement()) {
+                st.executeUpdate(CREATE_TABLE);
+            }
+            upsert = c.prepareStatement(upsertSql());
+        } catch (SQLException e) {
+            c.close();
+            throw e;
+        }
+        connection = c;
+        return c;
+    }
+
+    // ── Legacy import ─────────────────────────────────────────────────────────
+
+    @Nullable
+    private LegacyImport importLegacy(@NotNull Connection c) throws SQLException {
+        if (legacyTable == null) return null;
+        try (Statement st = c.createStatement();
+             ResultSet rs = st.executeQuery("SELECT 1 FROM " + TABLE + " LIMIT 1")) {
+            if (rs.next()) return null;
+        }
+        Map<String, String> present = columns(c, legacyTable);
+        if (present.isEmpty()) return new LegacyImport(legacyTable, 0, "table not found");
+        String quote = c.getMetaData().getIdentifierQuoteString().trim();
+        String[] select = new String[4];
+        String[] names  = {legacyColumns.id(), legacyColumns.multiplier(),
+                           legacyColumns.totalSold(), legacyColumns.lastSell()};
+        for (int i = 0; i < names.length; i++) {
+            if (i >= 2 && names[i].isBlank()) {
+                select[i] = "0";
+                continue;
+            }
+            String column = present.get(names[i].toLowerCase(Locale.ROOT));
+            if (column == null) return new LegacyImport(legacyTable, 0, "no column " + names[i]);
+            select[i] = quote + column + quote;
+        }
+
+        String sql = "SELECT " + String.join(", ", select) + " FROM " + quote + legacyTable + quote;
+        long now = System.currentTimeMillis();
+        int rows = 0;
+        c.setAutoCommit(false);
+        try (Statement st = c.createStatement();
+             ResultSet rs = st.executeQuery(sql)) {
+            int batched = 0;
+            while (rs.next()) {
+                String id = rs.getString(1);
+                if (id == null || rs.getObject(2) == null) continue;
+                upsert.setString(1, id);
+                upsert.setDouble(2, rs.getDouble(2));
+                upsert.setLong(3, now);
+                upsert.setLong(4, rs.getLong(4));
+                upsert.setLong(5, rs.getLong(3));
+                upsert.addBatch();
+                rows++;
+                if (++batched == BATCH_SIZE) {
+                    upsert.executeBatch();
+                    batched = 0;
+                }
+            }
+            if (batched > 0) upsert.executeBatch();
+            c.commit();
+        } catch (SQLException e) {
+            upsert.clearBatch();
+            c.rollback();
+            throw new SQLException("Failed to import legacy table " + legacyTable, e);
+        } finally {
+            c.setAutoCommit(true);
+        }
+        return new LegacyImport(legacyTable, rows, null);
+    }
+
+    /** Column names of {@code table} keyed by their lower-case form; empty if there is no such table. */
+    @NotNull
+    private static Map<String, String> columns(@NotNull Connection c, @NotNull String table) throws SQLException {
+        Map<String, String> present = new HashMap<>();
+        try (ResultSet rs = c.getMetaData().getColumns(c.getCatalog(), null, table, "%")) {
+            while (rs.next()) {
+                if (!table.equalsIgnoreCase(rs.getString("TABLE_NAME"))) continue;
+                String name = rs.getString("COLUMN_NAME");
+                present.put(name.toLowerCase(Locale.ROOT), name);
+            }
+        }
+        return present;
+    }
+
+    private void closeConnection() throws SQLException {
+        if (connection == null) return;
+        try {
+            connection.close(); // closes the upsert statement too
+        } finally {
+            connection = null;
+            upsert     = null;
+        }
+    }
+
+    @Override
+    public int load(@NotNull MarketTable table, @NotNull ToIntFunction<String> ordinalOf) throws IOException {
+        int applied = 0;
+        try (Statement st = connection().createStatement();
+             ResultSet rs = st.executeQuery(SELECT_ALL)) {
+            while (rs.next()) {
+                int ordinal = ordinalOf.applyAsInt(rs.getString(1));
+                if (ordinal < 0) continue;
+                table.setPriceState(ordinal, PriceState.pack(rs.getDouble(2), rs.getLong(3)));
+                table.setLastSell(ordinal, rs.getLong(4));
+                table.setTotalSold(ordinal, rs.getLong(5));
+                applied++;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to load from " + name(), e);
+        }
+        return applied;
+    }
+
+    @Override
+    public void save(@NotNull MarketTable.Snapshot snapshot) throws IOException {
+        int[] rows = new int[snapshot.size()];
+        for (int i = 0; i < rows.length; i++) rows[i] = i;
+        saveDirty(snapshot, rows);
+    }
+
+    @Override
+    public void saveDirty(@NotNull MarketTable.Snapshot snapshot, @NotNull int[] rows) throws IOException {
+        try {
+            Connection c = connection();
+            c.setAutoCommit(false);
+            try {
+                int batched = 0;
+                for (int ordinal : rows) {
+                    long state = snapshot.priceStates()[ordinal];
+                    upsert.setString(1, snapshot.ids()[ordinal]);
+                    upsert.setDouble(2, PriceState.multiplier(state));
+                    upsert.setLong(3, PriceState.timestamp(state));
+                    upsert.setLong(4, snapshot.lastSell()[ordinal]);
+                    upsert.setLong(5, snapshot.totalSold()[ordinal]);
+                    upsert.addBatch();
+                    if (++batched == BATCH_SIZE) {
+                        upsert.executeBatch();
+                        batched = 0;
+                    }
+                }
+                if (batched > 0) upsert.executeBatch();
+                c.commit();
+            } catch (SQLException e) {
+                upsert.clearBatch();
+                c.rollback();
+                throw e;
+            } finally {
+                c.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to save " + rows.length + " rows to " + name(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            closeConnection();
+        } catch (SQLException e) {
+            throw new IOException("Failed to close " + name(), e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package dev.n1xend.dynamiceconomy.data.store;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.data.models.PriceState;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Stores rows in {@code market_data.json}, one object per item id.
+ *
+ * <p>The last written document is cached and patched with the changed rows
+ * on each save, which keeps rows of items no longer in the catalog. JSON is
+ * streamed with {@link JsonWriter}/{@link JsonReader} — no document tree —
+ * into a temporary file that is forced to disk and then atomically moved
+ * over the target, so a crash mid-save leaves the previous file intact.</p>
+ *
+ * <p>Prices are stored with the moment they were valid ({@code asOf}), so
+ * recovery since then is not lost. Files written before {@code asOf} existed
+ * hold a multiplier settled at save time and load as valid now.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class JsonMarketStore implements MarketStore {
+
+    /** One item's persisted state as stored in JSON. */
+    private record Row(double multiplier, long asOf, long lastSell, long totalSold) {}
+
+    private final Path    file;
+    private final Path    tmp;
+    private final boolean pretty;
+
+    // Last written document, patched with changed rows on each save
+    private final Map<String, Row> rows = new LinkedHashMap<>();
+
+    /**
+     * @param file   JSON file
+     * @param pretty indent the output
+     */
+    public JsonMarketStore(@NotNull Path file, boolean pretty) {
+        this.file   = file;
+        this.tmp    = file.resolveSibling(file.getFileName() + ".tmp");
+        this.pretty = pretty;
+    }
+
+    @NotNull
+    @Override
+    public String name() {
+        return file.getFileName().toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A file that cannot be parsed is renamed to {@code .bad} before the
+     * exception is thrown, so the next save does not overwrite it.</p>
+     */
+    @Override
+    public int load(@NotNull MarketTable table, @NotNull ToIntFunction<String> ordinalOf) throws IOException {
+        rows.clear();
+        if (!Files.exists(file)) return 0;
+        int applied = 0;
+        try (JsonReader in = new JsonReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            in.beginObject();
+            while (in.hasNext()) {
+                String id = in.nextName();
+                Row row = readRow(in);
+                rows.put(id, row);
+                int ordinal = ordinalOf.applyAsInt(id);
+                if (ordinal < 0) continue;
+                table.setPriceState(ordinal, PriceState.pack(row.multiplier(), row.asOf()));
+                table.setLastSell(ordinal, row.lastSell());
+                table.setTotalSold(ordinal, row.totalSold());
+                applied++;
+            }
+            in.endObject();
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            rows.clear();
+            IOException failure = e instanceof IOException io ? io : new IOException("Malformed " + name(), e);
+            try {
+                Files.move(file, file.resolveSibling(file.getFileName() + ".bad"), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException moveFailed) {
+                failure.addSuppressed(moveFailed);
+            }
+            throw failure;
+        }
+        return applied;
+    }
+
+    @NotNull
+    private static Row readRow(@NotNull JsonReader in) throws IOException {
+        double multiplier = 1.0;
+        long asOf = -1, lastSell = 0, totalSold = 0;
+        in.beginObject();
+        while (in.hasNext()) {
+            String field = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.skipValue();
+                continue;
+            }
+            switch (field) {
+                case "multiplier" -> multiplier = in.nextDouble();
+                case "asOf"       -> asOf       = in.nextLong();
+                case "lastSell"   -> lastSell   = in.nextLong();
+                case "totalSold"  -> totalSold  = in.nextLong();
+                default           -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new Row(multiplier, asOf >= 0 ? asOf : System.currentTimeMillis(), lastSell, totalSold);
+    }
+
+    @Override
+    public void save(@NotNull MarketTable.Snapshot snapshot) throws IOException {
+        for (int i = 0; i < snapshot.size(); i++) put(snapshot, i);
+        write();
+    }
+
+    @Override
+    public void saveDirty(@NotNull MarketTable.Snapshot snapshot, @NotNull int[] changed) throws IOException {
+        for (int ordinal : changed) put(snapshot, ordinal);
+        write();
+    }
+
+    private void put(@NotNull MarketTable.Snapshot snapshot, int ordinal) {
+        long state = snapshot.priceStates()[ordinal];
+        rows.put(snapshot.ids()[ordinal], new Row(PriceState.multiplier(state), PriceState.timestamp(state),
+            snapshot.lastSell()[ordinal], snapshot.totalSold()[ordinal]));
+    }
+
+    private void write() throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                 StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             JsonWriter out = new JsonWriter(new BufferedWriter(Channels.newWriter(ch, StandardCharsets.UTF_8)))) {
+            if (pretty) out.setIndent("  ");
+            out.beginObject();
+            for (Map.Entry<String, Row> e : rows.entrySet()) {
+                Row row = e.getValue();
+                out.name(e.getKey()).beginObject()
+                   .name("multiplier").value(row.multiplier())
+                   .name("asOf").value(row.asOf())
+                   .name("lastSell").value(row.lastSell())
+                   .name("totalSold").value(row.totalSold())
+                   .endObject();
+            }
+            out.endObject();
+            out.flush();
+            ch.force(true);
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public void close() {
+        rows.clear();
+    }
+}
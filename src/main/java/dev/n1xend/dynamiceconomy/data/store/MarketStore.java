@@ -0,0 +1,62 @@
+package dev.n1xend.dynamiceconomy.data.store;
+
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.function.ToIntFunction;
+
+/**
+ * Backend that persists the market rows of a {@link MarketTable}.
+ *
+ * <p>Stores work from {@link MarketTable.Snapshot}s, never from the live
+ * table, so they can run on the save thread. Calls are not concurrent:
+ * {@code DataManager} serializes load, save and close, and always loads
+ * before the first save — a store may rely on what it read.</p>
+ *
+ * <p>Prices round-trip exactly: a store keeps the packed price state, or
+ * the multiplier and the moment it was valid, from which it is rebuilt.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public interface MarketStore extends AutoCloseable {
+
+    /** Short name for logs, e.g. {@code "market_data.json"} or {@code "SQLite"}. */
+    @NotNull
+    String name();
+
+    /**
+     * Applies every stored row whose item still exists to {@code table}.
+     *
+     * @param table     table to write rows into
+     * @param ordinalOf item id to row ordinal, negative if the item no longer exists
+     * @return number of rows applied
+     * @throws IOException if the store cannot be read
+     */
+    int load(@NotNull MarketTable table, @NotNull ToIntFunction<String> ordinalOf) throws IOException;
+
+    /**
+     * Writes every row of a snapshot.
+     *
+     * @param snapshot rows to write
+     * @throws IOException if the write fails; the store keeps its previous content
+     */
+    void save(@NotNull MarketTable.Snapshot snapshot) throws IOException;
+
+    /**
+     * Writes at least the given rows of a snapshot. A store may write the
+     * other rows too — every row of a snapshot is current — but must keep
+     * the stored state of every item in the snapshot.
+     *
+     * @param snapshot state of every row
+     * @param rows     ordinals to write
+     * @throws IOException if the write fails; the store keeps its previous content
+     */
+    void saveDirty(@NotNull MarketTable.Snapshot snapshot, @NotNull int[] rows) throws IOException;
+
+    /** Releases files or connections. Further calls are not allowed. */
+    @Override
+    void close() throws IOException;
+}
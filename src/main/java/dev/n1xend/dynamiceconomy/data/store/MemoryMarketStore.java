@@ -0,0 +1,63 @@
+package dev.n1xend.dynamiceconomy.data.store;
+
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Keeps rows on the heap. Nothing survives a restart — this is the
+ * baseline for store benchmarks and a stand-in for tests.
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class MemoryMarketStore implements MarketStore {
+
+    // id -> {price state, last sell, total sold}
+    private final Map<String, long[]> rows = new HashMap<>();
+
+    @NotNull
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    @Override
+    public int load(@NotNull MarketTable table, @NotNull ToIntFunction<String> ordinalOf) {
+        int applied = 0;
+        for (Map.Entry<String, long[]> e : rows.entrySet()) {
+            int ordinal = ordinalOf.applyAsInt(e.getKey());
+            if (ordinal < 0) continue;
+            long[] row = e.getValue();
+            table.setPriceState(ordinal, row[0]);
+            table.setLastSell(ordinal, row[1]);
+            table.setTotalSold(ordinal, row[2]);
+            applied++;
+        }
+        return applied;
+    }
+
+    @Override
+    public void save(@NotNull MarketTable.Snapshot snapshot) {
+        for (int i = 0; i < snapshot.size(); i++) put(snapshot, i);
+    }
+
+    @Override
+    public void saveDirty(@NotNull MarketTable.Snapshot snapshot, @NotNull int[] rows) {
+        for (int ordinal : rows) put(snapshot, ordinal);
+    }
+
+    private void put(@NotNull MarketTable.Snapshot snapshot, int ordinal) {
+        rows.put(snapshot.ids()[ordinal], new long[]{
+            snapshot.priceStates()[ordinal], snapshot.lastSell()[ordinal], snapshot.totalSold()[ordinal]});
+    }
+
+    @Override
+    public void close() {
+        // nothing to release
+    }
+}
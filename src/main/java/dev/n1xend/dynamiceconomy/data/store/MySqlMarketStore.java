@@ -0,0 +1,68 @@
+package dev.n1xend.dynamiceconomy.data.store;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * {@link JdbcMarketStore} on a MySQL or MariaDB server, using the
+ * Connector/J driver that ships with the server.
+ *
+ * <p>Connects with {@code rewriteBatchedStatements} and {@code tcpKeepAlive}
+ * on; the {@code database.properties} section of config.yml is applied on
+ * top, so any driver property — {@code useSSL}, {@code sslMode},
+ * {@code serverTimezone} — can be set or overridden there.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class MySqlMarketStore extends JdbcMarketStore {
+
+    private final String     url;
+    private final Properties properties = new Properties();
+
+    public MySqlMarketStore(@NotNull String host, int port, @NotNull String database,
+                            @NotNull String user, @NotNull String password) {
+        this(host, port, database, user, password, Map.of());
+    }
+
+    /**
+     * @param properties JDBC driver properties; they override the defaults
+     */
+    public MySqlMarketStore(@NotNull String host, int port, @NotNull String database,
+                            @NotNull String user, @NotNull String password,
+                            @NotNull Map<String, String> properties) {
+        this.url = "jdbc:mysql://" + host + ":" + port + "/" + database;
+        // rewriteBatchedStatements turns a JDBC batch into multi-row INSERTs — one round trip per batch
+        this.properties.setProperty("rewriteBatchedStatements", "true");
+        this.properties.setProperty("tcpKeepAlive", "true");
+        this.properties.putAll(properties);
+        this.properties.setProperty("user", user);
+        this.properties.setProperty("password", password);
+    }
+
+    @NotNull
+    @Override
+    public String name() {
+        return "MySQL";
+    }
+
+    @NotNull
+    @Override
+    protected Connection connect() throws SQLException {
+        return DriverManager.getConnection(url, properties);
+    }
+
+    @NotNull
+    @Override
+    protected String upsertSql() {
+        return "INSERT INTO " + TABLE + " (id, multiplier, as_of, last_sell, total_sold) VALUES (?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE multiplier = VALUES(multiplier), as_of = VALUES(as_of), "
+            + "last_sell = VALUES(last_sell), total_sold = VALUES(total_sold)";
+    }
+}
@@ -1,8 +1,10 @@
 package dev.n1xend.dynamiceconomy.gui;
 
 import dev.n1xend.dynamiceconomy.DynamicEconomy;
+import dev.n1xend.dynamiceconomy.config.EconomyConfig;
 import dev.n1xend.dynamiceconomy.data.models.MarketCategory;
 import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import dev.n1xend.dynamiceconomy.session.PlayerSession;
 import dev.n1xend.dynamiceconomy.utils.GUIHelper;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -13,7 +15,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Category listing GUI — paginated items with sell/buy price info.
@@ -82,9 +83,10 @@ public final class CategoryGui {
         inv.setItem(SLOT_HEADER, buildHeader(cat, hot));
 
         // Save state
-        UUID uuid = player.getUniqueId();
-        plugin.getGuiStateStore().setCategory(uuid, categoryId);
-        plugin.getGuiStateStore().setPage(uuid, page);
+        PlayerSession session = plugin.getGuiStateStore().session(player.getUniqueId());
+        if (session == null) return;   // quit before a delayed reopen ran
+        session.setCategory(categoryId);
+        session.setPage(page);
 
         player.openInventory(inv);
     }
@@ -92,27 +94,37 @@ public final class CategoryGui {
     // ── Builders ──────────────────────────────────────────────────────────────
 
     private ItemStack buildItemSlot(@NotNull MarketItem item, @NotNull MarketCategory cat) {
+        boolean hot      = cat.isHotCategory();
+        boolean contract = plugin.getContractService().hasActiveContractFor(item.getId());
+        String  prefix   = (contract ? "§a📦 " : "") + (hot ? "§6🔥 " : "");
+        return GUIHelper.item(item.getMaterial(), prefix + item.getDisplayName(),
+                buildItemLore(item, cat, contract));
+    }
+
+    /**
+     * Builds the lore of one item slot — everything except the ItemStack itself.
+     * Package-private so the rendering cost can be benchmarked without a server.
+     */
+    @NotNull
+    List<String> buildItemLore(@NotNull MarketItem item, @NotNull MarketCategory cat, boolean contract) {
+        EconomyConfig config = plugin.getConfigManager().snapshot();
         double mult      = item.getCurrentMultiplier();
         double seasonal  = cat.getSeasonalMultiplier();
         double tax       = plugin.getEconomyService().getPriceCalculator().getSellTaxRate();
         double sellPrice = item.getCurrentPrice() * seasonal * (1.0 - tax);
-        double buyPrice  = item.getCurrentPrice()
-                * plugin.getConfig().getDouble("buy-mode.spread-multiplier", 1.3);
+        double buyPrice  = item.getCurrentPrice() * config.buySpreadMultiplier();
         boolean hot      = cat.isHotCategory();
-        boolean contract = plugin.getContractService().hasActiveContractFor(item.getId());
-
-        String prefix = (contract ? "§a📦 " : "") + (hot ? "§6🔥 " : "");
 
         List<String> lore = new ArrayList<>();
         lore.add(GUIHelper.color("&8▔▔▔▔▔▔▔▔▔▔▔▔▔▔▔▔▔▔"));
         lore.add(GUIHelper.color("&7Продать (ЛКМ): &a" + GUIHelper.formatPrice(sellPrice)));
-        if (plugin.getConfig().getBoolean("buy-mode.enabled", true)) {
+        if (config.buyModeEnabled()) {
             lore.add(GUIHelper.color("&7Купить  (ПКМ): &e" + GUIHelper.formatPrice(buyPrice)));
         }
         lore.add("");
         lore.add(GUIHelper.color("&7Уровень цены:"));
         lore.add(GUIHelper.color(
-                GUIHelper.bar(mult, plugin.getConfigManager().getMinPriceMultiplier(), 1.0)
+                GUIHelper.bar(mult, config.minPriceMultiplier(), 1.0)
                 + " " + GUIHelper.priceColor(mult)
                 + String.format("%.0f%%", mult * 100)));
         lore.add(GUIHelper.color("&7Тренд: " + GUIHelper.trendArrow(mult)
@@ -125,13 +137,12 @@ public final class CategoryGui {
         }
         if (contract) {
             lore.add(GUIHelper.color("&a📦 Контракт! +"
-                    + (int)(plugin.getConfigManager().getContractBonusMultiplier()*100) + "% бонус"));
+                    + (int)(config.contractBonusMultiplier()*100) + "% бонус"));
         }
         lore.add("");
         lore.add(GUIHelper.color("&eЛКМ &7→ продать всё  &8|  &eПКМ &7→ купить"));
         lore.add(GUIHelper.color("&eShift+ЛКМ &7→ продать 1 шт"));
-
-        return GUIHelper.item(item.getMaterial(), prefix + item.getDisplayName(), lore);
+        return lore;
     }
 
     private ItemStack buildHeader(@NotNull MarketCategory cat, boolean hot) {
@@ -1,15 +1,20 @@
 package dev.n1xend.dynamiceconomy.gui;
 
+import dev.n1xend.dynamiceconomy.session.PlayerSession;
+import dev.n1xend.dynamiceconomy.session.SessionService;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 /**
  * Per-player navigation state for all GUI screens.
  *
+ * <p>The state itself lives in each player's {@link PlayerSession};
+ * this class is a UUID-keyed view over
+ * {@link SessionService}. Hot paths that touch several fields should fetch
+ * the session once via {@link #session(UUID)}.</p>
+ *
  * @author n1xend
  * @version 1.2.2
  */
@@ -17,80 +22,90 @@ public final class GuiStateStore {
 
     public enum SellMode { ALL, STACK, ONE }
 
-    // ── Shop state ────────────────────────────────────────────────────────────
-    private final Map<UUID, String>   category   = new HashMap<>();
-    private final Map<UUID, Integer>  page       = new HashMap<>();
-    private final Map<UUID, String>   sellItem   = new HashMap<>();
-    private final Map<UUID, Integer>  sellAmount = new HashMap<>();
-    private final Map<UUID, SellMode> sellMode   = new HashMap<>();
+    private final SessionService sessions;
+
+    public GuiStateStore(@NotNull SessionService sessions) {
+        this.sessions = sessions;
+    }
 
-    // ── Auction state ─────────────────────────────────────────────────────────
-    private final Map<UUID, Integer> auctionPage = new HashMap<>();
-    private final Map<UUID, String>  auctionMode = new HashMap<>(); // "ALL" or "MY"
+    /** Returns the player's session, or null once the player has quit. */
+    @Nullable
+    public PlayerSession session(@NotNull UUID uuid) {
+        return sessions.peek(uuid);
+    }
 
     // ── Shop ──────────────────────────────────────────────────────────────────
 
     public void setCategory(@Nullable UUID uuid, @Nullable String catId) {
-        if (uuid != null) category.put(uuid, catId);
+        PlayerSession s = sessions.peek(uuid);
+        if (s != null) s.setCategory(catId);
     }
     @Nullable public String getCategory(@Nullable UUID uuid) {
-        return uuid == null ? null : category.get(uuid);
+        PlayerSession s = sessions.peek(uuid);
+        return s == null ? null : s.getCategory();
     }
 
     public void setPage(@Nullable UUID uuid, int p) {
-        if (uuid != null) page.put(uuid, p);
+        PlayerSession s = sessions.peek(uuid);
+        if (s != null) s.setPage(p);
     }
     public int getPage(@Nullable UUID uuid) {
-        return uuid == null ? 0 : page.getOrDefault(uuid, 0);
+        PlayerSession s = sessions.peek(uuid);
+        return s == null ? 0 : s.getPage();
     }
 
     public void setSellItem(@Nullable UUID uuid, @Nullable String matId) {
-        if (uuid != null) sellItem.put(uuid, matId);
+        PlayerSession s = sessions.peek(uuid);
+        if (s != null) s.setSellItem(matId);
     }
     @Nullable public String getSellItem(@Nullable UUID uuid) {
-        return uuid == null ? null : sellItem.get(uuid);
+        PlayerSession s = sessions.peek(uuid);
+        return s == null ? null : s.getSellItem();
     }
 
     public void setSellAmount(@Nullable UUID uuid, int a) {
-        if (uuid != null) sellAmount.put(uuid, a);
+        PlayerSession s = sessions.peek(uuid);
+        if (s != null) s.setSellAmount(a);
     }
     public int getSellAmount(@Nullable UUID uuid) {
-        return uuid == null ? 0 : sellAmount.getOrDefault(uuid, 0);
+        PlayerSession s = sessions.peek(uuid);
+        return s == null ? 0 : s.getSellAmount();
     }
 
     public void setSellMode(@Nullable UUID uuid, @Nullable SellMode m) {
-        if (uuid != null && m != null) sellMode.put(uuid, m);
+        PlayerSession s = sessions.peek(uuid);
+        if (s != null && m != null) s.setSellMode(m);
     }
     @NotNull public SellMode getSellMode(@Nullable UUID uuid) {
-        return uuid == null ? SellMode.ALL : sellMode.getOrDefault(uuid, SellMode.ALL);
+        PlayerSession s = sessions.peek(uuid);
+        return s == null ? SellMode.ALL : s.getSellMode();
     }
 
     // ── Auction ───────────────────────────────────────────────────────────────
 
     public void setAuctionPage(@Nullable UUID uuid, int p) {
-        if (uuid != null) auctionPage.put(uuid, p);
+        PlayerSession s = sessions.peek(uuid);
+        if (s != null) s.setAuctionPage(p);
     }
     public int getAuctionPage(@Nullable UUID uuid) {
-        return uuid == null ? 0 : auctionPage.getOrDefault(uuid, 0);
+        PlayerSession s = sessions.peek(uuid);
+        return s == null ? 0 : s.getAuctionPage();
     }
 
     public void setAuctionMode(@Nullable UUID uuid, @Nullable String mode) {
-        if (uuid != null && mode != null) auctionMode.put(uuid, mode);
+        PlayerSession s = sessions.peek(uuid);
+        if (s != null && mode != null) s.setAuctionMyLots(mode.equals("MY"));
     }
     @NotNull public String getAuctionMode(@Nullable UUID uuid) {
-        return uuid == null ? "ALL" : auctionMode.getOrDefault(uuid, "ALL");
+        PlayerSession s = sessions.peek(uuid);
+        return s != null && s.isAuctionMyLots() ? "MY" : "ALL";
     }
 
     // ── Cleanup ───────────────────────────────────────────────────────────────
 
+    /** Resets the player's navigation state; the session itself is dropped on quit. */
     public void cleanup(@Nullable UUID uuid) {
-        if (uuid == null) return;
-        category.remove(uuid);
-        page.remove(uuid);
-        sellItem.remove(uuid);
-        sellAmount.remove(uuid);
-        sellMode.remove(uuid);
-        auctionPage.remove(uuid);
-        auctionMode.remove(uuid);
+        PlayerSession s = sessions.peek(uuid);
+        if (s != null) s.clearGui();
     }
 }
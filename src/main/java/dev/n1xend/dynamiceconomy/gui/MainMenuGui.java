@@ -53,8 +53,8 @@ public final class MainMenuGui {
         boolean hot = cat.getId().equals(plugin.getEconomyService().getHotCategoryId());
         String name = cat.getDisplayName() + (hot ? " §6🔥" : "");
 
-        double avg = cat.getItems().stream()
-                .mapToDouble(i -> i.getCurrentMultiplier()).average().orElse(1.0);
+        double avg = plugin.getEconomyService().getTable()
+                .averageMultiplier(cat.getOrdinals(), System.currentTimeMillis());
 
         List<String> lore = new ArrayList<>();
         lore.add(cat.getDescription());
@@ -3,6 +3,7 @@ package dev.n1xend.dynamiceconomy.gui;
 import dev.n1xend.dynamiceconomy.DynamicEconomy;
 import dev.n1xend.dynamiceconomy.data.models.MarketCategory;
 import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import dev.n1xend.dynamiceconomy.session.PlayerSession;
 import dev.n1xend.dynamiceconomy.utils.GUIHelper;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -13,7 +14,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Sell confirmation screen (3-row, 27 slots).
@@ -83,10 +83,11 @@ public final class SellConfirmGui {
                 List.of(GUIHelper.color("&7Вернуться в категорию"))));
 
         // Store state for listener
-        UUID uuid = player.getUniqueId();
-        plugin.getGuiStateStore().setSellItem(uuid, materialId);
-        plugin.getGuiStateStore().setSellAmount(uuid, toSell);
-        plugin.getGuiStateStore().setSellMode(uuid, mode);
+        PlayerSession session = plugin.getGuiStateStore().session(player.getUniqueId());
+        if (session == null) return;   // quit before a delayed reopen ran
+        session.setSellItem(materialId);
+        session.setSellAmount(toSell);
+        session.setSellMode(mode);
 
         player.openInventory(inv);
     }
@@ -8,6 +8,7 @@ import dev.n1xend.dynamiceconomy.data.models.MarketItem;
 import dev.n1xend.dynamiceconomy.gui.*;
 import dev.n1xend.dynamiceconomy.services.BuyService;
 import dev.n1xend.dynamiceconomy.services.EconomyService;
+import dev.n1xend.dynamiceconomy.session.PlayerSession;
 import dev.n1xend.dynamiceconomy.utils.GUIHelper;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -123,9 +124,7 @@ public final class GuiListener implements Listener {
     private void handleCategory(@NotNull Player player, @NotNull String catId,
                                   int slot, @NotNull ItemStack clicked,
                                   @NotNull ClickType click) {
-        UUID          uuid  = player.getUniqueId();
-        GuiStateStore store = plugin.getGuiStateStore();
-        int           pg    = store.getPage(uuid);
+        int pg = plugin.getGuiStateStore().getPage(player.getUniqueId());
 
         if (slot == CategoryGui.SLOT_BACK)   { mainMenuGui.open(player); return; }
         if (slot == CategoryGui.SLOT_PREV)   { categoryGui.open(player, catId, Math.max(0, pg - 1)); return; }
@@ -137,7 +136,7 @@ public final class GuiListener implements Listener {
         if (item == null) return;
 
         if (click == ClickType.RIGHT || click == ClickType.SHIFT_RIGHT) {
-            if (plugin.getConfig().getBoolean("buy-mode.enabled", true)) {
+            if (plugin.getConfigManager().isBuyModeEnabled()) {
                 buyConfirmGui.open(player, item.getId());
             }
         } else {
@@ -151,20 +150,20 @@ public final class GuiListener implements Listener {
     // ── Sell Confirm ──────────────────────────────────────────────────────────
 
     private void handleSellConfirm(@NotNull Player player, @NotNull String materialId, int slot) {
-        UUID          uuid  = player.getUniqueId();
-        GuiStateStore store = plugin.getGuiStateStore();
+        PlayerSession session = plugin.getGuiStateStore().session(player.getUniqueId());
+        if (session == null) return;
 
         if (slot == SellConfirmGui.getCancelSlot()) {
-            String catId = store.getCategory(uuid);
-            if (catId != null) categoryGui.open(player, catId, store.getPage(uuid));
+            String catId = session.getCategory();
+            if (catId != null) categoryGui.open(player, catId, session.getPage());
             else               mainMenuGui.open(player);
             return;
         }
 
         if (slot == SellConfirmGui.getConfirmSlot()) {
-            String resolvedId = store.getSellItem(uuid);
+            String resolvedId = session.getSellItem();
             if (resolvedId == null) resolvedId = materialId;
-            int amount = store.getSellAmount(uuid);
+            int amount = session.getSellAmount();
 
             EconomyService.SellData result =
                     plugin.getEconomyService().trySell(player, resolvedId, amount);
@@ -177,8 +176,8 @@ public final class GuiListener implements Listener {
 
             sendSellFeedback(player, result, amount);
 
-            String fCat  = store.getCategory(uuid);
-            int    fPage = store.getPage(uuid);
+            String fCat  = session.getCategory();
+            int    fPage = session.getPage();
             plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
                 if (fCat != null) categoryGui.open(player, fCat, fPage);
                 else              mainMenuGui.open(player);
@@ -189,12 +188,12 @@ public final class GuiListener implements Listener {
     // ── Buy Confirm ───────────────────────────────────────────────────────────
 
     private void handleBuyConfirm(@NotNull Player player, @NotNull String materialId, int slot) {
-        UUID          uuid  = player.getUniqueId();
-        GuiStateStore store = plugin.getGuiStateStore();
+        PlayerSession session = plugin.getGuiStateStore().session(player.getUniqueId());
+        if (session == null) return;
 
         if (slot == BuyConfirmGui.getBackSlot()) {
-            String catId = store.getCategory(uuid);
-            if (catId != null) categoryGui.open(player, catId, store.getPage(uuid));
+            String catId = session.getCategory();
+            if (catId != null) categoryGui.open(player, catId, session.getPage());
             else               mainMenuGui.open(player);
             return;
         }
@@ -215,13 +214,12 @@ public final class GuiListener implements Listener {
     // ── Auction ───────────────────────────────────────────────────────────────
 
     private void handleAuction(@NotNull Player player, @NotNull String meta, int slot) {
-        UUID          uuid  = player.getUniqueId();
-        GuiStateStore store = plugin.getGuiStateStore();
+        UUID uuid = player.getUniqueId();
 
         // meta format: "MODE:page"  e.g. "ALL:0" or "MY:2"
         String[] parts = meta.split(":", 2);
         String   mode  = parts.length > 0 ? parts[0] : "ALL";
-        int      pg    = store.getAuctionPage(uuid);
+        int      pg    = plugin.getGuiStateStore().getAuctionPage(uuid);
 
         if (slot == AuctionGui.SLOT_PREV) {
             if (mode.equals("MY")) auctionGui.openMyLots(player, Math.max(0, pg - 1));
@@ -292,6 +290,7 @@ public final class GuiListener implements Listener {
             case COOLDOWN         -> p.sendMessage("§cПодождите перед следующей продажей.");
             case NOT_ENOUGH_ITEMS -> p.sendMessage("§cНедостаточно §e" + d.itemDisplayName());
             case ITEM_NOT_SOLD    -> p.sendMessage("§cЭтот предмет не принимается.");
+            case INVALID_AMOUNT   -> p.sendMessage("§cНеверное количество.");
         }
     }
 
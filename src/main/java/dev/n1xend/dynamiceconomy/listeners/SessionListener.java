@@ -0,0 +1,35 @@
+package dev.n1xend.dynamiceconomy.listeners;
+
+import dev.n1xend.dynamiceconomy.session.SessionService;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Opens a {@link dev.n1xend.dynamiceconomy.session.PlayerSession} on join and drops it on quit.
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class SessionListener implements Listener {
+
+    private final SessionService sessions;
+
+    public SessionListener(@NotNull SessionService sessions) {
+        this.sessions = sessions;
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(@NotNull PlayerJoinEvent event) {
+        sessions.open(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(@NotNull PlayerQuitEvent event) {
+        sessions.close(event.getPlayer().getUniqueId());
+    }
+}
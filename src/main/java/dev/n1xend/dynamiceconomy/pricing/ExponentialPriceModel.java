@@ -0,0 +1,60 @@
+package dev.n1xend.dynamiceconomy.pricing;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Exponential decay toward the floor: the first stacks hurt most, later stacks
+ * less, and the price approaches the minimum without overshooting it.
+ * Recovery closes the gap to base by a constant fraction per hour.
+ *
+ * <pre>
+ * sale:     floor + (m - floor) × e^(-k × stacks),  k = dropPerStack × elasticity / (1 - floor)
+ * recovery: 1 - (1 - m) × e^(-recoveryPerHour × hours / (1 - floor))
+ * </pre>
+ *
+ * <p>{@code k} is chosen so the first stack sold at base price drops the
+ * multiplier by the same amount as {@link LinearPriceModel}.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class ExponentialPriceModel implements PriceModel {
+
+    private final double elasticity;
+    private final double floor;
+    private final double span;
+
+    /**
+     * @param elasticity scale applied to the configured drop (1.0 = as configured)
+     * @param floor      multiplier the curve decays toward (usually the configured minimum)
+     */
+    public ExponentialPriceModel(double elasticity, double floor) {
+        this.elasticity = elasticity;
+        this.floor      = floor;
+        this.span       = Math.max(1e-6, 1.0 - floor);
+    }
+
+    @Override
+    public double afterSale(double current, double stacks, double dropPerStack) {
+        if (current <= floor) return current;
+        double k = dropPerStack * elasticity / span;
+        return floor + (current - floor) * Math.exp(-k * stacks);
+    }
+
+    @Override
+    public double recover(double stored, double hours, double recoveryPerHour) {
+        return 1.0 - (1.0 - stored) * Math.exp(-recoveryPerHour * hours / span);
+    }
+
+    @NotNull
+    @Override
+    public String id() {
+        return "exponential";
+    }
+
+    @Override
+    public String toString() {
+        return "exponential(elasticity=" + elasticity + ", floor=" + floor + ")";
+    }
+}
@@ -0,0 +1,52 @@
+package dev.n1xend.dynamiceconomy.pricing;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The original curve: each stack drops the multiplier by a fixed step,
+ * recovery adds a fixed amount per hour.
+ *
+ * <pre>
+ * sale:     m - dropPerStack × elasticity × stacks
+ * recovery: m + recoveryPerHour × hours
+ * </pre>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class LinearPriceModel implements PriceModel {
+
+    /** Linear model with the configured drop as-is; the default for every item. */
+    public static final LinearPriceModel DEFAULT = new LinearPriceModel(1.0);
+
+    private final double elasticity;
+
+    /**
+     * @param elasticity scale applied to the configured drop (1.0 = as configured)
+     */
+    public LinearPriceModel(double elasticity) {
+        this.elasticity = elasticity;
+    }
+
+    @Override
+    public double afterSale(double current, double stacks, double dropPerStack) {
+        return current - dropPerStack * elasticity * stacks;
+    }
+
+    @Override
+    public double recover(double stored, double hours, double recoveryPerHour) {
+        return stored + recoveryPerHour * hours;
+    }
+
+    @NotNull
+    @Override
+    public String id() {
+        return "linear";
+    }
+
+    @Override
+    public String toString() {
+        return "linear(elasticity=" + elasticity + ")";
+    }
+}
@@ -0,0 +1,91 @@
+package dev.n1xend.dynamiceconomy.pricing;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * S-shaped curve between the floor and base price: the market shrugs off the
+ * first sales, is most elastic in the middle and flattens near the floor.
+ * Sales and recovery move a latent supply coordinate {@code x} linearly;
+ * the multiplier is its logistic image.
+ *
+ * <pre>
+ * m = floor + (1 - floor) × σ(x),  σ(x) = 1 / (1 + e^-x)
+ * sale:     x - 4 × dropPerStack × elasticity × stacks / (1 - floor)
+ * recovery: x + 4 × recoveryPerHour × hours / (1 - floor)
+ * </pre>
+ *
+ * <p>The factor 4 makes the mid-curve slope equal the linear model's.
+ * Multipliers above base (hot events, admin overrides) fall back to linear
+ * until they are back at base.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class LogisticPriceModel implements PriceModel {
+
+    // Keeps x finite at the ends of the curve. Results are kept on the requested
+    // side of the input, so the clamp never moves a price the wrong way
+    private static final double EDGE = 1e-3;
+
+    private final double elasticity;
+    private final double floor;
+    private final double span;
+
+    /**
+     * @param elasticity scale applied to the configured drop (1.0 = as configured)
+     * @param floor      lower asymptote (usually the configured minimum)
+     */
+    public LogisticPriceModel(double elasticity, double floor) {
+        this.elasticity = elasticity;
+        this.floor      = floor;
+        this.span       = Math.max(1e-6, 1.0 - floor);
+    }
+
+    @Override
+    public double afterSale(double current, double stacks, double dropPerStack) {
+        double drop = dropPerStack * elasticity * stacks;
+        if (current > 1.0) {
+            double above = current - 1.0;
+            if (drop <= above) return current - drop;
+            // Spend the part above base linearly, the rest on the curve
+            stacks  *= (drop - above) / drop;
+            current  = 1.0;
+        }
+        if (current <= floor) return current;
+        double x = logit(current) - 4.0 * dropPerStack * elasticity * stacks / span;
+        return Math.min(current, sigmoid(x));
+    }
+
+    @Override
+    public double recover(double stored, double hours, double recoveryPerHour) {
+        if (stored < floor) stored = floor;
+        double dx = 4.0 * recoveryPerHour * hours / span;
+        if ((stored - floor) / span > 1.0 - EDGE) {
+            // Past the clamp: keep climbing at the curve's slope there
+            return stored + span * EDGE * (1.0 - EDGE) * dx;
+        }
+        return Math.max(stored, sigmoid(logit(stored) + dx));
+    }
+
+    @NotNull
+    @Override
+    public String id() {
+        return "logistic";
+    }
+
+    private double logit(double m) {
+        double u = (m - floor) / span;
+        u = Math.max(EDGE, Math.min(1.0 - EDGE, u));
+        return Math.log(u / (1.0 - u));
+    }
+
+    private double sigmoid(double x) {
+        return floor + span / (1.0 + Math.exp(-x));
+    }
+
+    @Override
+    public String toString() {
+        return "logistic(elasticity=" + elasticity + ", floor=" + floor + ")";
+    }
+}
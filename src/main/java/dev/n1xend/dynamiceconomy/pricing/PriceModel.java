@@ -0,0 +1,46 @@
+package dev.n1xend.dynamiceconomy.pricing;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Shape of an item's price response to sales and of its recovery toward base.
+ *
+ * <p>Rates come from config ({@code economy.price-drop-per-stack},
+ * {@code economy.price-recovery-per-hour}); a model only decides how they
+ * bend the curve. The caller clamps the result to the configured bounds.</p>
+ *
+ * <p>Implementations are final, immutable and allocation-free. A server that
+ * uses one model everywhere keeps the call sites in {@code PriceCalculator}
+ * and {@code MarketTable} monomorphic, so the JIT inlines the math.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public interface PriceModel {
+
+    /**
+     * Returns the multiplier after a sale, before clamping to the configured minimum.
+     *
+     * @param current      multiplier before the sale (recovery already applied)
+     * @param stacks       units sold / 64
+     * @param dropPerStack configured linear drop per 64 units
+     * @return multiplier after the sale
+     */
+    double afterSale(double current, double stacks, double dropPerStack);
+
+    /**
+     * Returns the multiplier after {@code hours} of recovery from {@code stored}.
+     * Only called for {@code stored < 1.0}; callers cap the result at 1.0.
+     *
+     * @param stored          multiplier at the start of the interval
+     * @param hours           elapsed hours, positive
+     * @param recoveryPerHour configured recovery rate
+     * @return recovered multiplier
+     */
+    double recover(double stored, double hours, double recoveryPerHour);
+
+    /** Returns the items.yml identifier of this model ({@code linear}, {@code exponential}, ...). */
+    @NotNull
+    String id();
+}
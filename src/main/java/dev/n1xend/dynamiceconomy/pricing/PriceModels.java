@@ -0,0 +1,48 @@
+package dev.n1xend.dynamiceconomy.pricing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Creates {@link PriceModel}s from their items.yml identifiers.
+ *
+ * <pre>
+ * categories:
+ *   mining:
+ *     price-model:
+ *       type: exponential   # linear | exponential | logistic
+ *       elasticity: 1.5     # scales economy.price-drop-per-stack
+ * </pre>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class PriceModels {
+
+    public static final String DEFAULT_TYPE = "linear";
+
+    private PriceModels() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Builds a model, or returns null if {@code type} is unknown.
+     *
+     * @param type       model identifier, case-insensitive
+     * @param elasticity scale applied to the configured drop
+     * @param floor      configured minimum multiplier
+     * @return model instance, or null for an unknown type
+     */
+    @Nullable
+    public static PriceModel create(@NotNull String type, double elasticity, double floor) {
+        return switch (type.toLowerCase(Locale.ROOT)) {
+            case "linear"      -> elasticity == 1.0 ? LinearPriceModel.DEFAULT : new LinearPriceModel(elasticity);
+            case "exponential" -> new ExponentialPriceModel(elasticity, floor);
+            case "logistic"    -> new LogisticPriceModel(elasticity, floor);
+            default            -> null;
+        };
+    }
+}
@@ -0,0 +1,184 @@
+package dev.n1xend.dynamiceconomy.services;
+
+import org.bukkit.Material;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * {@code items.yml} compiled to what {@link MarketLoader} builds the catalog
+ * from: enabled categories and their items in file order, with materials
+ * resolved, colors applied and price models checked, plus the notices the
+ * compile produced so they can be logged again on every boot.
+ *
+ * <p>Cached in {@code cache/catalog.bin} under a key derived from the
+ * content of {@code items.yml}; a boot whose key matches skips YAML parsing
+ * and {@link Material#matchMaterial} entirely.</p>
+ *
+ * <pre>
+ * i32 magic "DECC"   u16 version   i32 body length   i32 CRC32 of body
+ * body: UTF key, u16 disabled count × UTF id, u16 warning count × UTF text,
+ *       u16 category count × (UTF id, name, description, icon, i32 slot,
+ *       UTF price model, f64 elasticity,
+ *       i32 item count × (UTF id, name, material, f64 base price))
+ * </pre>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public record CompiledCatalog(@NotNull List<Category> categories,
+                              @NotNull List<String> disabled,
+                              @NotNull List<String> warnings) {
+
+    /** An enabled category with its items. */
+    public record Category(@NotNull String id, @NotNull String displayName, @NotNull String description,
+                           @NotNull Material icon, int slot, @NotNull String priceModel, double elasticity,
+                           @NotNull List<Item> items) {}
+
+    /** An item whose material resolved. */
+    public record Item(@NotNull String id, @NotNull String displayName, @NotNull Material material,
+                       double basePrice) {}
+
+    private static final int MAGIC       = 0x44454343; // "DECC"
+    private static final int VERSION     = 1;
+    private static final int HEADER_SIZE = 14;
+
+    /** Number of items over all categories. */
+    public int itemCount() {
+        int n = 0;
+        for (Category cat : categories) n += cat.items().size();
+        return n;
+    }
+
+    // ── Write ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Writes the catalog to {@code file} under {@code key}, replacing it atomically.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void write(@NotNull Path file, @NotNull String key) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16_384);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(key);
+            writeStrings(out, disabled);
+            writeStrings(out, warnings);
+            out.writeShort(categories.size());
+            for (Category cat : categories) {
+                out.writeUTF(cat.id());
+                out.writeUTF(cat.displayName());
+                out.writeUTF(cat.description());
+                out.writeUTF(cat.icon().name());
+                out.writeInt(cat.slot());
+                out.writeUTF(cat.priceModel());
+                out.writeDouble(cat.elasticity());
+                out.writeInt(cat.items().size());
+                for (Item item : cat.items()) {
+                    out.writeUTF(item.id());
+                    out.writeUTF(item.displayName());
+                    out.writeUTF(item.material().name());
+                    out.writeDouble(item.basePrice());
+                }
+            }
+        }
+        byte[] body = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+            .putInt(MAGIC).putShort((short) VERSION).putInt(body.length).putInt((int) crc.getValue())
+            .flip();
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer bodyBuf = ByteBuffer.wrap(body);
+            while (header.hasRemaining()) ch.write(header);
+            while (bodyBuf.hasRemaining()) ch.write(bodyBuf);
+            ch.force(true);
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void writeStrings(@NotNull DataOutputStream out, @NotNull List<String> strings) throws IOException {
+        out.writeShort(strings.size());
+        for (String s : strings) out.writeUTF(s);
+    }
+
+    // ── Read ──────────────────────────────────────────────────────────────────
+
+    /**
+     * Reads a catalog written under {@code key}.
+     *
+     * @return the catalog, or {@code null} if the file is missing, was written
+     *         under another key or names a material this server does not have
+     * @throws IOException if the file cannot be read, is truncated, fails its
+     *                     checksum or has an unsupported version
+     */
+    @Nullable
+    public static CompiledCatalog read(@NotNull Path file, @NotNull String key) throws IOException {
+        if (!Files.exists(file)) return null;
+        byte[] data = Files.readAllBytes(file);
+        ByteBuffer header = ByteBuffer.wrap(data);
+        if (data.length < HEADER_SIZE || header.getInt() != MAGIC) throw new IOException("Not a catalog cache");
+        int version = header.getShort() & 0xFFFF;
+        if (version != VERSION) throw new IOException("Unsupported catalog cache version " + version);
+        int length = header.getInt();
+        int expectedCrc = header.getInt();
+        if (length < 0 || length != data.length - HEADER_SIZE) throw new IOException("Truncated catalog cache");
+        CRC32 crc = new CRC32();
+        crc.update(data, HEADER_SIZE, length);
+        if ((int) crc.getValue() != expectedCrc) throw new IOException("Catalog cache checksum mismatch");
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, HEADER_SIZE, length))) {
+            if (!in.readUTF().equals(key)) return null;
+            List<String> disabled = readStrings(in);
+            List<String> warnings = readStrings(in);
+            int catCount = in.readUnsignedShort();
+            List<Category> categories = new ArrayList<>(catCount);
+            for (int c = 0; c < catCount; c++) {
+                String id    = in.readUTF();
+                String name  = in.readUTF();
+                String desc  = in.readUTF();
+                Material icon = Material.getMaterial(in.readUTF());
+                int slot     = in.readInt();
+                String model = in.readUTF();
+                double elasticity = in.readDouble();
+                int itemCount = in.readInt();
+                List<Item> items = new ArrayList<>(itemCount);
+                for (int i = 0; i < itemCount; i++) {
+                    String itemId   = in.readUTF();
+                    String itemName = in.readUTF();
+                    Material mat    = Material.getMaterial(in.readUTF());
+                    double price    = in.readDouble();
+                    if (mat == null) return null;
+                    items.add(new Item(itemId, itemName, mat, price));
+                }
+                if (icon == null) return null;
+                categories.add(new Category(id, name, desc, icon, slot, model, elasticity, items));
+            }
+            return new CompiledCatalog(categories, disabled, warnings);
+        }
+    }
+
+    @NotNull
+    private static List<String> readStrings(@NotNull DataInputStream in) throws IOException {
+        int n = in.readUnsignedShort();
+        List<String> strings = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) strings.add(in.readUTF());
+        return strings;
+    }
+}
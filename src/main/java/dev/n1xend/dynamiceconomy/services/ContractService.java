@@ -8,6 +8,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Manages time-limited bulk supply contracts for the dynamic market.
@@ -16,6 +17,12 @@ import java.util.concurrent.ConcurrentHashMap;
  * and reward all contributors with a bonus sell price for that item.
  * Expired contracts are cleaned up automatically.</p>
  *
+ * <p>Active contracts are indexed by material id, so the per-item bonus check
+ * in the shop GUI and on every sale is a single map lookup. Expiry times sit
+ * in a priority queue: a tick only touches contracts that actually expired.
+ * Spawning, expiry and delivery run on the main thread; lookups and progress
+ * reads are safe from any thread.</p>
+ *
  * @author n1xend
  * @version 1.0.0
  * @since 1.0.0
@@ -42,7 +49,12 @@ public class ContractService {
     ) {
         /** Returns true if this contract has expired. */
         public boolean isExpired() {
-            return System.currentTimeMillis() > expiresAt;
+            return isExpired(System.currentTimeMillis());
+        }
+
+        /** Returns true if this contract has expired at {@code nowMillis}. */
+        public boolean isExpired(long nowMillis) {
+            return nowMillis > expiresAt;
         }
 
         /** Returns remaining minutes until expiry, minimum 0. */
@@ -55,11 +67,31 @@ public class ContractService {
     // -------------------------------------------------------------------------
 
     private final DynamicEconomy plugin;
-    private final Map<String, Contract> activeContracts = new LinkedHashMap<>();
-    private final Map<String, Integer> contractProgress = new ConcurrentHashMap<>();
+    private final Random random;
+    private final Map<String, Contract> activeContracts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> contractProgress = new ConcurrentHashMap<>();
+
+    // materialId → active contracts for it; arrays are replaced, never mutated
+    private final Map<String, Contract[]> byMaterial = new ConcurrentHashMap<>();
+
+    // Soonest expiry first; completed contracts are skipped when polled (main thread only)
+    private final PriorityQueue<Contract> expiryQueue =
+        new PriorityQueue<>(Comparator.comparingLong(Contract::expiresAt));
 
     public ContractService(@NotNull DynamicEconomy plugin) {
+        this(plugin, new Random());
+    }
+
+    /**
+     * Creates the service with an explicit random source, so contract picks
+     * are reproducible (e.g. in the offline simulator).
+     *
+     * @param plugin plugin instance
+     * @param random source for item, amount and id picks
+     */
+    public ContractService(@NotNull DynamicEconomy plugin, @NotNull Random random) {
         this.plugin = plugin;
+        this.random = random;
     }
 
     // -------------------------------------------------------------------------
@@ -77,34 +109,37 @@ public class ContractService {
 
         long intervalTicks = 20L * 60 * plugin.getConfigManager().getContractSpawnIntervalMinutes();
         // Initial tick after 10 seconds to let the server settle
-        plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 200L, intervalTicks);
+        plugin.getServer().getScheduler().runTaskTimer(plugin,
+            () -> tick(System.currentTimeMillis()), 200L, intervalTicks);
     }
 
-    private void tick() {
-        removeExpiredContracts();
+    /**
+     * Runs one spawn cycle: drops expired contracts, then spawns one if below the cap.
+     *
+     * @param nowMillis epoch millis of this tick
+     */
+    public void tick(long nowMillis) {
+        removeExpiredContracts(nowMillis);
 
         int maxActive = plugin.getConfigManager().getContractsMaxActive();
         if (activeContracts.size() < maxActive) {
-            spawnRandomContract();
+            spawnRandomContract(nowMillis);
         }
     }
 
-    private void removeExpiredContracts() {
-        Iterator<Map.Entry<String, Contract>> iterator = activeContracts.entrySet().iterator();
-        while (iterator.hasNext()) {
-            var entry = iterator.next();
-            if (entry.getValue().isExpired()) {
-                contractProgress.remove(entry.getKey());
-                iterator.remove();
+    private void removeExpiredContracts(long nowMillis) {
+        Contract head;
+        while ((head = expiryQueue.peek()) != null && head.isExpired(nowMillis)) {
+            expiryQueue.poll();
+            if (!remove(head)) continue; // already completed
 
-                String msg = plugin.getMessageManager().get("contracts.expired",
-                    "%item%", entry.getValue().displayName());
-                plugin.getServer().getOnlinePlayers().forEach(p -> p.sendMessage(msg));
-            }
+            String msg = plugin.getMessageManager().get("contracts.expired",
+                "%item%", head.displayName());
+            plugin.getServer().getOnlinePlayers().forEach(p -> p.sendMessage(msg));
         }
     }
 
-    private void spawnRandomContract() {
+    private void spawnRandomContract(long nowMillis) {
         Map<String, MarketCategory> categories = plugin.getEconomyService().getCategories();
         if (categories.isEmpty()) {
             return;
@@ -112,28 +147,27 @@ public class ContractService {
 
         // Pick a random item from a random category
         List<MarketCategory> catList = new ArrayList<>(categories.values());
-        MarketCategory category = catList.get(new Random().nextInt(catList.size()));
+        MarketCategory category = catList.get(random.nextInt(catList.size()));
         List<MarketItem> itemList = new ArrayList<>(category.getItems());
         if (itemList.isEmpty()) {
             return;
         }
-        MarketItem item = itemList.get(new Random().nextInt(itemList.size()));
+        MarketItem item = itemList.get(random.nextInt(itemList.size()));
 
         int amountMin = plugin.getConfigManager().getContractAmountMin();
         int amountMax = plugin.getConfigManager().getContractAmountMax();
-        int required = amountMin + new Random().nextInt(amountMax - amountMin + 1);
+        int required = amountMin + random.nextInt(amountMax - amountMin + 1);
 
         long durationMs = plugin.getConfigManager().getContractDurationMinutes() * 60_000L;
         double bonus = plugin.getConfigManager().getContractBonusMultiplier();
-        String contractId = UUID.randomUUID().toString().substring(0, 8);
+        String contractId = String.format("%08x", random.nextInt());
 
         Contract contract = new Contract(
             contractId, item.getId(), item.getDisplayName(),
-            required, System.currentTimeMillis() + durationMs, bonus
+            required, nowMillis + durationMs, bonus
         );
 
-        activeContracts.put(contractId, contract);
-        contractProgress.put(contractId, 0);
+        add(contract);
 
         String msg = plugin.getMessageManager().get("contracts.new",
             "%amount%", required,
@@ -157,30 +191,40 @@ public class ContractService {
      * @param amount     quantity sold
      */
     public void onSell(@NotNull Player player, @NotNull String materialId, int amount) {
-        for (var entry : activeContracts.entrySet()) {
-            Contract contract = entry.getValue();
-            if (!contract.materialId().equals(materialId) || contract.isExpired()) {
+        onSell(materialId, amount, System.currentTimeMillis());
+    }
+
+    /**
+     * Records a delivery at an explicit instant.
+     *
+     * @param materialId material that was sold
+     * @param amount     quantity sold
+     * @param nowMillis  epoch millis of the sale
+     */
+    public void onSell(@NotNull String materialId, int amount, long nowMillis) {
+        Contract[] contracts = byMaterial.get(materialId);
+        if (contracts == null) {
+            return;
+        }
+        for (Contract contract : contracts) {
+            AtomicInteger progress = contractProgress.get(contract.id());
+            if (progress == null || contract.isExpired(nowMillis)) {
                 continue;
             }
 
-            String contractId = entry.getKey();
-            int before = contractProgress.getOrDefault(contractId, 0);
-            int after = Math.min(before + amount, contract.requiredAmount());
-            contractProgress.put(contractId, after);
-
-            if (after >= contract.requiredAmount()) {
-                completeContract(contractId);
+            int required = contract.requiredAmount();
+            int before = progress.getAndAccumulate(amount, (p, a) -> Math.min(p + a, required));
+            if (before < required && before + amount >= required) {
+                completeContract(contract);
                 return;
             }
         }
     }
 
-    private void completeContract(@NotNull String contractId) {
-        Contract contract = activeContracts.remove(contractId);
-        if (contract == null) {
+    private void completeContract(@NotNull Contract contract) {
+        if (!remove(contract)) {
             return;
         }
-        contractProgress.remove(contractId);
 
         String msg = plugin.getMessageManager().get("contracts.completed",
             "%item%", contract.displayName());
@@ -188,6 +232,34 @@ public class ContractService {
         plugin.getLogger().info("Contract completed: " + contract.materialId());
     }
 
+    // -------------------------------------------------------------------------
+    // Index
+    // -------------------------------------------------------------------------
+
+    private void add(@NotNull Contract contract) {
+        contractProgress.put(contract.id(), new AtomicInteger());
+        activeContracts.put(contract.id(), contract);
+        byMaterial.merge(contract.materialId(), new Contract[] {contract}, (old, one) -> {
+            Contract[] grown = Arrays.copyOf(old, old.length + 1);
+            grown[old.length] = contract;
+            return grown;
+        });
+        expiryQueue.add(contract);
+    }
+
+    /** Drops a contract from every index except the expiry queue. Returns false if it was not active. */
+    private boolean remove(@NotNull Contract contract) {
+        if (!activeContracts.remove(contract.id(), contract)) {
+            return false;
+        }
+        contractProgress.remove(contract.id());
+        byMaterial.computeIfPresent(contract.materialId(), (id, old) -> {
+            Contract[] kept = Arrays.stream(old).filter(c -> c != contract).toArray(Contract[]::new);
+            return kept.length == 0 ? null : kept;
+        });
+        return true;
+    }
+
     // -------------------------------------------------------------------------
     // Query
     // -------------------------------------------------------------------------
@@ -199,16 +271,37 @@ public class ContractService {
      * @return whether a contract bonus applies
      */
     public boolean hasActiveContractFor(@NotNull String materialId) {
-        return activeContracts.values().stream()
-            .anyMatch(c -> c.materialId().equals(materialId) && !c.isExpired());
+        return hasActiveContractFor(materialId, System.currentTimeMillis());
+    }
+
+    /**
+     * Returns true if a contract for the material is active at {@code nowMillis}.
+     *
+     * @param materialId material to check
+     * @param nowMillis  epoch millis to evaluate expiry at
+     * @return whether a contract bonus applies
+     */
+    public boolean hasActiveContractFor(@NotNull String materialId, long nowMillis) {
+        Contract[] contracts = byMaterial.get(materialId);
+        if (contracts == null) {
+            return false;
+        }
+        for (Contract contract : contracts) {
+            if (!contract.isExpired(nowMillis)) return true;
+        }
+        return false;
     }
 
+    /** Returns a snapshot of the active contracts, soonest expiry first. */
     @NotNull
     public Collection<Contract> getActiveContracts() {
-        return activeContracts.values();
+        List<Contract> contracts = new ArrayList<>(activeContracts.values());
+        contracts.sort(Comparator.comparingLong(Contract::expiresAt));
+        return contracts;
     }
 
     public int getContractProgress(@NotNull String contractId) {
-        return contractProgress.getOrDefault(contractId, 0);
+        AtomicInteger progress = contractProgress.get(contractId);
+        return progress == null ? 0 : progress.get();
     }
 }
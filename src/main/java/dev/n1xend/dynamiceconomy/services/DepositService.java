@@ -0,0 +1,189 @@
+package dev.n1xend.dynamiceconomy.services;
+
+import dev.n1xend.dynamiceconomy.DynamicEconomy;
+import dev.n1xend.dynamiceconomy.data.DepositLedger;
+import dev.n1xend.dynamiceconomy.data.DepositLedger.Credit;
+import net.milkbowl.vault.economy.EconomyResponse;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Moves sale payouts to Vault off the server tick.
+ *
+ * <p>{@link #credit} records the payout in the {@link DepositLedger} and
+ * returns; nothing on the sell path waits for the economy backend. A timer on
+ * an async thread coalesces each player's credits since the last flush into a
+ * single {@code depositPlayer} call. Failed batches are retried on the next
+ * flush, up to {@code deposits.max-attempts}; after that they stay in the
+ * ledger and are replayed on the next start, like any credit left over from
+ * a crash.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public class DepositService {
+
+    private static final String LEDGER_FILE = "deposits.log";
+
+    /** Credits owed to one player since the last flush. Immutable; replaced on every credit. */
+    private record Batch(double amount, long[] seqs, int attempts) {
+        Batch plus(long seq, double more) {
+            long[] grown = Arrays.copyOf(seqs, seqs.length + 1);
+            grown[seqs.length] = seq;
+            return new Batch(amount + more, grown, attempts);
+        }
+
+        Batch merge(Batch other) {
+            long[] all = Arrays.copyOf(seqs, seqs.length + other.seqs.length);
+            System.arraycopy(other.seqs, 0, all, seqs.length, other.seqs.length);
+            return new Batch(amount + other.amount, all, Math.max(attempts, other.attempts));
+        }
+    }
+
+    private final DynamicEconomy plugin;
+    private final Logger logger;
+    private final DepositLedger ledger;
+    private final Map<UUID, Batch> pending = new ConcurrentHashMap<>();
+    private final AtomicLong nextSeq = new AtomicLong(1);
+    private final Object flushLock = new Object();
+
+    private volatile boolean durable;
+    private BukkitTask task;
+
+    public DepositService(@NotNull DynamicEconomy plugin) {
+        this.plugin = plugin;
+        this.logger = plugin.getLogger();
+        this.ledger = new DepositLedger(plugin.getDataFolder().toPath().resolve(LEDGER_FILE), logger);
+    }
+
+    // ── Lifecycle ─────────────────────────────────────────────────────────────
+
+    /**
+     * Replays credits left in the ledger and starts the async flush timer.
+     * Call once Vault is available.
+     */
+    public void start() {
+        try {
+            List<Credit> replay = ledger.open();
+            durable = true;
+            for (Credit c : replay) {
+                nextSeq.accumulateAndGet(c.seq() + 1, Math::max);
+                enqueue(c.player(), c.seq(), c.amount());
+            }
+            if (!replay.isEmpty()) {
+                logger.info("[Deposits] Replaying " + replay.size() + " undelivered payouts.");
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "[Deposits] Cannot open " + LEDGER_FILE
+                + " — payouts are not crash-safe this session", e);
+        }
+
+        long ticks = plugin.getConfigManager().getDepositFlushIntervalTicks();
+        task = plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, this::flush, ticks, ticks);
+    }
+
+    /** Stops the timer, flushes what is pending and closes the ledger. */
+    public void shutdown() {
+        if (task != null) task.cancel();
+        flush();
+        ledger.close();
+    }
+
+    // ── Credit ────────────────────────────────────────────────────────────────
+
+    /**
+     * Owes {@code amount} to a player. Durable once this returns; deposited on the next flush.
+     *
+     * @param player recipient
+     * @param amount amount to deposit; ignored unless positive
+     */
+    public void credit(@NotNull UUID player, double amount) {
+        if (amount <= 0) return;
+        long seq = nextSeq.getAndIncrement();
+        if (durable) {
+            try {
+                ledger.append(new Credit(seq, player, amount));
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "[Deposits] Failed to journal payout for " + player, e);
+            }
+        }
+        enqueue(player, seq, amount);
+    }
+
+    private void enqueue(@NotNull UUID player, long seq, double amount) {
+        pending.compute(player, (id, b) -> b == null
+            ? new Batch(amount, new long[] {seq}, 0)
+            : b.plus(seq, amount));
+    }
+
+    // ── Flush ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Deposits every pending batch, one Vault call per player. Runs on the
+     * async timer, and on the calling thread during shutdown.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            int maxAttempts = plugin.getConfigManager().getDepositMaxAttempts();
+            for (UUID player : new ArrayList<>(pending.keySet())) {
+                Batch batch = pending.remove(player);
+                if (batch == null) continue;
+
+                if (deposit(player, batch.amount())) {
+                    acknowledge(batch.seqs());
+                } else if (batch.attempts() + 1 >= maxAttempts) {
+                    logger.severe("[Deposits] Giving up on " + String.format("%.2f", batch.amount())
+                        + " for " + player + " after " + maxAttempts + " attempts; kept in "
+                        + LEDGER_FILE + " for the next start.");
+                } else {
+                    Batch retry = new Batch(batch.amount(), batch.seqs(), batch.attempts() + 1);
+                    pending.merge(player, retry, Batch::merge);
+                }
+            }
+            if (durable) {
+                try {
+                    ledger.sync();
+                } catch (IOException e) {
+                    logger.log(Level.SEVERE, "[Deposits] Failed to sync " + LEDGER_FILE, e);
+                }
+            }
+        }
+    }
+
+    private boolean deposit(@NotNull UUID player, double amount) {
+        try {
+            EconomyResponse response = plugin.getVaultEconomy()
+                .depositPlayer(plugin.getServer().getOfflinePlayer(player), amount);
+            if (response != null && response.transactionSuccess()) return true;
+            logger.warning("[Deposits] Vault refused " + String.format("%.2f", amount) + " for " + player
+                + (response != null ? ": " + response.errorMessage : ""));
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "[Deposits] Vault deposit failed for " + player, e);
+        }
+        return false;
+    }
+
+    private void acknowledge(@NotNull long[] seqs) {
+        if (!durable) return;
+        try {
+            ledger.ack(seqs);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "[Deposits] Failed to acknowledge payouts in " + LEDGER_FILE, e);
+        }
+    }
+
+    // ── Query ─────────────────────────────────────────────────────────────────
+
+    /** Number of players with payouts not yet deposited. */
+    public int getPendingPlayers() {
+        return pending.size();
+    }
+}
@@ -1,22 +1,33 @@
 package dev.n1xend.dynamiceconomy.services;
 
 import dev.n1xend.dynamiceconomy.DynamicEconomy;
+import dev.n1xend.dynamiceconomy.data.TransactionJournal;
 import dev.n1xend.dynamiceconomy.data.models.MarketCategory;
 import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.pricing.LinearPriceModel;
+import dev.n1xend.dynamiceconomy.pricing.PriceModel;
+import dev.n1xend.dynamiceconomy.pricing.PriceModels;
+import dev.n1xend.dynamiceconomy.session.PlayerSession;
+import dev.n1xend.dynamiceconomy.session.SessionService;
+import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 /**
  * Central service managing the dynamic market economy.
  *
- * <p>Handles player sells, price recovery scheduling, seasonal demand rotation,
- * and diversity bonus tracking. All sell operations run on the main thread.</p>
+ * <p>Handles player sells, seasonal demand rotation and diversity bonus
+ * tracking. All sell operations run on the main thread. Payouts go through
+ * {@link DepositService}, so a sale never waits on the Vault backend, and are
+ * recorded in the {@link TransactionJournal} off the main thread. Price
+ * recovery needs no scheduler: items recover analytically on read (see
+ * {@link MarketItem}).</p>
  *
  * @author n1xend
  * @version 1.0.0
@@ -26,7 +37,9 @@ public class EconomyService {
 
     /** Result codes for sell operations. */
     public enum SellResult {
-        SUCCESS, COOLDOWN, ITEM_NOT_SOLD, NOT_ENOUGH_ITEMS
+        SUCCESS, COOLDOWN, ITEM_NOT_SOLD, NOT_ENOUGH_ITEMS, INVALID_AMOUNT,
+        /** The player has no open session — they quit before the sale ran. */
+        OFFLINE
     }
 
     /**
@@ -50,35 +63,100 @@ public class EconomyService {
         boolean hadContractBonus
     ) {}
 
+    /**
+     * One material within a {@link SellReceipt}.
+     *
+     * @param item              item that was sold
+     * @param amount            units removed from the inventory
+     * @param payout            amount credited for this material
+     * @param multiplierAfter   multiplier after the sale was applied
+     * @param hadDiversityBonus whether diversity bonus was applied
+     * @param hadContractBonus  whether contract bonus was applied
+     */
+    public record SellLine(
+        MarketItem item,
+        int amount,
+        double payout,
+        double multiplierAfter,
+        boolean hadDiversityBonus,
+        boolean hadContractBonus
+    ) {}
+
+    /**
+     * Aggregate result of selling a whole inventory in one transaction.
+     *
+     * @param result outcome code
+     * @param payout total amount credited in a single deposit (0 if not SUCCESS)
+     * @param lines  per-material breakdown, in inventory order
+     */
+    public record SellReceipt(
+        SellResult result,
+        double payout,
+        List<SellLine> lines
+    ) {
+        /** Total units sold across all materials. */
+        public int totalAmount() {
+            int total = 0;
+            for (SellLine line : lines) total += line.amount();
+            return total;
+        }
+    }
+
+    /**
+     * What {@link #applyCatalog} changed in the running catalog.
+     *
+     * @param categoriesAdded   categories new in items.yml
+     * @param categoriesRemoved categories gone or disabled
+     * @param categoriesChanged categories whose presentation or price model changed
+     * @param itemsAdded        items new in items.yml
+     * @param itemsRemoved      items gone, including those of removed categories
+     * @param itemsChanged      items whose name, material, base price or category changed
+     */
+    public record CatalogChanges(
+        int categoriesAdded,
+        int categoriesRemoved,
+        int categoriesChanged,
+        int itemsAdded,
+        int itemsRemoved,
+        int itemsChanged
+    ) {
+        public boolean isEmpty() {
+            return categoriesAdded + categoriesRemoved + categoriesChanged
+                + itemsAdded + itemsRemoved + itemsChanged == 0;
+        }
+    }
+
     // -------------------------------------------------------------------------
 
     private final DynamicEconomy plugin;
     private final Logger logger;
     private final Map<String, MarketCategory> categories;
     private final Map<String, MarketItem> itemIndex = new HashMap<>();
-    private final PriceCalculator priceCalculator;
+    private final MarketTable table;
 
-    // Player sell cooldown — uuid → epoch millis of last sell
-    private final Map<UUID, Long> sellCooldowns = new ConcurrentHashMap<>();
+    // Rows of items removed by a reload, reused if the item comes back
+    private final Map<String, Integer> retiredRows = new HashMap<>();
 
-    // Diversity tracker — uuid → categoryId → last sell epoch millis
-    private final Map<UUID, Map<String, Long>> diversityTracker = new ConcurrentHashMap<>();
+    // Material.ordinal() → item, rebuilt together with itemIndex
+    private volatile MarketItem[] materialIndex = new MarketItem[0];
+    private final PriceCalculator priceCalculator;
+
+    // Cooldown and diversity history live in the seller's PlayerSession
+    private final SessionService sessions;
 
-    private BukkitTask recoveryTask;
     private String hotCategoryId = null;
 
-    public EconomyService(@NotNull DynamicEconomy plugin, @NotNull Map<String, MarketCategory> categories) {
+    public EconomyService(@NotNull DynamicEconomy plugin, @NotNull Map<String, MarketCategory> categories,
+                          @NotNull MarketTable table) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
         this.categories = categories;
+        this.table = table;
         this.priceCalculator = new PriceCalculator(plugin.getConfigManager());
+        this.sessions = plugin.getSessionService();
 
-        // Build flat item index for O(1) lookup
-        for (MarketCategory category : categories.values()) {
-            for (MarketItem item : category.getItems()) {
-                itemIndex.put(item.getId(), item);
-            }
-        }
+        rebuildIndex();
+        applyPriceModels();
 
         if (plugin.getConfigManager().isSeasonalDemandEnabled()) {
             scheduleSeasonalDemand();
@@ -107,11 +185,18 @@ public class EconomyService {
      * @param player     the selling player
      * @param materialId material identifier
      * @param amount     amount to sell, or -1 to sell all
-     * @return sell result
+     * @return sell result; {@code INVALID_AMOUNT} for any other amount below 1
      */
     @NotNull
     public SellData trySell(@NotNull Player player, @NotNull String materialId, int amount) {
-        if (isOnCooldown(player)) {
+        if (amount <= 0 && amount != -1) {
+            return failResult(SellResult.INVALID_AMOUNT, materialId);
+        }
+        PlayerSession session = sessions.peek(player.getUniqueId());
+        if (session == null) {
+            return failResult(SellResult.OFFLINE, materialId);
+        }
+        if (isOnCooldown(player, session)) {
             return failResult(SellResult.COOLDOWN, "");
         }
 
@@ -120,70 +205,278 @@ public class EconomyService {
             return failResult(SellResult.ITEM_NOT_SOLD, materialId);
         }
 
-        int inInventory = countItemsInInventory(player, item);
+        InventoryTransaction tx = InventoryTransaction.of(player.getInventory());
+        int inInventory = tx.count(item.getMaterial());
         if (inInventory <= 0) {
             return failResult(SellResult.NOT_ENOUGH_ITEMS, item.getDisplayName());
         }
 
-        int toSell = (amount == -1) ? inInventory : Math.min(amount, inInventory);
-        toSell = Math.min(toSell, plugin.getConfigManager().getMaxSellAmount());
+        int requested = (amount == -1) ? inInventory : Math.min(amount, inInventory);
+        requested = Math.min(requested, plugin.getConfigManager().getMaxSellAmount());
+
+        // Stage the removal first — payout and price impact use what was actually taken
+        int toSell = tx.remove(item.getMaterial(), requested);
+        if (toSell <= 0) {
+            return failResult(SellResult.NOT_ENOUGH_ITEMS, item.getDisplayName());
+        }
+
+        // Execute — remove items, apply drop, pay
+        tx.commit();
+        long now = System.currentTimeMillis();
+        double multiplierBefore = item.getMultiplierAt(now);
+        SellLine line = settleSale(session, item, toSell, now);
+        plugin.getDepositService().credit(player.getUniqueId(), line.payout());
+        plugin.getTransactionJournal().recordSale(player.getUniqueId(), item.getId(), toSell,
+            line.payout(), multiplierBefore, line.multiplierAfter());
+        session.setLastSellMillis(now);
+
+        if (plugin.getConfigManager().isLogSales()) {
+            logger.info("[SALE] " + player.getName() + " sold " + toSell + "x " + materialId
+                + " for " + String.format("%.2f", line.payout())
+                + " (mult: " + String.format("%.2f", line.multiplierAfter()) + ")");
+        }
+
+        return new SellData(SellResult.SUCCESS, line.payout(), line.payout() / toSell, line.multiplierAfter(),
+            item.getDisplayName(), line.hadDiversityBonus(), line.hadContractBonus());
+    }
+
+    /**
+     * Sells every accepted item in the player's storage slots in one pass.
+     *
+     * <p>The inventory is snapshotted once ({@link InventoryTransaction}) and
+     * only changed slots are written back. Each material gets a single
+     * {@link PriceCalculator#applySale} (capped at the max sell amount). All payouts are credited in one
+     * {@link DepositService#credit} and the cooldown is checked and set once.</p>
+     *
+     * @param player the selling player
+     * @param filter which catalog items may be sold (e.g. one category)
+     * @return aggregate receipt; {@code NOT_ENOUGH_ITEMS} if nothing matched
+     */
+    @NotNull
+    public SellReceipt trySellInventory(@NotNull Player player, @NotNull Predicate<MarketItem> filter) {
+        PlayerSession session = sessions.peek(player.getUniqueId());
+        if (session == null) {
+            return new SellReceipt(SellResult.OFFLINE, 0, List.of());
+        }
+        if (isOnCooldown(player, session)) {
+            return new SellReceipt(SellResult.COOLDOWN, 0, List.of());
+        }
+
+        // Count per material, in order of first appearance
+        InventoryTransaction tx = InventoryTransaction.ofStorage(player.getInventory());
+        Map<MarketItem, int[]> counts = new LinkedHashMap<>();
+        for (int slot = 0; slot < tx.size(); slot++) {
+            Material type = tx.typeAt(slot);
+            if (type == null) continue;
+            MarketItem item = getItemByMaterial(type);
+            if (item == null || !filter.test(item)) continue;
+            counts.computeIfAbsent(item, k -> new int[1])[0] += tx.amountAt(slot);
+        }
+        if (counts.isEmpty()) {
+            return new SellReceipt(SellResult.NOT_ENOUGH_ITEMS, 0, List.of());
+        }
+
+        // Stage removals against the same snapshot, capped per material
+        int maxPerItem = plugin.getConfigManager().getMaxSellAmount();
+        for (Map.Entry<MarketItem, int[]> e : counts.entrySet()) {
+            int[] amount = e.getValue();
+            amount[0] = tx.remove(e.getKey().getMaterial(), Math.min(amount[0], maxPerItem));
+        }
+        tx.commit();
+
+        // Price impact and payout per material
+        long now = System.currentTimeMillis();
+        List<SellLine> lines = new ArrayList<>(counts.size());
+        TransactionJournal journal = plugin.getTransactionJournal();
+        double total = 0;
+        for (Map.Entry<MarketItem, int[]> e : counts.entrySet()) {
+            MarketItem item = e.getKey();
+            double multiplierBefore = item.getMultiplierAt(now);
+            SellLine line = settleSale(session, item, e.getValue()[0], now);
+            journal.recordSale(player.getUniqueId(), item.getId(), line.amount(),
+                line.payout(), multiplierBefore, line.multiplierAfter());
+            total += line.payout();
+            lines.add(line);
+        }
+
+        plugin.getDepositService().credit(player.getUniqueId(), total);
+        session.setLastSellMillis(now);
+
+        if (plugin.getConfigManager().isLogSales()) {
+            logger.info("[SALE] " + player.getName() + " sold inventory: " + lines.size()
+                + " materials for " + String.format("%.2f", total));
+        }
+
+        return new SellReceipt(SellResult.SUCCESS, total, List.copyOf(lines));
+    }
 
-        // Calculate bonuses before applying sale
+    /**
+     * Prices and applies one sale of items that were already taken from the seller.
+     *
+     * <p>Evaluates seasonal, diversity and contract bonuses at {@code nowMillis},
+     * applies the price drop and updates diversity and contract progress. Does
+     * not touch inventories, payouts or the cooldown — callers own those, which
+     * lets the offline simulator drive the same path on a virtual clock.</p>
+     *
+     * @param playerId  seller with an open session, for diversity tracking
+     * @param item      item sold
+     * @param amount    units sold (already removed)
+     * @param nowMillis epoch millis of the sale
+     * @return payout and market impact of this sale
+     * @throws IllegalStateException if the seller has no open session
+     */
+    @NotNull
+    public SellLine settleSale(@NotNull UUID playerId, @NotNull MarketItem item, int amount, long nowMillis) {
+        PlayerSession session = sessions.peek(playerId);
+        if (session == null) {
+            throw new IllegalStateException("No open session for " + playerId);
+        }
+        return settleSale(session, item, amount, nowMillis);
+    }
+
+    @NotNull
+    private SellLine settleSale(@NotNull PlayerSession session, @NotNull MarketItem item, int amount, long nowMillis) {
         MarketCategory category = categories.get(item.getCategoryId());
         double seasonalMult = (category != null) ? category.getSeasonalMultiplier() : 1.0;
 
-        boolean hasDiversity = hasDiversityBonus(player, item.getCategoryId());
+        boolean hasDiversity = category != null && hasDiversityBonus(session, category, nowMillis);
         double diversityMult = hasDiversity
             ? (1.0 + plugin.getConfigManager().getDiversityBonusMultiplier())
             : 1.0;
 
-        boolean hasContract = plugin.getContractService().hasActiveContractFor(materialId);
+        boolean hasContract = plugin.getContractService().hasActiveContractFor(item.getId(), nowMillis);
         double contractMult = hasContract
             ? (1.0 + plugin.getConfigManager().getContractBonusMultiplier())
             : 1.0;
 
-        double payout = priceCalculator.calculatePayout(item, toSell, seasonalMult, diversityMult, contractMult);
-        double pricePerUnit = payout / toSell;
-        double multAfter = priceCalculator.previewMultiplierAfterSale(item, toSell);
+        double payout = priceCalculator.calculatePayout(item, amount,
+            seasonalMult, diversityMult, contractMult, nowMillis);
+        priceCalculator.applySale(item, amount, nowMillis);
+        if (category != null) updateDiversityTracker(session, category, nowMillis);
+        plugin.getContractService().onSell(item.getId(), amount, nowMillis);
 
-        // Execute — remove items, apply drop, pay
-        removeItemsFromInventory(player, item, toSell);
-        priceCalculator.applySale(item, toSell);
-        plugin.getVaultEconomy().depositPlayer(player, payout);
+        return new SellLine(item, amount, payout, item.getMultiplierAt(nowMillis), hasDiversity, hasContract);
+    }
 
-        // Update tracking
-        sellCooldowns.put(player.getUniqueId(), System.currentTimeMillis());
-        updateDiversityTracker(player, item.getCategoryId());
-        plugin.getContractService().onSell(player, materialId, toSell);
+    // -------------------------------------------------------------------------
+    // Catalog Index
+    // -------------------------------------------------------------------------
 
-        if (plugin.getConfigManager().isLogSales()) {
-            logger.info("[SALE] " + player.getName() + " sold " + toSell + "x " + materialId
-                + " for " + String.format("%.2f", payout)
-                + " (mult: " + String.format("%.2f", item.getCurrentMultiplier()) + ")");
+    /**
+     * Rebuilds the id and material lookup indexes from the current categories
+     * and numbers the categories for per-player diversity history.
+     * Must be called whenever the catalog changes so GUI clicks resolve to live items.
+     */
+    public void rebuildIndex() {
+        Map<String, MarketItem> ids = new HashMap<>();
+        int categoryOrdinal = 0;
+        for (MarketCategory category : categories.values()) {
+            category.setOrdinal(categoryOrdinal++);
+            for (MarketItem item : category.getItems()) {
+                ids.put(item.getId(), item);
+            }
+        }
+        MarketItem[] byMaterial = new MarketItem[Material.values().length];
+        for (MarketItem item : ids.values()) {
+            byMaterial[item.getMaterial().ordinal()] = item;
+        }
+        itemIndex.clear();
+        itemIndex.putAll(ids);
+        materialIndex = byMaterial;
+    }
+
+    /**
+     * Applies a reloaded items.yml to the running catalog in place. Unchanged
+     * categories and items keep their objects; a changed item gets a new view
+     * over its existing row, and an added item a new row — or, if it was
+     * removed earlier, its old one. No row's multiplier or statistics are
+     * touched, so prices do not move. Removed items keep their rows, which
+     * stay in saves and are skipped on load. Must run on the main thread.
+     *
+     * @param catalog compiled items.yml
+     * @return what changed
+     */
+    @NotNull
+    public CatalogChanges applyCatalog(@NotNull CompiledCatalog catalog) {
+        int catAdded = 0, catChanged = 0, added = 0, changed = 0;
+        Map<String, MarketItem> live = new HashMap<>(itemIndex);
+        Map<String, MarketCategory> next = new LinkedHashMap<>();
+
+        for (CompiledCatalog.Category spec : catalog.categories()) {
+            MarketCategory cat = categories.get(spec.id());
+            if (cat == null) {
+                cat = new MarketCategory(spec.id(), spec.displayName(), spec.description(),
+                    spec.icon(), spec.slot(), true);
+                catAdded++;
+            } else if (!cat.getDisplayName().equals(spec.displayName())
+                    || !cat.getDescription().equals(spec.description())
+                    || cat.getIcon() != spec.icon() || cat.getGuiSlot() != spec.slot()
+                    || !cat.getPriceModelType().equals(spec.priceModel())
+                    || cat.getElasticity() != spec.elasticity()) {
+                cat.setPresentation(spec.displayName(), spec.description(), spec.icon(), spec.slot());
+                catChanged++;
+            }
+            cat.setPriceModel(spec.priceModel(), spec.elasticity());
+
+            List<MarketItem> items = new ArrayList<>(spec.items().size());
+            for (CompiledCatalog.Item itemSpec : spec.items()) {
+                MarketItem item = live.remove(itemSpec.id());
+                if (item == null) {
+                    Integer row = retiredRows.remove(itemSpec.id());
+                    item = row != null
+                        ? new MarketItem(table, row, itemSpec.id(), spec.id(), itemSpec.displayName(),
+                            itemSpec.material(), itemSpec.basePrice())
+                        : new MarketItem(table, itemSpec.id(), spec.id(), itemSpec.displayName(),
+                            itemSpec.material(), itemSpec.basePrice());
+                    added++;
+                } else if (!item.getCategoryId().equals(spec.id())
+                        || !item.getDisplayName().equals(itemSpec.displayName())
+                        || item.getMaterial() != itemSpec.material()
+                        || item.getBasePrice() != itemSpec.basePrice()) {
+                    item = new MarketItem(table, item.getOrdinal(), itemSpec.id(), spec.id(),
+                        itemSpec.displayName(), itemSpec.material(), itemSpec.basePrice());
+                    changed++;
+                }
+                items.add(item);
+            }
+            cat.setItems(items);
+            next.put(spec.id(), cat);
+        }
+
+        for (MarketItem gone : live.values()) retiredRows.put(gone.getId(), gone.getOrdinal());
+        int catRemoved = 0;
+        for (String id : categories.keySet()) {
+            if (!next.containsKey(id)) catRemoved++;
         }
+        if (hotCategoryId != null && !next.containsKey(hotCategoryId)) hotCategoryId = null;
 
-        return new SellData(SellResult.SUCCESS, payout, pricePerUnit, multAfter,
-            item.getDisplayName(), hasDiversity, hasContract);
+        categories.clear();
+        categories.putAll(next);
+        rebuildIndex();
+        applyPriceModels();
+        return new CatalogChanges(catAdded, catRemoved, catChanged, added, live.size(), changed);
     }
 
     // -------------------------------------------------------------------------
-    // Price Recovery Task
+    // Price Model
     // -------------------------------------------------------------------------
 
     /**
-     * Starts the periodic price recovery scheduler.
-     * Runs asynchronously every 3 real minutes, treating each tick as 3/60 hours.
+     * Pushes the configured recovery speed and each category's price model to every item.
+     * Called on startup and after a config reload; cost is one pass over the catalog.
      */
-    public void startRecoveryTask() {
-        // 3-minute intervals = 3/60 hours per tick
-        long intervalTicks = 20L * 60 * 3;
-        double hoursPerTick = 3.0 / 60.0;
-
-        recoveryTask = plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, () -> {
-            for (MarketItem item : itemIndex.values()) {
-                priceCalculator.applyRecovery(item, hoursPerTick);
+    public void applyPriceModels() {
+        long now = System.currentTimeMillis();
+        table.setRecoveryPerHourAll(plugin.getConfigManager().getPriceRecoveryPerHour(), now);
+
+        double floor = plugin.getConfigManager().getMinPriceMultiplier();
+        for (MarketCategory category : categories.values()) {
+            PriceModel model = PriceModels.create(category.getPriceModelType(), category.getElasticity(), floor);
+            if (model == null) model = LinearPriceModel.DEFAULT;
+            for (int ordinal : category.getOrdinals()) {
+                table.setPriceModel(ordinal, model, now);
             }
-        }, intervalTicks, intervalTicks);
+        }
     }
 
     // -------------------------------------------------------------------------
@@ -191,12 +484,21 @@ public class EconomyService {
     // -------------------------------------------------------------------------
 
     private void scheduleSeasonalDemand() {
+        Random random = new Random();
         long intervalTicks = 20L * 60 * plugin.getConfigManager().getSeasonalChangeIntervalMinutes();
-        plugin.getServer().getScheduler().runTaskTimer(plugin, this::rotateHotCategory, intervalTicks, intervalTicks);
-        rotateHotCategory();
+        plugin.getServer().getScheduler().runTaskTimer(plugin,
+            () -> rotateHotCategory(random), intervalTicks, intervalTicks);
+        rotateHotCategory(random);
     }
 
-    private void rotateHotCategory() {
+    /**
+     * Moves the seasonal bonus to a random category and announces it.
+     *
+     * @param random source for the pick
+     * @return id of the new hot category
+     */
+    @NotNull
+    public String rotateHotCategory(@NotNull Random random) {
         double hotMult = plugin.getConfigManager().getHotMultiplier();
 
         if (hotCategoryId != null && categories.containsKey(hotCategoryId)) {
@@ -204,7 +506,7 @@ public class EconomyService {
         }
 
         List<String> keys = new ArrayList<>(categories.keySet());
-        hotCategoryId = keys.get(new Random().nextInt(keys.size()));
+        hotCategoryId = keys.get(random.nextInt(keys.size()));
         categories.get(hotCategoryId).setHot(true, hotMult);
 
         String catName = categories.get(hotCategoryId).getDisplayName();
@@ -214,88 +516,39 @@ public class EconomyService {
 
         plugin.getServer().getOnlinePlayers().forEach(p -> p.sendMessage(msg));
         logger.info("Seasonal hot category: " + hotCategoryId);
+        return hotCategoryId;
     }
 
     // -------------------------------------------------------------------------
     // Diversity Bonus
     // -------------------------------------------------------------------------
 
-    private boolean hasDiversityBonus(@NotNull Player player, @NotNull String soldCategoryId) {
+    private boolean hasDiversityBonus(@NotNull PlayerSession session, @NotNull MarketCategory sold, long now) {
         if (!plugin.getConfigManager().isDiversityBonusEnabled()) {
             return false;
         }
 
         int minCategories = plugin.getConfigManager().getDiversityMinCategories();
         long windowMs = plugin.getConfigManager().getDiversityWindowMinutes() * 60_000L;
-        long now = System.currentTimeMillis();
 
-        Map<String, Long> tracker = diversityTracker.getOrDefault(player.getUniqueId(), Collections.emptyMap());
-
-        // Count distinct categories sold within the time window
-        long distinctCount = tracker.entrySet().stream()
-            .filter(e -> (now - e.getValue()) <= windowMs)
-            .count();
-
-        // Include current category if it's new or expired
-        Long lastSell = tracker.get(soldCategoryId);
-        if (lastSell == null || (now - lastSell) > windowMs) {
-            distinctCount++;
-        }
-
-        return distinctCount >= minCategories;
+        // Distinct categories sold within the window, counting this one
+        return session.distinctCategoriesWith(sold.getOrdinal(), now, windowMs) >= minCategories;
     }
 
-    private void updateDiversityTracker(@NotNull Player player, @NotNull String categoryId) {
-        diversityTracker
-            .computeIfAbsent(player.getUniqueId(), k -> new HashMap<>())
-            .put(categoryId, System.currentTimeMillis());
-    }
-
-    // -------------------------------------------------------------------------
-    // Inventory utilities
-    // -------------------------------------------------------------------------
-
-    private int countItemsInInventory(@NotNull Player player, @NotNull MarketItem item) {
-        int count = 0;
-        for (var stack : player.getInventory().getContents()) {
-            if (stack != null && stack.getType() == item.getMaterial()) {
-                count += stack.getAmount();
-            }
-        }
-        return count;
-    }
-
-    private void removeItemsFromInventory(@NotNull Player player, @NotNull MarketItem item, int amount) {
-        int remaining = amount;
-        var contents = player.getInventory().getContents();
-
-        for (int i = 0; i < contents.length && remaining > 0; i++) {
-            var stack = contents[i];
-            if (stack == null || stack.getType() != item.getMaterial()) {
-                continue;
-            }
-            if (stack.getAmount() <= remaining) {
-                remaining -= stack.getAmount();
-                player.getInventory().setItem(i, null);
-            } else {
-                stack.setAmount(stack.getAmount() - remaining);
-                remaining = 0;
-            }
-        }
-
-        player.updateInventory();
+    private void updateDiversityTracker(@NotNull PlayerSession session, @NotNull MarketCategory category, long now) {
+        long windowMs = plugin.getConfigManager().getDiversityWindowMinutes() * 60_000L;
+        session.recordCategorySale(category.getOrdinal(), now, windowMs);
     }
 
     // -------------------------------------------------------------------------
     // Cooldown
     // -------------------------------------------------------------------------
 
-    private boolean isOnCooldown(@NotNull Player player) {
+    private boolean isOnCooldown(@NotNull Player player, @NotNull PlayerSession session) {
         if (player.hasPermission("dynamiceconomy.bypass.cooldown")) {
             return false;
         }
-        long lastSell = sellCooldowns.getOrDefault(player.getUniqueId(), 0L);
-        long elapsedMs = System.currentTimeMillis() - lastSell;
+        long elapsedMs = System.currentTimeMillis() - session.getLastSellMillis();
         return elapsedMs < plugin.getConfigManager().getSellCooldownSeconds() * 1000L;
     }
 
@@ -331,6 +584,12 @@ public class EconomyService {
         return itemIndex;
     }
 
+    /** Returns the dense table holding every item's dynamic state. */
+    @NotNull
+    public MarketTable getTable() {
+        return table;
+    }
+
     @NotNull
     public PriceCalculator getPriceCalculator() {
         return priceCalculator;
@@ -342,13 +601,12 @@ public class EconomyService {
     }
     // ── Added in 1.2.0 ────────────────────────────────────────────────────────
 
-    /** Finds a MarketItem by Bukkit Material. Used by GuiListener. */
-    @org.jetbrains.annotations.Nullable
-    public MarketItem getItemByMaterial(@org.jetbrains.annotations.NotNull org.bukkit.Material material) {
-        for (MarketItem item : itemIndex.values()) {
-            if (item.getMaterial() == material) return item;
-        }
-        return null;
+    /** Finds a MarketItem by Bukkit Material in O(1). Used by GuiListener on every click. */
+    @Nullable
+    public MarketItem getItemByMaterial(@NotNull Material material) {
+        MarketItem[] index = materialIndex;
+        int ordinal = material.ordinal();
+        return ordinal < index.length ? index[ordinal] : null;
     }
 
 }
\ No newline at end of file
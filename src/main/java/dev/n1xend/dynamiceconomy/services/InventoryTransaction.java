@@ -0,0 +1,161 @@
+package dev.n1xend.dynamiceconomy.services;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Count-and-remove over a single snapshot of an inventory.
+ *
+ * <p>The contents are copied once when the transaction starts. Counting and
+ * removals are staged against that copy and {@link #commit()} writes back only
+ * the slots that changed. The removed total and the changed slots are reported
+ * exactly, so callers pay out and apply price impact for what was really taken.</p>
+ *
+ * <p>Not thread-safe — use on the main thread and commit before yielding.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class InventoryTransaction {
+
+    private final Inventory inventory;
+    private final ItemStack[] snapshot;
+    private final int[] amounts;     // staged amount per slot
+    private final boolean[] changed;
+    private int changedCount;
+    private int removed;
+
+    private InventoryTransaction(@NotNull Inventory inventory, @NotNull ItemStack[] snapshot) {
+        this.inventory = inventory;
+        this.snapshot  = snapshot;
+        this.amounts   = new int[snapshot.length];
+        this.changed   = new boolean[snapshot.length];
+        for (int i = 0; i < snapshot.length; i++) {
+            amounts[i] = snapshot[i] != null ? snapshot[i].getAmount() : 0;
+        }
+    }
+
+    /** Starts a transaction over every slot, including armor and off-hand for players. */
+    @NotNull
+    public static InventoryTransaction of(@NotNull Inventory inventory) {
+        return new InventoryTransaction(inventory, inventory.getContents());
+    }
+
+    /** Starts a transaction over the main storage slots (hotbar + backpack) only. */
+    @NotNull
+    public static InventoryTransaction ofStorage(@NotNull PlayerInventory inventory) {
+        return new InventoryTransaction(inventory, inventory.getStorageContents());
+    }
+
+    // ── Reads ─────────────────────────────────────────────────────────────────
+
+    public int size() {
+        return snapshot.length;
+    }
+
+    /** Returns the material in a slot, or null if the slot is (or became) empty. */
+    @Nullable
+    public Material typeAt(int slot) {
+        return amounts[slot] > 0 ? snapshot[slot].getType() : null;
+    }
+
+    /** Returns the staged amount in a slot. */
+    public int amountAt(int slot) {
+        return amounts[slot];
+    }
+
+    /** Counts the staged amount of a material across all slots. */
+    public int count(@NotNull Material material) {
+        int count = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            if (amounts[i] > 0 && snapshot[i].getType() == material) {
+                count += amounts[i];
+            }
+        }
+        return count;
+    }
+
+    // ── Staged removals ───────────────────────────────────────────────────────
+
+    /**
+     * Takes up to {@code amount} from one slot.
+     *
+     * @return units actually taken
+     */
+    public int take(int slot, int amount) {
+        int taken = Math.min(amount, amounts[slot]);
+        if (taken <= 0) return 0;
+        amounts[slot] -= taken;
+        removed += taken;
+        if (!changed[slot]) {
+            changed[slot] = true;
+            changedCount++;
+        }
+        return taken;
+    }
+
+    /**
+     * Takes up to {@code amount} of a material, first slots first.
+     *
+     * @return units actually taken
+     */
+    public int remove(@NotNull Material material, int amount) {
+        int left = amount;
+        for (int i = 0; i < snapshot.length && left > 0; i++) {
+            if (amounts[i] > 0 && snapshot[i].getType() == material) {
+                left -= take(i, left);
+            }
+        }
+        return amount - left;
+    }
+
+    /** Total units staged for removal so far. */
+    public int removed() {
+        return removed;
+    }
+
+    /** Slots touched by this transaction, ascending. */
+    @NotNull
+    public int[] changedSlots() {
+        int[] slots = new int[changedCount];
+        int n = 0;
+        for (int i = 0; i < changed.length; i++) {
+            if (changed[i]) slots[n++] = i;
+        }
+        return slots;
+    }
+
+    // ── Commit ────────────────────────────────────────────────────────────────
+
+    /**
+     * Writes the changed slots back to the inventory. Untouched slots are not written.
+     *
+     * @return number of slots written
+     */
+    public int commit() {
+        for (int i = 0; i < changed.length; i++) {
+            if (!changed[i]) continue;
+            if (amounts[i] == 0) {
+                inventory.setItem(i, null);
+            } else {
+                ItemStack stack = snapshot[i].clone();
+                stack.setAmount(amounts[i]);
+                inventory.setItem(i, stack);
+            }
+        }
+        return changedCount;
+    }
+
+    @Override
+    public String toString() {
+        return "InventoryTransaction{removed=" + removed
+            + ", changedSlots=" + Arrays.toString(changedSlots()) + "}";
+    }
+}
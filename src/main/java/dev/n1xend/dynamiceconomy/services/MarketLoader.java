@@ -3,27 +3,40 @@ package dev.n1xend.dynamiceconomy.services;
 import dev.n1xend.dynamiceconomy.DynamicEconomy;
 import dev.n1xend.dynamiceconomy.data.models.MarketCategory;
 import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.pricing.PriceModels;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.io.File;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.*;
 import java.nio.charset.StandardCharsets;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.Objects;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Loads market categories and items from {@code items.yml}.
  *
  * <p>On every startup the bundled {@code items.yml} version is compared to the
  * on-disk version. If the bundled version is higher (or the file is missing),
- * the file is overwritten so new items always appear after a plugin update.</p>
+ * the file is overwritten so new items always appear after a plugin update.
+ * Versions are read from the {@code config-version} line, not by parsing the
+ * YAML.</p>
+ *
+ * <p>The parsed file is compiled to a {@link CompiledCatalog} cached in
+ * {@code cache/catalog.bin}, keyed by the SHA-256 of {@code items.yml} and
+ * the server and plugin versions. A boot with an unchanged file builds the
+ * catalog from the cache without parsing YAML or matching materials.</p>
  *
  * @author n1xend
  * @version 1.2.1
@@ -31,8 +44,12 @@ import java.util.logging.Logger;
 public final class MarketLoader {
 
     private static final String ITEMS_FILE    = "items.yml";
+    private static final String CACHE_FILE    = "cache/catalog.bin";
     private static final String VERSION_KEY   = "config-version";
 
+    private static final Pattern VERSION_LINE =
+            Pattern.compile("^" + VERSION_KEY + ":\\s*[\"']?(\\d+)");
+
     private final DynamicEconomy plugin;
     private final Logger         logger;
 
@@ -43,45 +60,65 @@ public final class MarketLoader {
 
     // ── Public API ────────────────────────────────────────────────────────────
 
+    /**
+     * Builds the categories of items.yml, from the compiled cache when the
+     * file is unchanged. Every item gets a row in {@code table}.
+     *
+     * @param table catalog table that will hold the items' dynamic state
+     * @return enabled categories in file order
+     */
     @NotNull
-    public Map<String, MarketCategory> loadCategories() {
+    public Map<String, MarketCategory> loadCategories(@NotNull MarketTable table) {
+        long start = System.nanoTime();
         ensureItemsFileUpToDate();
 
-        File itemsFile = new File(plugin.getDataFolder(), ITEMS_FILE);
-        FileConfiguration cfg = YamlConfiguration.loadConfiguration(itemsFile);
-
-        Map<String, MarketCategory> categories = new LinkedHashMap<>();
-        ConfigurationSection catSection = cfg.getConfigurationSection("categories");
-        if (catSection == null) {
-            logger.warning("No 'categories' section found in items.yml — shop will be empty!");
-            return categories;
-        }
-
-        int loaded  = 0;
-        int skipped = 0;
-        for (String catId : catSection.getKeys(false)) {
-            ConfigurationSection sec = catSection.getConfigurationSection(catId);
-            if (sec == null) continue;
+        CompiledCatalog catalog = loadCatalog();
+        if (catalog == null) return new LinkedHashMap<>();
 
-            if (!sec.getBoolean("enabled", true)) {
-                skipped++;
-                logger.info("Category '" + catId + "' disabled — skipping.");
-                continue;
-            }
+        Map<String, MarketCategory> categories = build(catalog, table);
+        logger.info("Catalog of " + catalog.itemCount() + " items loaded in "
+                + (System.nanoTime() - start) / 1_000 + " µs.");
+        return categories;
+    }
 
-            MarketCategory cat = parseCategory(catId, sec);
-            if (cat == null) continue;
+    /**
+     * Reads items.yml as it is on disk, from the compiled cache when the file
+     * is unchanged. Touches no live state, so it may run off the main thread;
+     * used by reloads, which apply the result with
+     * {@link EconomyService#applyCatalog}.
+     *
+     * @return the catalog, or {@code null} if items.yml is unreadable or not valid YAML
+     */
+    @Nullable
+    public CompiledCatalog loadCatalog() {
+        Path folder = plugin.getDataFolder().toPath();
+        byte[] source;
+        try {
+            source = Files.readAllBytes(folder.resolve(ITEMS_FILE));
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Cannot read " + ITEMS_FILE + " — shop will be empty!", e);
+            return null;
+        }
 
-            loadItems(cat, sec);
-            categories.put(catId, cat);
-            loaded++;
-            logger.info("Loaded category '" + catId + "' — " + cat.getItems().size() + " items.");
+        Path cacheFile = folder.resolve(CACHE_FILE);
+        String key = cacheKey(source);
+        CompiledCatalog catalog = null;
+        try {
+            catalog = CompiledCatalog.read(cacheFile, key);
+        } catch (IOException e) {
+            logger.warning("Ignoring " + CACHE_FILE + ": " + e.getMessage());
         }
+        if (catalog != null) return catalog;
 
-        if (skipped > 0)
-            logger.info(skipped + " categor" + (skipped == 1 ? "y" : "ies") + " disabled.");
-        logger.info("Total categories loaded: " + loaded);
-        return categories;
+        catalog = compile(source);
+        if (catalog == null) return null;
+        logger.info("Compiled " + ITEMS_FILE + " into " + CACHE_FILE + ".");
+        try {
+            catalog.write(cacheFile, key);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to write " + CACHE_FILE, e);
+        }
+        return catalog;
     }
 
     // ── File versioning ───────────────────────────────────────────────────────
@@ -106,56 +143,175 @@ public final class MarketLoader {
     private int getBundledVersion() {
         InputStream is = plugin.getResource(ITEMS_FILE);
         if (is == null) return 0;
-        FileConfiguration cfg = YamlConfiguration.loadConfiguration(
-                new InputStreamReader(is, StandardCharsets.UTF_8));
-        return cfg.getInt(VERSION_KEY, 0);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            return readVersion(reader);
+        } catch (IOException e) {
+            return 0;
+        }
     }
 
     private int getDiskVersion(@NotNull File file) {
         if (!file.exists()) return -1;
-        FileConfiguration cfg = YamlConfiguration.loadConfiguration(file);
-        return cfg.getInt(VERSION_KEY, 0);
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            return readVersion(reader);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /** Value of the top-level {@code config-version} line, 0 if there is none. */
+    private static int readVersion(@NotNull BufferedReader reader) throws IOException {
+        for (String line; (line = reader.readLine()) != null; ) {
+            Matcher m = VERSION_LINE.matcher(line);
+            if (m.find()) return Integer.parseInt(m.group(1));
+        }
+        return 0;
+    }
+
+    // ── Cache ─────────────────────────────────────────────────────────────────
+
+    @NotNull
+    private String cacheKey(@NotNull byte[] source) {
+        try {
+            String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(source));
+            // Material names and parsing rules change with the server and the plugin
+            return hash + "|" + plugin.getServer().getBukkitVersion() + "|" + plugin.getDescription().getVersion();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required by every JVM", e);
+        }
+    }
+
+    // ── Building ──────────────────────────────────────────────────────────────
+
+    @NotNull
+    private Map<String, MarketCategory> build(@NotNull CompiledCatalog catalog, @NotNull MarketTable table) {
+        for (String warning : catalog.warnings()) logger.warning(warning);
+        for (String catId : catalog.disabled()) logger.info("Category '" + catId + "' disabled — skipping.");
+
+        Map<String, MarketCategory> categories = new LinkedHashMap<>();
+        for (CompiledCatalog.Category spec : catalog.categories()) {
+            MarketCategory cat = new MarketCategory(spec.id(), spec.displayName(), spec.description(),
+                    spec.icon(), spec.slot(), true);
+            cat.setPriceModel(spec.priceModel(), spec.elasticity());
+            for (CompiledCatalog.Item item : spec.items()) {
+                cat.addItem(new MarketItem(table, item.id(), spec.id(), item.displayName(),
+                        item.material(), item.basePrice()));
+            }
+            categories.put(spec.id(), cat);
+            logger.info("Loaded category '" + spec.id() + "' — " + cat.getItems().size() + " items.");
+        }
+
+        int skipped = catalog.disabled().size();
+        if (skipped > 0)
+            logger.info(skipped + " categor" + (skipped == 1 ? "y" : "ies") + " disabled.");
+        logger.info("Total categories loaded: " + categories.size());
+        return categories;
     }
 
     // ── Parsing ───────────────────────────────────────────────────────────────
 
-    private MarketCategory parseCategory(@NotNull String id,
-                                          @NotNull ConfigurationSection sec) {
+    /**
+     * Parses items.yml into a compiled catalog. Problems that skip an entry
+     * are collected as warnings rather than logged, so a cached catalog
+     * reports them too.
+     *
+     * @return the catalog, or {@code null} if the file is not valid YAML
+     */
+    @Nullable
+    private CompiledCatalog compile(@NotNull byte[] source) {
+        YamlConfiguration cfg = new YamlConfiguration();
+        try {
+            cfg.loadFromString(new String(source, StandardCharsets.UTF_8));
+        } catch (InvalidConfigurationException e) {
+            logger.log(Level.SEVERE, "Cannot parse " + ITEMS_FILE + " — shop will be empty!", e);
+            return null;
+        }
+
+        List<CompiledCatalog.Category> categories = new ArrayList<>();
+        List<String> disabled = new ArrayList<>();
+        List<String> warnings = new ArrayList<>();
+        ConfigurationSection catSection = cfg.getConfigurationSection("categories");
+        if (catSection == null) {
+            warnings.add("No 'categories' section found in items.yml — shop will be empty!");
+            return new CompiledCatalog(categories, disabled, warnings);
+        }
+
+        for (String catId : catSection.getKeys(false)) {
+            ConfigurationSection sec = catSection.getConfigurationSection(catId);
+            if (sec == null) continue;
+
+            if (!sec.getBoolean("enabled", true)) {
+                disabled.add(catId);
+                continue;
+            }
+
+            CompiledCatalog.Category cat = parseCategory(catId, sec, warnings);
+            if (cat != null) categories.add(cat);
+        }
+        return new CompiledCatalog(categories, disabled, warnings);
+    }
+
+    @Nullable
+    private CompiledCatalog.Category parseCategory(@NotNull String id,
+                                                   @NotNull ConfigurationSection sec,
+                                                   @NotNull List<String> warnings) {
         String rawName = sec.getString("display-name", id);
         String desc    = sec.getString("description", "");
         String iconStr = sec.getString("icon", "CHEST");
         int    slot    = sec.getInt("slot", 10);
 
-        Material icon = parseMaterial(iconStr, "icon for category " + id);
+        Material icon = parseMaterial(iconStr, "icon for category " + id, warnings);
         if (icon == null) return null;
 
-        return new MarketCategory(id,
+        ConfigurationSection pm = sec.getConfigurationSection("price-model");
+        String type = (pm != null)
+                ? pm.getString("type", PriceModels.DEFAULT_TYPE)
+                : sec.getString("price-model", PriceModels.DEFAULT_TYPE);
+        double elasticity = (pm != null) ? pm.getDouble("elasticity", 1.0) : 1.0;
+        if (PriceModels.create(type, elasticity, 0.0) == null) {
+            warnings.add("Unknown price-model '" + type + "' in category "
+                    + id + " — using " + PriceModels.DEFAULT_TYPE + ".");
+            type = PriceModels.DEFAULT_TYPE;
+        }
+        if (elasticity <= 0) {
+            warnings.add("price-model.elasticity must be positive in category "
+                    + id + " — using 1.0.");
+            elasticity = 1.0;
+        }
+
+        return new CompiledCatalog.Category(id,
                 rawName.replace("&", "§"),
                 desc.replace("&", "§"),
-                icon, slot, true);
+                icon, slot, type, elasticity, parseItems(id, sec, warnings));
     }
 
-    private void loadItems(@NotNull MarketCategory cat,
-                            @NotNull ConfigurationSection catSec) {
+    @NotNull
+    private List<CompiledCatalog.Item> parseItems(@NotNull String catId,
+                                                  @NotNull ConfigurationSection catSec,
+                                                  @NotNull List<String> warnings) {
+        List<CompiledCatalog.Item> result = new ArrayList<>();
         ConfigurationSection items = catSec.getConfigurationSection("items");
-        if (items == null) return;
+        if (items == null) return result;
 
         for (String matName : items.getKeys(false)) {
             ConfigurationSection iSec = items.getConfigurationSection(matName);
             if (iSec == null) continue;
 
-            Material mat = parseMaterial(matName, "item " + matName + " in " + cat.getId());
+            Material mat = parseMaterial(matName, "item " + matName + " in " + catId, warnings);
             if (mat == null) continue;
 
             String name  = iSec.getString("display-name", matName).replace("&", "§");
             double price = iSec.getDouble("base-price", 1.0);
-            cat.addItem(new MarketItem(matName, cat.getId(), name, mat, price));
+            result.add(new CompiledCatalog.Item(matName, name, mat, price));
         }
+        return result;
     }
 
-    private Material parseMaterial(@NotNull String name, @NotNull String ctx) {
+    @Nullable
+    private static Material parseMaterial(@NotNull String name, @NotNull String ctx,
+                                          @NotNull List<String> warnings) {
         Material m = Material.matchMaterial(name);
-        if (m == null) logger.warning("Unknown material '" + name + "' for " + ctx + " — skipping.");
+        if (m == null) warnings.add("Unknown material '" + name + "' for " + ctx + " — skipping.");
         return m;
     }
 }
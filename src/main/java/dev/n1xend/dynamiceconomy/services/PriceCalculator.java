@@ -2,17 +2,25 @@ package dev.n1xend.dynamiceconomy.services;
 
 import dev.n1xend.dynamiceconomy.config.ConfigManager;
 import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import dev.n1xend.dynamiceconomy.data.models.PriceState;
+import dev.n1xend.dynamiceconomy.pricing.PriceModel;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Handles all price calculations for the dynamic market economy.
  *
  * <p>This class is stateless and contains only pure mathematical operations.
+ * The shape of the price drop and of recovery comes from the item's
+ * {@link PriceModel}; the default linear model gives<br>
  * Price drop formula: {@code drop = dropPerStack × (amount / 64.0)}<br>
- * Recovery formula: {@code recovered = currentMultiplier + (recoveryPerHour × hoursElapsed)}<br>
+ * Recovery formula (evaluated lazily on read): {@code min(1, storedMultiplier + recoveryPerHour × hoursSinceWrite)}<br>
  * Payout formula: {@code gross = price × seasonalMult × diversityMult × contractMult × amount}<br>
  * {@code net = gross × (1 - taxRate)}</p>
  *
+ * <p>Mutations are lock-free: the new multiplier is computed from a snapshot
+ * and published with compare-and-set, retrying if another thread (e.g. the
+ * async save task) changed the item in between.</p>
+ *
  * @author n1xend
  * @version 1.0.0
  * @since 1.0.0
@@ -30,36 +38,71 @@ public class PriceCalculator {
     // -------------------------------------------------------------------------
 
     /**
-     * Applies a sell event to an item — drops multiplier proportional to quantity.
+     * Applies a sell event to an item — drops multiplier along the item's price model.
      *
-     * <p>Each 64 units equals one full {@code price-drop-per-stack} tick.
-     * Multiplier is clamped to configured minimum.</p>
+     * <p>With the default linear model each 64 units equals one full
+     * {@code price-drop-per-stack} tick. Multiplier is clamped to configured minimum.</p>
      *
      * @param item   the market item
      * @param amount units sold
      */
     public void applySale(@NotNull MarketItem item, int amount) {
-        double drop = configManager.getPriceDropPerStack() * (amount / 64.0);
-        double newMultiplier = Math.max(configManager.getMinPriceMultiplier(), item.getCurrentMultiplier() - drop);
-        item.setCurrentMultiplier(newMultiplier);
+        applySale(item, amount, System.currentTimeMillis());
+    }
+
+    /**
+     * Applies a sell event at an explicit instant.
+     *
+     * <p>The drop is applied to the lazily recovered multiplier at the
+     * {@linkplain PriceState#anchor anchor} of {@code nowMillis}, and the result
+     * is stored with that anchor, so recovery after the sale starts where the
+     * recovery before it stopped.</p>
+     *
+     * @param item      the market item
+     * @param amount    units sold
+     * @param nowMillis epoch millis of the sale
+     */
+    public void applySale(@NotNull MarketItem item, int amount, long nowMillis) {
+        double dropPerStack = configManager.getPriceDropPerStack();
+        double min          = configManager.getMinPriceMultiplier();
+        double stacks       = amount / 64.0;
+        PriceModel model    = item.getPriceModel();
+        long at             = PriceState.anchor(nowMillis);
+        long state;
+        long next;
+        do {
+            state = item.getPriceState();
+            double after = model.afterSale(item.multiplierOf(state, at), stacks, dropPerStack);
+            next  = PriceState.pack(Math.max(min, after), at);
+        } while (!item.compareAndSetPriceState(state, next));
         item.recordSell(amount);
     }
 
     /**
-     * Applies time-based price recovery toward base multiplier of 1.0.
+     * Applies an explicit amount of recovery toward base multiplier of 1.0,
+     * on top of the lazy recovery the item already accrues on read.
      *
-     * <p>Called periodically by the recovery scheduler.
-     * Does nothing if the item is already at full base price.</p>
+     * <p>No longer scheduled — prices recover analytically from the last write
+     * (see {@link MarketItem#getMultiplierAt(long)}). Kept for catch-up adjustments
+     * and tooling. Does nothing if the item is already at full base price.</p>
      *
      * @param item         the market item
-     * @param hoursElapsed hours elapsed since last recovery tick
+     * @param hoursElapsed hours of recovery to apply
      */
     public void applyRecovery(@NotNull MarketItem item, double hoursElapsed) {
-        if (item.getCurrentMultiplier() >= 1.0) {
-            return;
-        }
-        double recovered = item.getCurrentMultiplier() + (configManager.getPriceRecoveryPerHour() * hoursElapsed);
-        item.setCurrentMultiplier(Math.min(1.0, recovered));
+        double perHour = configManager.getPriceRecoveryPerHour();
+        PriceModel model = item.getPriceModel();
+        long now = PriceState.anchor(System.currentTimeMillis());
+        long state;
+        double current;
+        do {
+            state = item.getPriceState();
+            current = item.multiplierOf(state, now);
+            if (current >= 1.0) {
+                return;
+            }
+        } while (!item.compareAndSetPriceState(state,
+            PriceState.pack(Math.min(1.0, model.recover(current, hoursElapsed, perHour)), now)));
     }
 
     // -------------------------------------------------------------------------
@@ -78,7 +121,22 @@ public class PriceCalculator {
      */
     public double calculatePayout(@NotNull MarketItem item, int amount,
                                    double seasonalMultiplier, double diversityMultiplier, double contractMultiplier) {
-        double rawPrice = item.getCurrentPrice() * seasonalMultiplier * diversityMultiplier * contractMultiplier;
+        return calculatePayout(item, amount, seasonalMultiplier, diversityMultiplier, contractMultiplier,
+            System.currentTimeMillis());
+    }
+
+    /**
+     * Calculates the payout at an explicit instant, pricing the item at its
+     * lazily recovered multiplier for {@code nowMillis}.
+     *
+     * @param nowMillis epoch millis of the sale
+     * @see #calculatePayout(MarketItem, int, double, double, double)
+     */
+    public double calculatePayout(@NotNull MarketItem item, int amount,
+                                   double seasonalMultiplier, double diversityMultiplier, double contractMultiplier,
+                                   long nowMillis) {
+        double price = item.getBasePrice() * item.getMultiplierAt(nowMillis);
+        double rawPrice = price * seasonalMultiplier * diversityMultiplier * contractMultiplier;
         double gross = rawPrice * amount;
         return Math.max(0.01, gross * (1.0 - configManager.getSellTax()));
     }
@@ -111,8 +169,9 @@ public class PriceCalculator {
      * @return predicted multiplier after sale
      */
     public double previewMultiplierAfterSale(@NotNull MarketItem item, int amount) {
-        double drop = configManager.getPriceDropPerStack() * (amount / 64.0);
-        return Math.max(configManager.getMinPriceMultiplier(), item.getCurrentMultiplier() - drop);
+        double after = item.getPriceModel().afterSale(item.getCurrentMultiplier(), amount / 64.0,
+            configManager.getPriceDropPerStack());
+        return Math.max(configManager.getMinPriceMultiplier(), after);
     }
 
     // -------------------------------------------------------------------------
@@ -0,0 +1,199 @@
+package dev.n1xend.dynamiceconomy.services;
+
+import dev.n1xend.dynamiceconomy.DynamicEconomy;
+import dev.n1xend.dynamiceconomy.services.EconomyService.CatalogChanges;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Applies edits to config.yml, items.yml and the message files to the
+ * running plugin without touching market state.
+ *
+ * <p>{@link #reload} compiles items.yml on an async task — from the catalog
+ * cache when it is unchanged — and applies everything on the main thread:
+ * config and messages swap their snapshots, and the new catalog is diffed
+ * into the running one by {@link EconomyService#applyCatalog}. Live
+ * multipliers, sell statistics and unsaved rows stay as they are; nothing is
+ * read back from the market store.</p>
+ *
+ * <p>With {@code reload.watch: true} the files are polled every
+ * {@code reload.watch-interval-seconds}. A change is applied once the file's
+ * size and modification time have held for one poll, so a half-written file
+ * is not picked up.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class ReloadService {
+
+    /**
+     * Outcome of a reload.
+     *
+     * @param changes what the catalog reload changed, {@code null} if items.yml could not be read
+     * @param millis  time from the request to the applied state
+     */
+    public record Result(@Nullable CatalogChanges changes, long millis) {}
+
+    private static final String CONFIG_FILE  = "config.yml";
+    private static final String ITEMS_FILE   = "items.yml";
+    private static final String MESSAGES_DIR = "messages";
+
+    /** Size and modification time of a watched file; {@code null} stands for a missing file. */
+    private record Stamp(long modified, long length) {}
+
+    /** Watch settings read on the main thread, for the async poll. */
+    private record Watch(boolean enabled, @NotNull List<File> files) {}
+
+    private final DynamicEconomy plugin;
+    private final Logger         logger;
+    private final MarketLoader   loader;
+
+    // Main thread only
+    private final List<Consumer<Result>> waiting = new ArrayList<>();
+    private boolean running;
+    private boolean again;
+
+    // Replaced on the main thread whenever the config is (re)loaded
+    private volatile Watch watch;
+
+    // Watch task only: stamps at the last triggered reload and at the last poll
+    private final Map<File, Stamp> applied = new HashMap<>();
+    private final Map<File, Stamp> seen    = new HashMap<>();
+
+    public ReloadService(@NotNull DynamicEconomy plugin) {
+        this.plugin = Objects.requireNonNull(plugin);
+        this.logger = plugin.getLogger();
+        this.loader = new MarketLoader(plugin);
+    }
+
+    // ── Reload ────────────────────────────────────────────────────────────────
+
+    /**
+     * Reloads config, messages and catalog. A request made while a reload is
+     * running is folded into one more reload after it. Call on the main thread.
+     *
+     * @param done called on the main thread with the result; may be {@code null}
+     */
+    public void reload(@Nullable Consumer<Result> done) {
+        if (done != null) waiting.add(done);
+        if (running) {
+            again = true;
+            return;
+        }
+        running = true;
+        long start = System.nanoTime();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            CompiledCatalog catalog;
+            try {
+                catalog = loader.loadCatalog();
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, "[Reload] Failed to compile " + ITEMS_FILE, e);
+                catalog = null;
+            }
+            CompiledCatalog compiled = catalog;
+            Bukkit.getScheduler().runTask(plugin, () -> apply(compiled, start));
+        });
+    }
+
+    private void apply(@Nullable CompiledCatalog catalog, long start) {
+        plugin.reloadConfig();
+        plugin.getConfigManager().reload();
+        plugin.getMessageManager().reload();
+        watch = readWatch();
+
+        CatalogChanges changes = null;
+        if (catalog != null) {
+            for (String warning : catalog.warnings()) logger.warning(warning);
+            changes = plugin.getEconomyService().applyCatalog(catalog);
+        } else {
+            plugin.getEconomyService().applyPriceModels();
+            logger.warning("[Reload] " + ITEMS_FILE + " could not be loaded — keeping the current catalog.");
+        }
+
+        Result result = new Result(changes, (System.nanoTime() - start) / 1_000_000);
+        logger.info("[Reload] Applied in " + result.millis() + " ms"
+            + (changes != null ? ": " + describe(changes) : "") + ".");
+
+        List<Consumer<Result>> callbacks = List.copyOf(waiting);
+        waiting.clear();
+        running = false;
+        for (Consumer<Result> callback : callbacks) callback.accept(result);
+        if (again) {
+            again = false;
+            reload(null);
+        }
+    }
+
+    @NotNull
+    private static String describe(@NotNull CatalogChanges c) {
+        if (c.isEmpty()) return "catalog unchanged";
+        return "categories +" + c.categoriesAdded() + " -" + c.categoriesRemoved() + " ~" + c.categoriesChanged()
+            + ", items +" + c.itemsAdded() + " -" + c.itemsRemoved() + " ~" + c.itemsChanged();
+    }
+
+    // ── Watch ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Starts polling the watched files. A reload re-reads {@code reload.watch}
+     * and the message language; the interval takes effect on restart. Call on
+     * the main thread.
+     */
+    public void startWatching() {
+        watch = readWatch();
+        long ticks = 20L * plugin.getConfigManager().getReloadWatchIntervalSeconds();
+        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::poll, ticks, ticks);
+    }
+
+    private void poll() {
+        Watch current = watch;
+        if (!current.enabled()) return;
+        List<File> files = current.files();
+        if (applied.isEmpty()) {
+            // First poll: the files as loaded at startup
+            for (File file : files) {
+                Stamp now = stamp(file);
+                applied.put(file, now);
+                seen.put(file, now);
+            }
+            return;
+        }
+
+        List<String> changed = new ArrayList<>();
+        for (File file : files) {
+            Stamp now  = stamp(file);
+            Stamp last = seen.put(file, now);
+            // Reload only once the file has held still for a whole poll
+            if (Objects.equals(now, last) && !Objects.equals(now, applied.get(file))) changed.add(file.getName());
+        }
+        if (changed.isEmpty()) return;
+        for (File file : files) applied.put(file, seen.get(file));
+
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            logger.info("[Reload] " + String.join(", ", changed) + " changed on disk — reloading.");
+            reload(null);
+        });
+    }
+
+    @NotNull
+    private Watch readWatch() {
+        File folder = plugin.getDataFolder();
+        String lang = plugin.getConfigManager().getLanguage();
+        return new Watch(plugin.getConfigManager().isReloadWatchEnabled(), List.of(
+            new File(folder, CONFIG_FILE),
+            new File(folder, ITEMS_FILE),
+            new File(folder, MESSAGES_DIR + "/messages_" + lang + ".yml")));
+    }
+
+    @Nullable
+    private static Stamp stamp(@NotNull File file) {
+        return file.exists() ? new Stamp(file.lastModified(), file.length()) : null;
+    }
+}
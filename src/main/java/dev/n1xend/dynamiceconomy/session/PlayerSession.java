@@ -0,0 +1,168 @@
+package dev.n1xend.dynamiceconomy.session;
+
+import dev.n1xend.dynamiceconomy.gui.GuiStateStore.SellMode;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * All transient per-player state of an online player, in one object.
+ *
+ * <p>Holds GUI navigation, the sell cooldown and the diversity-bonus history
+ * that used to live in separate per-UUID maps. One lookup per event reaches
+ * everything; the whole object is dropped when the player quits.</p>
+ *
+ * <p>Diversity history is one timestamp per category, indexed by
+ * {@link dev.n1xend.dynamiceconomy.data.models.MarketCategory#getOrdinal()},
+ * plus a running count of categories inside the window. The count is only
+ * recomputed once the earliest counted sale has expired, so the bonus check
+ * is O(1) and allocation-free on the sell path.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class PlayerSession {
+
+    private final UUID uuid;
+
+    // ── Shop GUI ──────────────────────────────────────────────────────────────
+    private String   category;
+    private int      page;
+    private String   sellItem;
+    private int      sellAmount;
+    private SellMode sellMode = SellMode.ALL;
+
+    // ── Auction GUI ───────────────────────────────────────────────────────────
+    private int     auctionPage;
+    private boolean auctionMyLots;
+
+    // ── Selling ───────────────────────────────────────────────────────────────
+    private long   lastSellMillis;
+    private long[] soldAt = new long[0];   // by category ordinal; NEVER_SOLD if none
+    private int    inWindow;               // categories with a sale inside the window
+    private long   recountAt = Long.MAX_VALUE; // earliest moment inWindow may go stale
+    private long   countedWindowMs = -1;
+
+    private static final long NEVER_SOLD = Long.MIN_VALUE;
+
+    public PlayerSession(@NotNull UUID uuid) {
+        this.uuid = uuid;
+    }
+
+    @NotNull
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    // ── Shop GUI ──────────────────────────────────────────────────────────────
+
+    @Nullable public String getCategory()             { return category; }
+    public void setCategory(@Nullable String category) { this.category = category; }
+
+    public int getPage()          { return page; }
+    public void setPage(int page) { this.page = page; }
+
+    @Nullable public String getSellItem()              { return sellItem; }
+    public void setSellItem(@Nullable String sellItem) { this.sellItem = sellItem; }
+
+    public int getSellAmount()                { return sellAmount; }
+    public void setSellAmount(int sellAmount) { this.sellAmount = sellAmount; }
+
+    @NotNull public SellMode getSellMode()              { return sellMode; }
+    public void setSellMode(@NotNull SellMode sellMode) { this.sellMode = sellMode; }
+
+    // ── Auction GUI ───────────────────────────────────────────────────────────
+
+    public int getAuctionPage()                 { return auctionPage; }
+    public void setAuctionPage(int auctionPage) { this.auctionPage = auctionPage; }
+
+    public boolean isAuctionMyLots()                    { return auctionMyLots; }
+    public void setAuctionMyLots(boolean auctionMyLots) { this.auctionMyLots = auctionMyLots; }
+
+    /** Resets navigation state; selling history is kept. */
+    public void clearGui() {
+        category      = null;
+        page          = 0;
+        sellItem      = null;
+        sellAmount    = 0;
+        sellMode      = SellMode.ALL;
+        auctionPage   = 0;
+        auctionMyLots = false;
+    }
+
+    // ── Sell cooldown ─────────────────────────────────────────────────────────
+
+    /** Epoch millis of the last successful sell, 0 if none this session. */
+    public long getLastSellMillis() {
+        return lastSellMillis;
+    }
+
+    public void setLastSellMillis(long lastSellMillis) {
+        this.lastSellMillis = lastSellMillis;
+    }
+
+    // ── Diversity history ─────────────────────────────────────────────────────
+
+    /**
+     * Counts distinct categories sold within the window, including
+     * {@code categoryOrdinal} as if it were being sold now.
+     *
+     * @param categoryOrdinal category of the pending sale
+     * @param nowMillis       epoch millis of the pending sale
+     * @param windowMs        diversity window length
+     * @return distinct categories in the window after this sale
+     */
+    public int distinctCategoriesWith(int categoryOrdinal, long nowMillis, long windowMs) {
+        refresh(nowMillis, windowMs);
+        return inWindow(categoryOrdinal, nowMillis, windowMs) ? inWindow : inWindow + 1;
+    }
+
+    /**
+     * Records a sale in a category.
+     *
+     * @param categoryOrdinal category sold
+     * @param nowMillis       epoch millis of the sale
+     * @param windowMs        diversity window length
+     */
+    public void recordCategorySale(int categoryOrdinal, long nowMillis, long windowMs) {
+        refresh(nowMillis, windowMs);
+        if (categoryOrdinal >= soldAt.length) {
+            int from = soldAt.length;
+            soldAt = Arrays.copyOf(soldAt, Math.max(categoryOrdinal + 1, from * 2));
+            Arrays.fill(soldAt, from, soldAt.length, NEVER_SOLD);
+        }
+        if (!inWindow(categoryOrdinal, nowMillis, windowMs)) inWindow++;
+        soldAt[categoryOrdinal] = nowMillis;
+        // An earlier sale of this category may still hold recountAt; that only costs one early recount
+        recountAt = Math.min(recountAt, nowMillis + windowMs);
+    }
+
+    private boolean inWindow(int categoryOrdinal, long nowMillis, long windowMs) {
+        return categoryOrdinal < soldAt.length
+            && soldAt[categoryOrdinal] != NEVER_SOLD
+            && nowMillis - soldAt[categoryOrdinal] <= windowMs;
+    }
+
+    /** Recounts the window once its earliest sale has expired or the window length changed. */
+    private void refresh(long nowMillis, long windowMs) {
+        if (nowMillis <= recountAt && windowMs == countedWindowMs) return;
+        int count = 0;
+        long next = Long.MAX_VALUE;
+        for (long at : soldAt) {
+            if (at == NEVER_SOLD || nowMillis - at > windowMs) continue;
+            count++;
+            next = Math.min(next, at + windowMs);
+        }
+        inWindow = count;
+        recountAt = next;
+        countedWindowMs = windowMs;
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerSession{" + uuid + ", category=" + category + ", page=" + page + "}";
+    }
+}
@@ -0,0 +1,53 @@
+package dev.n1xend.dynamiceconomy.session;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of {@link PlayerSession}s for online players.
+ *
+ * <p>Sessions are opened on join and closed on quit (see
+ * {@link dev.n1xend.dynamiceconomy.listeners.SessionListener}), so memory
+ * follows the online count rather than every player ever seen. Lookups
+ * never create one: a GUI or sell path that runs after the player quit
+ * finds no session and stops. Players already online when the plugin is
+ * enabled get theirs from {@link dev.n1xend.dynamiceconomy.DynamicEconomy}.</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class SessionService {
+
+    private final Map<UUID, PlayerSession> sessions = new ConcurrentHashMap<>();
+
+    /** Returns the player's session, or null if none is open. Never creates one. */
+    @Nullable
+    public PlayerSession peek(@Nullable UUID uuid) {
+        return uuid == null ? null : sessions.get(uuid);
+    }
+
+    /** Opens a fresh session, e.g. on join. */
+    public void open(@NotNull UUID uuid) {
+        sessions.put(uuid, new PlayerSession(uuid));
+    }
+
+    /** Drops the player's session, e.g. on quit. */
+    public void close(@NotNull UUID uuid) {
+        sessions.remove(uuid);
+    }
+
+    /** Number of open sessions. */
+    public int size() {
+        return sessions.size();
+    }
+
+    /** Drops every session, e.g. on disable. */
+    public void clear() {
+        sessions.clear();
+    }
+}
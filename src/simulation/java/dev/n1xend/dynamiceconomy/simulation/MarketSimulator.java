@@ -0,0 +1,345 @@
+package dev.n1xend.dynamiceconomy.simulation;
+
+import dev.n1xend.dynamiceconomy.DynamicEconomy;
+import dev.n1xend.dynamiceconomy.config.ConfigManager;
+import dev.n1xend.dynamiceconomy.config.EconomyConfig;
+import dev.n1xend.dynamiceconomy.config.MessageManager;
+import dev.n1xend.dynamiceconomy.data.models.MarketCategory;
+import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.services.ContractService;
+import dev.n1xend.dynamiceconomy.services.EconomyService;
+import dev.n1xend.dynamiceconomy.services.MarketLoader;
+import dev.n1xend.dynamiceconomy.session.SessionService;
+import org.bukkit.Server;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Headless market simulator — drives synthetic players through the real sell,
+ * contract and seasonal logic without a Paper server.
+ *
+ * <p>Time is virtual: every event carries its own timestamp and the services are
+ * called through their explicit-time entry points ({@link EconomyService#settleSale},
+ * {@link ContractService#tick(long)}), so a simulated week runs in seconds. All
+ * randomness comes from one seeded {@link Random}; the same arguments always
+ * produce the same market.</p>
+ *
+ * <p>Each player has a few favourite categories and sells a random item from one
+ * of them every {@code cooldown + exp(interval)} seconds. Contract ticks, seasonal
+ * rotations and auto-save settles run at the configured intervals.</p>
+ *
+ * <pre>./gradlew simulate -PsimArgs="--players 200 --hours 168 --seed 7"</pre>
+ *
+ * <p>Options: {@code --players}, {@code --hours}, {@code --seed},
+ * {@code --interval} (mean seconds between a player's sells),
+ * {@code --sample} (minutes between multiplier samples),
+ * {@code --config} and {@code --items} (yml files, bundled defaults otherwise).</p>
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public final class MarketSimulator {
+
+    /** Virtual epoch: 2024-01-01T00:00Z. */
+    private static final long START_MILLIS = 1_704_067_200_000L;
+
+    private static final int FAVOURITES = 3;
+
+    private enum Kind { SELL, CONTRACT_TICK, SEASON, SETTLE, SAMPLE }
+
+    private record Event(long at, long seq, Kind kind, int player) {}
+
+    // ── Options ───────────────────────────────────────────────────────────────
+
+    private int    players         = 100;
+    private double hours           = 24;
+    private long   seed            = 42;
+    private double intervalSeconds = 30;
+    private long   sampleMinutes   = 60;
+    private Path   configFile;
+    private Path   itemsFile;
+
+    // ── Wiring ────────────────────────────────────────────────────────────────
+
+    private Random          random;
+    private ConfigManager   config;
+    private EconomyService  economy;
+    private ContractService contracts;
+    private SessionService  sessions;
+    private MarketTable     table;
+    private List<MarketCategory> categories;
+
+    // ── Run state ─────────────────────────────────────────────────────────────
+
+    private final PriorityQueue<Event> queue = new PriorityQueue<>(
+        Comparator.comparingLong(Event::at).thenComparingLong(Event::seq));
+    private long seq;
+    private UUID[] playerIds;
+    private int[][] favourites;
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private long   unitsSold;
+    private double totalPayout;
+    private long   diversitySales;
+    private long   contractSales;
+    private long   contractTicks;
+    private long   rotations;
+    private final List<String> samples = new ArrayList<>();
+
+    public static void main(String[] args) throws IOException {
+        simulate(args, System.out);
+    }
+
+    /** Runs one simulation with command-line style {@code args} and writes the report to {@code out}. */
+    static void simulate(String[] args, PrintStream out) throws IOException {
+        MarketSimulator sim = new MarketSimulator();
+        sim.parse(args);
+        sim.wire();
+        sim.run(out);
+    }
+
+    // ── Setup ─────────────────────────────────────────────────────────────────
+
+    private void parse(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--players"  -> players = Integer.parseInt(value);
+                case "--hours"    -> hours = Double.parseDouble(value);
+                case "--seed"     -> seed = Long.parseLong(value);
+                case "--interval" -> intervalSeconds = Double.parseDouble(value);
+                case "--sample"   -> sampleMinutes = Long.parseLong(value);
+                case "--config"   -> configFile = Path.of(value);
+                case "--items"    -> itemsFile = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (players <= 0 || hours <= 0 || intervalSeconds <= 0 || sampleMinutes <= 0) {
+            throw new IllegalArgumentException("--players, --hours, --interval and --sample must be positive");
+        }
+    }
+
+    /**
+     * Builds a stub-only plugin around the real config, catalog, economy and
+     * contract services. Broadcasts go to a server with no players.
+     */
+    private void wire() throws IOException {
+        random = new Random(seed);
+
+        Path dataFolder = Files.createTempDirectory("de-sim");
+        if (itemsFile != null) {
+            Files.copy(itemsFile, dataFolder.resolve("items.yml"));
+        }
+        YamlConfiguration yaml = configFile != null
+            ? YamlConfiguration.loadConfiguration(configFile.toFile())
+            : YamlConfiguration.loadConfiguration(new InputStreamReader(
+                  Objects.requireNonNull(resource("config.yml")), StandardCharsets.UTF_8));
+        config = new ConfigManager(EconomyConfig.from(yaml));
+
+        Logger logger = Logger.getLogger("simulator");
+        logger.setLevel(Level.OFF);
+
+        Server server = mock(Server.class, withSettings().stubOnly());
+        when(server.getScheduler()).thenReturn(mock(BukkitScheduler.class, withSettings().stubOnly()));
+        doReturn(List.of()).when(server).getOnlinePlayers();
+
+        DynamicEconomy plugin = mock(DynamicEconomy.class, withSettings().stubOnly());
+        when(plugin.getConfig()).thenReturn(yaml);
+        when(plugin.getConfigManager()).thenReturn(config);
+        when(plugin.getLogger()).thenReturn(logger);
+        when(plugin.getDataFolder()).thenReturn(dataFolder.toFile());
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.getMessageManager()).thenReturn(mock(MessageManager.class, withSettings().stubOnly()));
+        sessions = new SessionService();
+        when(plugin.getSessionService()).thenReturn(sessions);
+        // With a custom items.yml, hide the bundled one so MarketLoader never "upgrades" over it
+        when(plugin.getResource(anyString())).thenAnswer(inv -> {
+            String name = inv.getArgument(0);
+            return itemsFile != null && name.equals("items.yml") ? null : resource(name);
+        });
+        doAnswer(inv -> {
+            String name = inv.getArgument(0);
+            try (InputStream in = Objects.requireNonNull(resource(name), name)) {
+                Files.copy(in, dataFolder.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+            }
+            return null;
+        }).when(plugin).saveResource(anyString(), anyBoolean());
+
+        contracts = new ContractService(plugin, random);
+        when(plugin.getContractService()).thenReturn(contracts);
+
+        table = new MarketTable(256);
+        Map<String, MarketCategory> catalog = new MarketLoader(plugin).loadCategories(table);
+        if (catalog.isEmpty()) {
+            throw new IllegalStateException("items.yml has no enabled categories");
+        }
+        // The constructor's seasonal scheduling is a no-op here; run() rotates with the seeded RNG
+        economy = new EconomyService(plugin, catalog, table);
+        when(plugin.getEconomyService()).thenReturn(economy);
+
+        // Rows were anchored at wall-clock time while loading; move them onto the virtual clock
+        table.resetAll(START_MILLIS);
+        categories = List.copyOf(catalog.values());
+    }
+
+    @Nullable
+    private static InputStream resource(@NotNull String name) {
+        return MarketSimulator.class.getClassLoader().getResourceAsStream(name);
+    }
+
+    // ── Run ───────────────────────────────────────────────────────────────────
+
+    private void run(PrintStream out) {
+        long end = START_MILLIS + (long) (hours * 3_600_000L);
+
+        playerIds  = new UUID[players];
+        favourites = new int[players][];
+        for (int p = 0; p < players; p++) {
+            playerIds[p] = new UUID(seed, p);
+            sessions.open(playerIds[p]);
+            favourites[p] = new int[FAVOURITES];
+            for (int f = 0; f < FAVOURITES; f++) {
+                favourites[p][f] = random.nextInt(categories.size());
+            }
+            schedule(START_MILLIS + nextSellDelay(), Kind.SELL, p);
+        }
+        if (config.isContractsEnabled()) {
+            schedule(START_MILLIS, Kind.CONTRACT_TICK, -1);
+        }
+        if (config.isSeasonalDemandEnabled()) {
+            schedule(START_MILLIS, Kind.SEASON, -1);
+        }
+        schedule(START_MILLIS + minutes(config.getAutoSaveIntervalMinutes()), Kind.SETTLE, -1);
+        schedule(START_MILLIS, Kind.SAMPLE, -1);
+
+        long wallStart = System.nanoTime();
+        while (!queue.isEmpty() && queue.peek().at() <= end) {
+            Event e = queue.poll();
+            long now = e.at();
+            switch (e.kind()) {
+                case SELL -> {
+                    sell(e.player(), now);
+                    schedule(now + nextSellDelay(), Kind.SELL, e.player());
+                }
+                case CONTRACT_TICK -> {
+                    contracts.tick(now);
+                    contractTicks++;
+                    schedule(now + minutes(config.getContractSpawnIntervalMinutes()), Kind.CONTRACT_TICK, -1);
+                }
+                case SEASON -> {
+                    economy.rotateHotCategory(random);
+                    rotations++;
+                    schedule(now + minutes(config.getSeasonalChangeIntervalMinutes()), Kind.SEASON, -1);
+                }
+                case SETTLE -> {
+                    table.settleAll(now);
+                    schedule(now + minutes(config.getAutoSaveIntervalMinutes()), Kind.SETTLE, -1);
+                }
+                case SAMPLE -> {
+                    sample(now);
+                    schedule(now + minutes(sampleMinutes), Kind.SAMPLE, -1);
+                }
+            }
+        }
+        long wallNanos = System.nanoTime() - wallStart;
+        sample(end);
+
+        report(out, wallNanos);
+    }
+
+    private void sell(int player, long now) {
+        MarketCategory category = categories.get(favourites[player][random.nextInt(FAVOURITES)]);
+        int[] ordinals = category.getOrdinals();
+        if (ordinals.length == 0) return;
+        MarketItem item = economy.getItem(table.id(ordinals[random.nextInt(ordinals.length)]));
+        if (item == null) return;
+        int amount = Math.min(1 + random.nextInt(4 * 64), config.getMaxSellAmount());
+
+        long t0 = System.nanoTime();
+        EconomyService.SellLine line = economy.settleSale(playerIds[player], item, amount, now);
+        latency.record(System.nanoTime() - t0);
+
+        unitsSold   += amount;
+        totalPayout += line.payout();
+        if (line.hadDiversityBonus()) diversitySales++;
+        if (line.hadContractBonus())  contractSales++;
+    }
+
+    private void sample(long now) {
+        StringBuilder row = new StringBuilder(String.format("%8.1f", (now - START_MILLIS) / 3_600_000.0));
+        double min = 1.0;
+        for (MarketCategory category : categories) {
+            int[] ordinals = category.getOrdinals();
+            row.append(String.format(" %8.3f", table.averageMultiplier(ordinals, now)));
+            for (int ordinal : ordinals) {
+                min = Math.min(min, table.multiplierAt(ordinal, now));
+            }
+        }
+        row.append(String.format(" %8.3f", min));
+        samples.add(row.toString());
+    }
+
+    private void schedule(long at, Kind kind, int player) {
+        queue.add(new Event(at, seq++, kind, player));
+    }
+
+    private long nextSellDelay() {
+        double exp = -Math.log(1.0 - random.nextDouble()) * intervalSeconds;
+        return (long) ((config.getSellCooldownSeconds() + exp) * 1000);
+    }
+
+    private static long minutes(long m) {
+        return Math.max(1, m) * 60_000L;
+    }
+
+    // ── Report ────────────────────────────────────────────────────────────────
+
+    private void report(PrintStream out, long wallNanos) {
+        long ops = latency.count();
+        out.printf("DynamicEconomy market simulation — seed %d%n", seed);
+        out.printf("  players %d, %.1f h simulated, %d items in %d categories%n",
+            players, hours, table.size(), categories.size());
+        out.printf("  economy: drop/stack %.3f, recovery/h %.3f, min mult %.2f, tax %.2f%n",
+            config.getPriceDropPerStack(), config.getPriceRecoveryPerHour(),
+            config.getMinPriceMultiplier(), config.getSellTax());
+        out.println();
+        out.printf("Sells        %,d (%,d units, payout %,.2f)%n", ops, unitsSold, totalPayout);
+        out.printf("  bonuses    diversity %,d, contract %,d%n", diversitySales, contractSales);
+        out.printf("  ticks      contracts %,d, seasonal rotations %,d, active contracts %d%n",
+            contractTicks, rotations, contracts.getActiveContracts().size());
+        out.printf("Throughput   %,.0f sells/s (wall %.2f s)%n",
+            ops / Math.max(1e-9, wallNanos / 1e9), wallNanos / 1e9);
+        out.printf("Latency ns   p50 %,d  p90 %,d  p99 %,d  p99.9 %,d  max %,d%n",
+            latency.percentile(50), latency.percentile(90), latency.percentile(99),
+            latency.percentile(99.9), latency.max());
+        out.println();
+        out.println("Average multiplier per category over time");
+        StringBuilder header = new StringBuilder(String.format("%8s", "hour"));
+        for (MarketCategory category : categories) {
+            String id = category.getId();
+            header.append(String.format(" %8s", id.length() > 8 ? id.substring(0, 8) : id));
+        }
+        header.append(String.format(" %8s", "min"));
+        out.println(header);
+        samples.forEach(out::println);
+    }
+}
@@ -0,0 +1,95 @@
+package dev.n1xend.dynamiceconomy.data;
+
+import dev.n1xend.dynamiceconomy.data.DepositLedger.Credit;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link DepositLedger}.
+ *
+ * @author n1xend
+ */
+@DisplayName("DepositLedger Tests")
+class DepositLedgerTest {
+
+    private static final UUID ALICE = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private static final UUID BOB   = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        file = dir.resolve("deposits.log");
+    }
+
+    private DepositLedger ledger() {
+        return new DepositLedger(file, Logger.getLogger("test"));
+    }
+
+    @Test
+    @DisplayName("Unacknowledged credits should be replayed after a crash")
+    void shouldReplayUnacknowledged() throws Exception {
+        // Arrange — no close(): simulates a crash
+        DepositLedger ledger = ledger();
+        ledger.open();
+        ledger.append(new Credit(1, ALICE, 10.5));
+        ledger.append(new Credit(2, BOB, 3.25));
+        ledger.append(new Credit(3, ALICE, 1.0));
+        ledger.ack(new long[] {1, 3});
+
+        // Act
+        List<Credit> replay = ledger().open();
+
+        // Assert
+        assertEquals(List.of(new Credit(2, BOB, 3.25)), replay);
+    }
+
+    @Test
+    @DisplayName("A torn last line should be ignored")
+    void shouldIgnoreTornLine() throws Exception {
+        // Arrange
+        DepositLedger ledger = ledger();
+        ledger.open();
+        ledger.append(new Credit(1, ALICE, 10.0));
+        ledger.append(new Credit(12, BOB, 5.0));
+        Files.writeString(file, "A 1", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // Act
+        List<Credit> replay = ledger().open();
+
+        // Assert — the partial "A 12" must not acknowledge credit 1
+        assertEquals(2, replay.size());
+    }
+
+    @Test
+    @DisplayName("File should be emptied once everything is acknowledged")
+    void shouldTruncateWhenSettled() throws Exception {
+        // Arrange
+        DepositLedger ledger = ledger();
+        ledger.open();
+        ledger.append(new Credit(1, ALICE, 10.0));
+        ledger.ack(new long[] {1});
+
+        // Act
+        ledger.sync();
+        ledger.append(new Credit(2, BOB, 2.0));
+        ledger.close();
+
+        // Assert
+        assertEquals(List.of("C 2 " + BOB + " 2.0"), Files.readAllLines(file));
+        assertEquals(List.of(new Credit(2, BOB, 2.0)), ledger().open());
+    }
+}
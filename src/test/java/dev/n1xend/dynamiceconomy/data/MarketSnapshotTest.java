@@ -0,0 +1,139 @@
+package dev.n1xend.dynamiceconomy.data;
+
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.data.models.PriceState;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link MarketSnapshot}.
+ *
+ * @author n1xend
+ */
+@DisplayName("MarketSnapshot Tests")
+class MarketSnapshotTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @TempDir
+    Path dir;
+
+    private static MarketTable catalog(String... ids) {
+        MarketTable table = new MarketTable(4);
+        for (String id : ids) table.allocate(id, NOW);
+        return table;
+    }
+
+    private static int ordinalOf(MarketTable table, String id) {
+        for (int i = 0; i < table.size(); i++) {
+            if (table.id(i).equals(id)) return i;
+        }
+        return -1;
+    }
+
+    private static MarketTable written() {
+        MarketTable table = catalog("WHEAT", "CARROT", "POTATO");
+        table.setPriceState(0, PriceState.pack(0.8, NOW));
+        table.recordSell(1, 64, NOW + 1_000);
+        table.setPriceState(2, PriceState.pack(1.3, NOW + 2_000));
+        return table;
+    }
+
+    @Test
+    @DisplayName("Every row should be read back exactly")
+    void shouldRoundTrip() throws Exception {
+        // Arrange
+        MarketTable live = written();
+        Path file = dir.resolve("market_data.bin");
+        MarketSnapshot.write(live, file);
+
+        // Act
+        MarketTable fresh = catalog("WHEAT", "CARROT", "POTATO");
+        int applied = MarketSnapshot.read(file, fresh, id -> ordinalOf(fresh, id));
+
+        // Assert
+        assertEquals(3, applied);
+        for (int i = 0; i < live.size(); i++) {
+            assertEquals(live.priceState(i), fresh.priceState(i), "price state of " + live.id(i));
+            assertEquals(live.lastSell(i), fresh.lastSell(i), "last sell of " + live.id(i));
+            assertEquals(live.totalSold(i), fresh.totalSold(i), "total sold of " + live.id(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Rows should be matched by id when the catalog changed")
+    void shouldMatchByIdAfterCatalogChange() throws Exception {
+        // Arrange
+        Path file = dir.resolve("market_data.bin");
+        MarketSnapshot.write(written(), file);
+
+        // Act — POTATO moved first, CARROT removed, BEETROOT added
+        MarketTable fresh = catalog("POTATO", "WHEAT", "BEETROOT");
+        int applied = MarketSnapshot.read(file, fresh, id -> ordinalOf(fresh, id));
+
+        // Assert
+        assertEquals(2, applied);
+        assertEquals(1.3, PriceState.multiplier(fresh.priceState(0)), 1e-6);
+        assertEquals(0.8, PriceState.multiplier(fresh.priceState(1)), 1e-6);
+        assertEquals(1.0, PriceState.multiplier(fresh.priceState(2)), 1e-6);
+    }
+
+    @Test
+    @DisplayName("A corrupted file should be rejected without touching the table")
+    void shouldRejectCorruption() throws Exception {
+        // Arrange
+        Path file = dir.resolve("market_data.bin");
+        MarketSnapshot.write(written(), file);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 3] ^= 0x10;
+        Files.write(file, bytes);
+        MarketTable fresh = catalog("WHEAT", "CARROT", "POTATO");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> MarketSnapshot.read(file, fresh, id -> ordinalOf(fresh, id)));
+        assertEquals(1.0, PriceState.multiplier(fresh.priceState(0)), 1e-6);
+        assertEquals(0, fresh.totalSold(1));
+    }
+
+    @Test
+    @DisplayName("Extra header and row fields from a newer writer should be skipped")
+    void shouldSkipUnknownFields() throws Exception {
+        // Arrange — header grown by 8 bytes, one extra field per row
+        byte[] id = "WHEAT".getBytes();
+        int headerSize = MarketSnapshot.HEADER_SIZE + 8;
+        int rowFields  = MarketSnapshot.ROW_FIELDS + 1;
+        ByteBuffer body = ByteBuffer.allocate(1 + id.length + rowFields * Long.BYTES);
+        body.put((byte) id.length).put(id)
+            .putLong(PriceState.pack(0.7, NOW)).putLong(NOW).putLong(42).putLong(-1L);
+        CRC32 crc = new CRC32();
+        crc.update(body.array());
+        ByteBuffer file = ByteBuffer.allocate(headerSize + body.capacity());
+        file.putInt(MarketSnapshot.MAGIC).putShort(MarketSnapshot.VERSION)
+            .putShort((short) headerSize).putShort((short) rowFields).putShort((short) 0)
+            .putInt(1).putLong(NOW).putLong(body.capacity()).putInt((int) crc.getValue());
+        crc.reset();
+        crc.update(file.array(), 0, file.position());
+        file.putInt((int) crc.getValue());
+        file.position(headerSize);
+        file.put(body.array());
+        Path path = dir.resolve("newer.bin");
+        Files.write(path, file.array());
+
+        // Act
+        MarketTable fresh = catalog("WHEAT");
+        int applied = MarketSnapshot.read(path, fresh, i -> ordinalOf(fresh, i));
+
+        // Assert
+        assertEquals(1, applied);
+        assertEquals(0.7, PriceState.multiplier(fresh.priceState(0)), 1e-6);
+        assertEquals(42, fresh.totalSold(0));
+    }
+}
@@ -0,0 +1,142 @@
+package dev.n1xend.dynamiceconomy.data;
+
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.data.models.PriceState;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link MarketWal}.
+ *
+ * @author n1xend
+ */
+@DisplayName("MarketWal Tests")
+class MarketWalTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @TempDir
+    Path dir;
+
+    private MarketWal wal() {
+        return new MarketWal(dir, Logger.getLogger("test"));
+    }
+
+    private static MarketTable catalog() {
+        MarketTable table = new MarketTable(4);
+        table.allocate("WHEAT", NOW);
+        table.allocate("CARROT", NOW);
+        table.allocate("POTATO", NOW);
+        return table;
+    }
+
+    private static int ordinalOf(MarketTable table, String id) {
+        for (int i = 0; i < table.size(); i++) {
+            if (table.id(i).equals(id)) return i;
+        }
+        return -1;
+    }
+
+    private int replayInto(MarketTable fresh) throws Exception {
+        return wal().replay(fresh, id -> ordinalOf(fresh, id));
+    }
+
+    @Test
+    @DisplayName("Row changes should be replayed exactly after a crash")
+    void shouldReplayAfterCrash() throws Exception {
+        // Arrange — no close(): simulates kill -9
+        MarketTable live = catalog();
+        MarketWal wal = wal();
+        wal.open();
+        live.setRowListener(wal);
+        live.setPriceState(0, PriceState.pack(0.8, NOW));
+        live.recordSell(0, 64, NOW + 1_000);
+        live.setPriceState(0, PriceState.pack(0.6, NOW + 2_000));
+        live.setPriceState(2, PriceState.pack(0.9, NOW));
+
+        // Act
+        MarketTable fresh = catalog();
+        replayInto(fresh);
+
+        // Assert
+        for (int i = 0; i < live.size(); i++) {
+            assertEquals(live.priceState(i), fresh.priceState(i), "price state of " + live.id(i));
+            assertEquals(live.lastSell(i), fresh.lastSell(i), "last sell of " + live.id(i));
+            assertEquals(live.totalSold(i), fresh.totalSold(i), "total sold of " + live.id(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Settling recovery should not be logged")
+    void shouldNotLogSettle() throws Exception {
+        // Arrange
+        MarketTable live = catalog();
+        live.setRecoveryPerHourAll(0.05, NOW);
+        MarketWal wal = wal();
+        wal.open();
+        live.setRowListener(wal);
+
+        // Act
+        live.settleAll(NOW + 3_600_000L);
+
+        // Assert
+        assertEquals(0, replayInto(catalog()));
+    }
+
+    @Test
+    @DisplayName("Checkpointed segments should be discarded, later changes kept")
+    void shouldDiscardCheckpointedSegments() throws Exception {
+        // Arrange
+        MarketTable live = catalog();
+        MarketWal wal = wal();
+        wal.open();
+        live.setRowListener(wal);
+        live.setPriceState(0, PriceState.pack(0.5, NOW));
+
+        // Act — checkpoint, then one more change
+        long sealed = wal.roll();
+        wal.discardThrough(sealed);
+        live.setPriceState(1, PriceState.pack(0.7, NOW));
+
+        // Assert
+        MarketTable fresh = catalog();
+        assertEquals(1, replayInto(fresh));
+        assertEquals(0.7, PriceState.multiplier(fresh.priceState(1)), 1e-6);
+        assertEquals(1.0, PriceState.multiplier(fresh.priceState(0)), 1e-6);
+    }
+
+    @Test
+    @DisplayName("A torn last record should be ignored")
+    void shouldIgnoreTornRecord() throws Exception {
+        // Arrange
+        MarketTable live = catalog();
+        MarketWal wal = wal();
+        wal.open();
+        live.setRowListener(wal);
+        live.setPriceState(0, PriceState.pack(0.5, NOW));
+        live.setPriceState(1, PriceState.pack(0.7, NOW));
+        wal.close();
+        Path segment;
+        try (Stream<Path> files = Files.list(dir)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        byte[] bytes = Files.readAllBytes(segment);
+        Files.write(segment, Arrays.copyOf(bytes, bytes.length - 5));
+
+        // Act
+        MarketTable fresh = catalog();
+        int replayed = replayInto(fresh);
+
+        // Assert
+        assertEquals(1, replayed);
+        assertEquals(0.5, PriceState.multiplier(fresh.priceState(0)), 1e-6);
+    }
+}
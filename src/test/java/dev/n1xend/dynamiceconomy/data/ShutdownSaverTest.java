@@ -0,0 +1,91 @@
+package dev.n1xend.dynamiceconomy.data;
+
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ShutdownSaver}.
+ *
+ * @author n1xend
+ */
+@DisplayName("ShutdownSaver Tests")
+class ShutdownSaverTest {
+
+    private final Logger logger = Logger.getLogger("ShutdownSaverTest");
+
+    @Test
+    @DisplayName("Saves should run in parallel and skip fallbacks when they succeed")
+    void savesShouldRunInParallel() {
+        // Arrange — each save waits for the other, so sequential runs would time out
+        CountDownLatch both = new CountDownLatch(2);
+        AtomicInteger fallbacks = new AtomicInteger();
+        ShutdownSaver saver = new ShutdownSaver(logger);
+        for (String name : new String[]{"A", "B"}) {
+            saver.add(name, () -> {
+                both.countDown();
+                if (!both.await(5, TimeUnit.SECONDS)) throw new IllegalStateException("not parallel");
+            }, () -> {
+                fallbacks.incrementAndGet();
+                return "fallback";
+            });
+        }
+
+        // Act
+        saver.run(5_000);
+
+        // Assert
+        assertEquals(0, both.getCount());
+        assertEquals(0, fallbacks.get());
+    }
+
+    @Test
+    @DisplayName("A save that misses the deadline should fall back without holding up the caller")
+    void slowSaveShouldFallBack() {
+        // Arrange
+        CountDownLatch never = new CountDownLatch(1);
+        AtomicBoolean fastFellBack = new AtomicBoolean();
+        AtomicBoolean slowFellBack = new AtomicBoolean();
+        ShutdownSaver saver = new ShutdownSaver(logger)
+            .add("slow", never::await, () -> { slowFellBack.set(true); return "wal"; })
+            .add("fast", () -> {}, () -> { fastFellBack.set(true); return "wal"; });
+
+        // Act
+        long start = System.nanoTime();
+        saver.run(200);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertTrue(slowFellBack.get());
+        assertFalse(fastFellBack.get());
+        assertTrue(millis < 2_000, "run took " + millis + " ms");
+    }
+
+    @Test
+    @DisplayName("A failed save should fall back, and a failing fallback should not stop the rest")
+    void failedSaveShouldFallBack() {
+        // Arrange
+        AtomicBoolean fellBack = new AtomicBoolean();
+        AtomicBoolean otherSaved = new AtomicBoolean();
+        ShutdownSaver saver = new ShutdownSaver(logger)
+            .add("broken", () -> { throw new IOException("disk full"); },
+                 () -> { throw new IOException("still full"); })
+            .add("failing", () -> { throw new IllegalStateException("boom"); },
+                 () -> { fellBack.set(true); return "snapshot"; })
+            .add("healthy", () -> otherSaved.set(true), null);
+
+        // Act
+        saver.run(5_000);
+
+        // Assert
+        assertTrue(fellBack.get());
+        assertTrue(otherSaved.get());
+    }
+}
@@ -0,0 +1,153 @@
+package dev.n1xend.dynamiceconomy.data;
+
+import dev.n1xend.dynamiceconomy.data.TransactionJournal.Entry;
+import dev.n1xend.dynamiceconomy.data.TransactionJournal.Type;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TransactionJournal} and {@link JournalReader}.
+ *
+ * @author n1xend
+ */
+@DisplayName("TransactionJournal Tests")
+class TransactionJournalTest {
+
+    private static final UUID ALICE = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private static final long MB    = 1024L * 1024L;
+
+    @TempDir
+    Path dir;
+
+    private TransactionJournal journal(long maxFileBytes, int keepFiles) {
+        return new TransactionJournal(dir, Logger.getLogger("test"), maxFileBytes, keepFiles);
+    }
+
+    private List<Entry> readAll() throws Exception {
+        List<Entry> entries = new ArrayList<>();
+        JournalReader.forEach(JournalReader.files(dir), entries::add);
+        return entries;
+    }
+
+    @Test
+    @DisplayName("Recorded entries should be read back field for field")
+    void shouldRoundTrip() throws Exception {
+        // Arrange
+        TransactionJournal journal = journal(MB, 0);
+        journal.start();
+
+        // Act
+        journal.recordSale(ALICE, "WHEAT", 64, 12.5, 1.0, 0.98);
+        journal.recordBuy(ALICE, "WAXED_WEATHERED_CUT_COPPER_STAIRS", 3, 7.25, 0.9, 0.91);
+        journal.recordPriceChange(TransactionJournal.CONSOLE, "WHEAT", 0.98, 1.0);
+        journal.shutdown();
+
+        // Assert
+        List<Entry> entries = readAll();
+        assertEquals(3, entries.size());
+        Entry sale = entries.get(0);
+        assertEquals(1, sale.seq());
+        assertEquals(Type.SALE, sale.type());
+        assertEquals(ALICE, sale.player());
+        assertEquals("WHEAT", sale.itemId());
+        assertEquals(64, sale.amount());
+        assertEquals(12.5, sale.money());
+        assertEquals(0.98, sale.multiplierAfter());
+        assertEquals("WAXED_WEATHERED_CUT_COPPER_STAIRS", entries.get(1).itemId());
+        assertEquals(Type.ADMIN_PRICE, entries.get(2).type());
+        assertEquals(TransactionJournal.CONSOLE, entries.get(2).player());
+    }
+
+    @Test
+    @DisplayName("A shorter id in a later batch should not keep the tail of an earlier one")
+    void shouldNotLeakIdsAcrossBatches() throws Exception {
+        // Arrange
+        TransactionJournal journal = journal(MB, 0);
+        journal.start();
+        journal.recordSale(ALICE, "DIAMOND_ORE", 1, 1.0, 1.0, 1.0);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (journal.getWritten() < 1 && System.currentTimeMillis() < deadline) Thread.sleep(5);
+        assertEquals(1, journal.getWritten());
+
+        // Act — the next batch lands in the same buffer slot
+        journal.recordSale(ALICE, "OAK_LOG", 1, 1.0, 1.0, 1.0);
+        journal.shutdown();
+
+        // Assert
+        assertEquals(List.of("DIAMOND_ORE", "OAK_LOG"), readAll().stream().map(Entry::itemId).toList());
+    }
+
+    @Test
+    @DisplayName("Restart should drop a torn record and continue the sequence")
+    void shouldResumeSequence() throws Exception {
+        // Arrange
+        TransactionJournal first = journal(MB, 0);
+        first.start();
+        first.recordSale(ALICE, "WHEAT", 1, 1.0, 1.0, 1.0);
+        first.recordSale(ALICE, "WHEAT", 1, 1.0, 1.0, 1.0);
+        first.shutdown();
+        Path file = JournalReader.files(dir).get(0);
+        Files.write(file, new byte[40], StandardOpenOption.APPEND);
+
+        // Act
+        TransactionJournal second = journal(MB, 0);
+        second.start();
+        second.recordSale(ALICE, "CARROT", 1, 1.0, 1.0, 1.0);
+        second.shutdown();
+
+        // Assert
+        List<Entry> entries = readAll();
+        assertEquals(List.of(1L, 2L, 3L), entries.stream().map(Entry::seq).toList());
+        assertEquals(1, JournalReader.files(dir).size());
+    }
+
+    @Test
+    @DisplayName("Full files should rotate and old files should be pruned")
+    void shouldRotate() throws Exception {
+        // Arrange — room for 4 records per file, keep 2 files
+        TransactionJournal journal = journal(TransactionJournal.HEADER_SIZE + 4L * TransactionJournal.RECORD_SIZE, 2);
+        journal.start();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            journal.recordSale(ALICE, "WHEAT", i, i, 1.0, 1.0);
+        }
+        journal.shutdown();
+
+        // Assert — files hold 1-4, 5-8, 9-10; the first was pruned
+        assertEquals(2, JournalReader.files(dir).size());
+        assertEquals(List.of(5L, 6L, 7L, 8L, 9L, 10L), readAll().stream().map(Entry::seq).toList());
+    }
+
+    @Test
+    @DisplayName("CSV export should honour the filter")
+    void shouldExportCsv() throws Exception {
+        // Arrange
+        TransactionJournal journal = journal(MB, 0);
+        journal.start();
+        journal.recordSale(ALICE, "WHEAT", 64, 12.5, 1.0, 0.98);
+        journal.recordSale(UUID.randomUUID(), "CARROT", 1, 1.0, 1.0, 1.0);
+        journal.shutdown();
+
+        // Act
+        StringWriter out = new StringWriter();
+        long rows = JournalReader.exportCsv(JournalReader.files(dir), out, e -> e.player().equals(ALICE));
+
+        // Assert
+        assertEquals(1, rows);
+        String[] lines = out.toString().split("\n");
+        assertEquals(JournalReader.CSV_HEADER, lines[0]);
+        assertTrue(lines[1].contains(",SALE," + ALICE + ",WHEAT,64,12.5,"));
+    }
+}
@@ -0,0 +1,17 @@
+package dev.n1xend.dynamiceconomy.data.store;
+
+import org.junit.jupiter.api.DisplayName;
+
+/**
+ * Runs the {@link MarketStoreTestBase} conformance tests against {@link BinaryMarketStore}.
+ *
+ * @author n1xend
+ */
+@DisplayName("BinaryMarketStore Tests")
+class BinaryMarketStoreTest extends MarketStoreTestBase {
+
+    @Override
+    protected MarketStore open() {
+        return new BinaryMarketStore(dir.resolve("market_data.bin"), null);
+    }
+}
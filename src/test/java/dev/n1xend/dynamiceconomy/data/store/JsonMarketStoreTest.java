@@ -0,0 +1,17 @@
+package dev.n1xend.dynamiceconomy.data.store;
+
+import org.junit.jupiter.api.DisplayName;
+
+/**
+ * Runs the {@link MarketStoreTestBase} conformance tests against {@link JsonMarketStore}.
+ *
+ * @author n1xend
+ */
+@DisplayName("JsonMarketStore Tests")
+class JsonMarketStoreTest extends MarketStoreTestBase {
+
+    @Override
+    protected MarketStore open() {
+        return new JsonMarketStore(dir.resolve("market_data.json"), false);
+    }
+}
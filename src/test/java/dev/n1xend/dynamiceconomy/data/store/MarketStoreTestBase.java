@@ -0,0 +1,165 @@
+package dev.n1xend.dynamiceconomy.data.store;
+
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.data.models.PriceState;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Conformance tests every {@link MarketStore} must pass. Subclasses only
+ * say how to open their store.
+ *
+ * @author n1xend
+ * @version 1.2.2
+ * @since 1.2.2
+ */
+public abstract class MarketStoreTestBase {
+
+    protected static final long NOW  = 1_700_000_000_000L;
+    protected static final long HOUR = 3_600_000L;
+
+    @TempDir
+    protected Path dir;
+
+    /**
+     * Opens the store under test. Opening again after {@link MarketStore#close}
+     * must see what was saved before.
+     */
+    protected abstract MarketStore open() throws Exception;
+
+    private static MarketTable catalog(String... ids) {
+        MarketTable table = new MarketTable(4);
+        for (String id : ids) table.allocate(id, NOW);
+        return table;
+    }
+
+    private static int ordinalOf(MarketTable table, String id) {
+        for (int i = 0; i < table.size(); i++) {
+            if (table.id(i).equals(id)) return i;
+        }
+        return -1;
+    }
+
+    private static MarketTable market() {
+        MarketTable table = catalog("WHEAT", "CARROT", "POTATO");
+        table.setPriceState(0, PriceState.pack(0.8125, NOW - HOUR));
+        table.recordSell(1, 64, NOW + 1_000);
+        table.setPriceState(2, PriceState.pack(1.3, NOW + 2 * HOUR));
+        table.setTotalSold(2, 1L << 40);
+        return table;
+    }
+
+    private MarketTable reload(String... ids) throws Exception {
+        MarketTable fresh = catalog(ids);
+        try (MarketStore store = open()) {
+            store.load(fresh, id -> ordinalOf(fresh, id));
+        }
+        return fresh;
+    }
+
+    private static void assertRowEquals(MarketTable expected, MarketTable actual, int ordinal) {
+        String id = expected.id(ordinal);
+        assertEquals(expected.priceState(ordinal), actual.priceState(ordinal), "price state of " + id);
+        assertEquals(expected.lastSell(ordinal), actual.lastSell(ordinal), "last sell of " + id);
+        assertEquals(expected.totalSold(ordinal), actual.totalSold(ordinal), "total sold of " + id);
+    }
+
+    @Test
+    @DisplayName("An empty store should load nothing")
+    void emptyStoreShouldLoadNothing() throws Exception {
+        // Arrange
+        MarketTable fresh = catalog("WHEAT");
+
+        // Act
+        int loaded;
+        try (MarketStore store = open()) {
+            loaded = store.load(fresh, id -> ordinalOf(fresh, id));
+        }
+
+        // Assert
+        assertEquals(0, loaded);
+        assertEquals(1.0, PriceState.multiplier(fresh.priceState(0)), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Every row should round-trip exactly")
+    void shouldRoundTripEveryRow() throws Exception {
+        // Arrange
+        MarketTable live = market();
+
+        // Act
+        try (MarketStore store = open()) {
+            store.save(live.snapshot());
+        }
+        MarketTable fresh = reload("WHEAT", "CARROT", "POTATO");
+
+        // Assert
+        for (int i = 0; i < live.size(); i++) assertRowEquals(live, fresh, i);
+    }
+
+    @Test
+    @DisplayName("Saving dirty rows should update them and keep the rest")
+    void saveDirtyShouldUpdateListedRows() throws Exception {
+        // Arrange
+        MarketTable live = market();
+        try (MarketStore store = open()) {
+            store.save(live.snapshot());
+        }
+        live.setPriceState(0, PriceState.pack(0.5, NOW + HOUR));
+        live.recordSell(2, 1, NOW + HOUR);
+
+        // Act
+        try (MarketStore store = open()) {
+            store.load(catalog("WHEAT", "CARROT", "POTATO"), id -> -1);
+            store.saveDirty(live.snapshot(), new int[]{0, 2});
+        }
+        MarketTable fresh = reload("WHEAT", "CARROT", "POTATO");
+
+        // Assert
+        for (int i = 0; i < live.size(); i++) assertRowEquals(live, fresh, i);
+    }
+
+    @Test
+    @DisplayName("A catalog larger than one write batch should round-trip")
+    void shouldRoundTripLargeCatalog() throws Exception {
+        // Arrange
+        String[] ids = new String[1_234];
+        for (int i = 0; i < ids.length; i++) ids[i] = "ITEM_" + i;
+        MarketTable live = catalog(ids);
+        for (int i = 0; i < ids.length; i++) live.recordSell(i, i + 1, NOW + i);
+
+        // Act
+        try (MarketStore store = open()) {
+            store.save(live.snapshot());
+        }
+        MarketTable fresh = reload(ids);
+
+        // Assert
+        for (int i = 0; i < live.size(); i++) assertRowEquals(live, fresh, i);
+    }
+
+    @Test
+    @DisplayName("Rows of removed items should be skipped, new items left at default")
+    void shouldSkipUnknownItems() throws Exception {
+        // Arrange
+        try (MarketStore store = open()) {
+            store.save(market().snapshot());
+        }
+        MarketTable fresh = catalog("BEETROOT", "POTATO");
+
+        // Act
+        int loaded;
+        try (MarketStore store = open()) {
+            loaded = store.load(fresh, id -> ordinalOf(fresh, id));
+        }
+
+        // Assert
+        assertEquals(1, loaded);
+        assertEquals(1.0, PriceState.multiplier(fresh.priceState(0)), 1e-9);
+        assertEquals(1.3, PriceState.multiplier(fresh.priceState(1)), 1e-6);
+    }
+}
@@ -0,0 +1,20 @@
+package dev.n1xend.dynamiceconomy.data.store;
+
+import org.junit.jupiter.api.DisplayName;
+
+/**
+ * Runs the {@link MarketStoreTestBase} conformance tests against {@link MemoryMarketStore}.
+ *
+ * @author n1xend
+ */
+@DisplayName("MemoryMarketStore Tests")
+class MemoryMarketStoreTest extends MarketStoreTestBase {
+
+    // Re-opening a heap store means getting the same instance back
+    private final MemoryMarketStore store = new MemoryMarketStore();
+
+    @Override
+    protected MarketStore open() {
+        return store;
+    }
+}
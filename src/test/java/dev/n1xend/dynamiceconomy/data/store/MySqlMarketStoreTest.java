@@ -0,0 +1,49 @@
+package dev.n1xend.dynamiceconomy.data.store;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+
+/**
+ * Runs the {@link MarketStoreTestBase} conformance tests against {@link MySqlMarketStore}.
+ * Needs a disposable database:
+ *
+ * <pre>DE_TEST_MYSQL_HOST=localhost DE_TEST_MYSQL_DB=de_test DE_TEST_MYSQL_USER=root ./gradlew test</pre>
+ *
+ * @author n1xend
+ */
+@DisplayName("MySqlMarketStore Tests")
+@EnabledIfEnvironmentVariable(named = "DE_TEST_MYSQL_HOST", matches = ".+")
+class MySqlMarketStoreTest extends MarketStoreTestBase {
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value != null ? value : fallback;
+    }
+
+    private static final String HOST     = env("DE_TEST_MYSQL_HOST", "localhost");
+    private static final int    PORT     = Integer.parseInt(env("DE_TEST_MYSQL_PORT", "3306"));
+    private static final String DATABASE = env("DE_TEST_MYSQL_DB", "de_test");
+    private static final String USER     = env("DE_TEST_MYSQL_USER", "root");
+    private static final String PASSWORD = env("DE_TEST_MYSQL_PASSWORD", "");
+
+    @BeforeEach
+    void dropTable() throws Exception {
+        try (Connection c = DriverManager.getConnection(
+                 "jdbc:mysql://" + HOST + ":" + PORT + "/" + DATABASE + "?useSSL=false", USER, PASSWORD);
+             Statement st = c.createStatement()) {
+            st.executeUpdate("DROP TABLE IF EXISTS " + JdbcMarketStore.TABLE);
+        }
+    }
+
+    @Override
+    protected MarketStore open() throws Exception {
+        MySqlMarketStore store = new MySqlMarketStore(HOST, PORT, DATABASE, USER, PASSWORD);
+        store.open();
+        return store;
+    }
+}
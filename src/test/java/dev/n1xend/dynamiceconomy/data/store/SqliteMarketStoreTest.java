@@ -0,0 +1,111 @@
+package dev.n1xend.dynamiceconomy.data.store;
+
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.data.models.PriceState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the {@link MarketStoreTestBase} conformance tests against {@link SqliteMarketStore}.
+ *
+ * @author n1xend
+ */
+@DisplayName("SqliteMarketStore Tests")
+class SqliteMarketStoreTest extends MarketStoreTestBase {
+
+    @Override
+    protected MarketStore open() throws Exception {
+        SqliteMarketStore store = new SqliteMarketStore(dir.resolve("database.db"));
+        store.open();
+        return store;
+    }
+
+    private static final JdbcMarketStore.LegacyColumns LEGACY_COLUMNS =
+        new JdbcMarketStore.LegacyColumns("item_id", "current_multiplier", "total_sold", "last_sell_time");
+
+    private void createLegacyTable() throws Exception {
+        try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + dir.resolve("database.db"));
+             Statement st = c.createStatement()) {
+            st.executeUpdate("CREATE TABLE market_items (item_id TEXT PRIMARY KEY, "
+                + "current_multiplier REAL, total_sold INTEGER, last_sell_time INTEGER)");
+            st.executeUpdate("INSERT INTO market_items VALUES ('WHEAT', 0.75, 640, " + NOW + ")");
+            st.executeUpdate("INSERT INTO market_items VALUES ('CARROT', 1.0, 0, 0)");
+        }
+    }
+
+    @Test
+    @DisplayName("First open should import the configured legacy table once")
+    void shouldImportLegacyTable() throws Exception {
+        // Arrange
+        createLegacyTable();
+        MarketTable table = new MarketTable(2);
+        table.allocate("WHEAT", NOW);
+        table.allocate("CARROT", NOW);
+
+        // Act
+        JdbcMarketStore.LegacyImport imported;
+        try (SqliteMarketStore store = new SqliteMarketStore(dir.resolve("database.db"))) {
+            imported = store.legacyTable("market_items", LEGACY_COLUMNS).open();
+            store.load(table, id -> id.equals("WHEAT") ? 0 : id.equals("CARROT") ? 1 : -1);
+        }
+        JdbcMarketStore.LegacyImport again;
+        try (SqliteMarketStore store = new SqliteMarketStore(dir.resolve("database.db"))) {
+            again = store.legacyTable("market_items", LEGACY_COLUMNS).open();
+        }
+
+        // Assert
+        assertEquals(new JdbcMarketStore.LegacyImport("market_items", 2, null), imported);
+        assertNull(again);
+        assertEquals(0.75, PriceState.multiplier(table.priceState(0)));
+        assertEquals(640, table.totalSold(0));
+        assertEquals(NOW, table.lastSell(0));
+    }
+
+    @Test
+    @DisplayName("Without a configured legacy table nothing should be imported")
+    void shouldNotDiscoverLegacyTables() throws Exception {
+        // Arrange
+        createLegacyTable();
+        MarketTable table = new MarketTable(1);
+        table.allocate("WHEAT", NOW);
+
+        // Act
+        JdbcMarketStore.LegacyImport imported;
+        int loaded;
+        try (SqliteMarketStore store = new SqliteMarketStore(dir.resolve("database.db"))) {
+            imported = store.open();
+            loaded   = store.load(table, id -> id.equals("WHEAT") ? 0 : -1);
+        }
+
+        // Assert
+        assertNull(imported);
+        assertEquals(0, loaded);
+    }
+
+    @Test
+    @DisplayName("A legacy table without a configured column should be skipped")
+    void shouldSkipLegacyTableWithoutColumn() throws Exception {
+        // Arrange
+        createLegacyTable();
+        MarketTable table = new MarketTable(1);
+        table.allocate("WHEAT", NOW);
+
+        // Act
+        JdbcMarketStore.LegacyImport imported;
+        int loaded;
+        try (SqliteMarketStore store = new SqliteMarketStore(dir.resolve("database.db"))) {
+            imported = store.legacyTable("market_items", JdbcMarketStore.LegacyColumns.DEFAULT).open();
+            loaded   = store.load(table, id -> id.equals("WHEAT") ? 0 : -1);
+        }
+
+        // Assert
+        assertEquals(new JdbcMarketStore.LegacyImport("market_items", 0, "no column id"), imported);
+        assertEquals(0, loaded);
+    }
+}
@@ -0,0 +1,135 @@
+package dev.n1xend.dynamiceconomy.economy;
+
+import dev.n1xend.dynamiceconomy.DynamicEconomy;
+import dev.n1xend.dynamiceconomy.config.ConfigManager;
+import dev.n1xend.dynamiceconomy.data.models.MarketCategory;
+import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.services.CompiledCatalog;
+import dev.n1xend.dynamiceconomy.services.EconomyService;
+import dev.n1xend.dynamiceconomy.services.EconomyService.CatalogChanges;
+import dev.n1xend.dynamiceconomy.session.SessionService;
+import org.bukkit.Material;
+import org.junit.jupiter.api.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link EconomyService#applyCatalog}.
+ *
+ * @author n1xend
+ */
+@DisplayName("Catalog Reload Tests")
+class CatalogReloadTest {
+
+    private MarketTable    table;
+    private EconomyService economy;
+
+    private static CompiledCatalog.Item item(String id, double price) {
+        return new CompiledCatalog.Item(id, "§f" + id, Material.valueOf(id), price);
+    }
+
+    private static CompiledCatalog.Category category(String id, CompiledCatalog.Item... items) {
+        return new CompiledCatalog.Category(id, "§a" + id, "", Material.CHEST, 10, "linear", 1.0, List.of(items));
+    }
+
+    private static CompiledCatalog catalog(CompiledCatalog.Category... categories) {
+        return new CompiledCatalog(List.of(categories), List.of(), List.of());
+    }
+
+    @BeforeEach
+    void setUp() {
+        ConfigManager config = mock(ConfigManager.class);
+        when(config.getPriceRecoveryPerHour()).thenReturn(0.0);
+        when(config.getMinPriceMultiplier()).thenReturn(0.1);
+        when(config.isSeasonalDemandEnabled()).thenReturn(false);
+
+        DynamicEconomy plugin = mock(DynamicEconomy.class);
+        when(plugin.getConfigManager()).thenReturn(config);
+        when(plugin.getSessionService()).thenReturn(new SessionService());
+        when(plugin.getLogger()).thenReturn(Logger.getLogger("test"));
+
+        table = new MarketTable(4);
+        MarketCategory farming = new MarketCategory("farming", "§afarming", "", Material.CHEST, 10, true);
+        farming.addItem(new MarketItem(table, "WHEAT", "farming", "§fWHEAT", Material.WHEAT, 2.0));
+        farming.addItem(new MarketItem(table, "CARROT", "farming", "§fCARROT", Material.CARROT, 2.5));
+        Map<String, MarketCategory> categories = new LinkedHashMap<>();
+        categories.put("farming", farming);
+        economy = new EconomyService(plugin, categories, table);
+
+        economy.getItem("WHEAT").setCurrentMultiplier(0.5);
+        economy.getItem("CARROT").setCurrentMultiplier(0.75);
+    }
+
+    @Test
+    @DisplayName("An unchanged catalog should keep every object and price")
+    void unchangedCatalogShouldChangeNothing() {
+        // Arrange
+        MarketItem wheat = economy.getItem("WHEAT");
+
+        // Act
+        CatalogChanges changes = economy.applyCatalog(
+            catalog(category("farming", item("WHEAT", 2.0), item("CARROT", 2.5))));
+
+        // Assert
+        assertTrue(changes.isEmpty());
+        assertSame(wheat, economy.getItem("WHEAT"));
+        assertEquals(0.5, economy.getItem("WHEAT").getCurrentMultiplier(), 1e-9);
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    @DisplayName("A changed base price should keep the item's row and multiplier")
+    void changedItemShouldKeepItsRow() {
+        // Arrange
+        int ordinal = economy.getItem("WHEAT").getOrdinal();
+
+        // Act
+        CatalogChanges changes = economy.applyCatalog(
+            catalog(category("farming", item("WHEAT", 3.0), item("CARROT", 2.5))));
+
+        // Assert
+        MarketItem wheat = economy.getItem("WHEAT");
+        assertEquals(1, changes.itemsChanged());
+        assertEquals(3.0, wheat.getBasePrice());
+        assertEquals(ordinal, wheat.getOrdinal());
+        assertEquals(0.5, wheat.getCurrentMultiplier(), 1e-9);
+        assertSame(wheat, economy.getItemByMaterial(Material.WHEAT));
+    }
+
+    @Test
+    @DisplayName("Added, moved and removed items should be applied, and a re-added item should get its old row")
+    void itemsShouldBeAddedMovedAndRemoved() {
+        // Act — CARROT removed, WHEAT moved to a new category, POTATO added
+        CatalogChanges first = economy.applyCatalog(catalog(
+            category("farming", item("POTATO", 1.5)),
+            category("staples", item("WHEAT", 2.0))));
+
+        // Assert
+        assertEquals(new CatalogChanges(1, 0, 0, 1, 1, 1), first);
+        assertNull(economy.getItem("CARROT"));
+        assertEquals("staples", economy.getItem("WHEAT").getCategoryId());
+        assertEquals(0.5, economy.getItem("WHEAT").getCurrentMultiplier(), 1e-9);
+        assertEquals(1.0, economy.getItem("POTATO").getCurrentMultiplier(), 1e-9);
+        assertEquals(List.of("farming", "staples"), List.copyOf(economy.getCategories().keySet()));
+        assertArrayEquals(new int[]{economy.getItem("POTATO").getOrdinal()},
+            economy.getCategory("farming").getOrdinals());
+
+        // Act — CARROT back, staples removed
+        CatalogChanges second = economy.applyCatalog(catalog(
+            category("farming", item("CARROT", 2.5), item("POTATO", 1.5), item("WHEAT", 2.0))));
+
+        // Assert
+        assertEquals(new CatalogChanges(0, 1, 0, 1, 0, 1), second);
+        assertEquals(0.75, economy.getItem("CARROT").getCurrentMultiplier(), 1e-9);
+        assertEquals(3, table.size());
+        assertEquals(List.of("CARROT", "POTATO", "WHEAT"),
+            List.copyOf(economy.getCategory("farming").getItemMap().keySet()));
+    }
+}
@@ -0,0 +1,81 @@
+package dev.n1xend.dynamiceconomy.economy;
+
+import dev.n1xend.dynamiceconomy.services.CompiledCatalog;
+import org.bukkit.Material;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CompiledCatalog}.
+ *
+ * @author n1xend
+ */
+@DisplayName("CompiledCatalog Tests")
+class CompiledCatalogTest {
+
+    private static final String KEY = "abc123|1.21.1|1.2.3";
+
+    @TempDir
+    Path dir;
+
+    private static CompiledCatalog catalog() {
+        return new CompiledCatalog(
+            List.of(
+                new CompiledCatalog.Category("farming", "§a🌾 Фермерство", "§7Урожай", Material.WHEAT, 10,
+                    "linear", 1.0, List.of(
+                        new CompiledCatalog.Item("WHEAT", "§eПшеница", Material.WHEAT, 2.0),
+                        new CompiledCatalog.Item("CARROT", "§6Морковь", Material.CARROT, 2.5))),
+                new CompiledCatalog.Category("mining", "§7Шахта", "", Material.IRON_INGOT, 12,
+                    "logistic", 0.75, List.of())),
+            List.of("nether"),
+            List.of("Unknown material 'FOO' for item FOO in farming — skipping."));
+    }
+
+    @Test
+    @DisplayName("A catalog should round-trip under its key")
+    void shouldRoundTrip() throws IOException {
+        // Arrange
+        Path file = dir.resolve("cache").resolve("catalog.bin");
+
+        // Act
+        catalog().write(file, KEY);
+        CompiledCatalog read = CompiledCatalog.read(file, KEY);
+
+        // Assert
+        assertEquals(catalog(), read);
+        assertEquals(2, read.itemCount());
+    }
+
+    @Test
+    @DisplayName("A missing file or another key should be a miss")
+    void shouldMissOnOtherKey() throws IOException {
+        // Arrange
+        Path file = dir.resolve("catalog.bin");
+
+        // Act & Assert
+        assertNull(CompiledCatalog.read(file, KEY));
+        catalog().write(file, KEY);
+        assertNull(CompiledCatalog.read(file, "def456|1.21.1|1.2.3"));
+    }
+
+    @Test
+    @DisplayName("A damaged file should be rejected")
+    void shouldRejectDamagedFile() throws IOException {
+        // Arrange
+        Path file = dir.resolve("catalog.bin");
+        catalog().write(file, KEY);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(file, bytes);
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> CompiledCatalog.read(file, KEY));
+    }
+}
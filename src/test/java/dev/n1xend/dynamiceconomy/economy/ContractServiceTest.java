@@ -0,0 +1,129 @@
+package dev.n1xend.dynamiceconomy.economy;
+
+import dev.n1xend.dynamiceconomy.DynamicEconomy;
+import dev.n1xend.dynamiceconomy.config.ConfigManager;
+import dev.n1xend.dynamiceconomy.config.MessageManager;
+import dev.n1xend.dynamiceconomy.data.models.MarketCategory;
+import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.services.ContractService;
+import dev.n1xend.dynamiceconomy.services.EconomyService;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ContractService}.
+ *
+ * @author n1xend
+ */
+@DisplayName("ContractService Tests")
+class ContractServiceTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long DURATION_MINUTES = 60;
+
+    private ContractService contracts;
+
+    @BeforeEach
+    void setUp() {
+        MarketTable table = new MarketTable(1);
+        MarketCategory farming = new MarketCategory("farming", "Farming", "", Material.WHEAT, 0, true);
+        farming.addItem(new MarketItem(table, "WHEAT", "farming", "Wheat", Material.WHEAT, 10.0));
+
+        ConfigManager config = mock(ConfigManager.class);
+        when(config.getContractsMaxActive()).thenReturn(2);
+        when(config.getContractAmountMin()).thenReturn(100);
+        when(config.getContractAmountMax()).thenReturn(100);
+        when(config.getContractDurationMinutes()).thenReturn(DURATION_MINUTES);
+        when(config.getContractBonusMultiplier()).thenReturn(0.4);
+
+        EconomyService economy = mock(EconomyService.class);
+        when(economy.getCategories()).thenReturn(Map.of("farming", farming));
+
+        Server server = mock(Server.class);
+        doReturn(List.of()).when(server).getOnlinePlayers();
+
+        DynamicEconomy plugin = mock(DynamicEconomy.class);
+        when(plugin.getConfigManager()).thenReturn(config);
+        when(plugin.getEconomyService()).thenReturn(economy);
+        when(plugin.getMessageManager()).thenReturn(mock(MessageManager.class));
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.getLogger()).thenReturn(Logger.getLogger("test"));
+
+        contracts = new ContractService(plugin, new Random(1));
+    }
+
+    @Test
+    @DisplayName("Lookup should find a spawned contract by material until it expires")
+    void lookupShouldFollowExpiry() {
+        // Act
+        contracts.tick(NOW);
+
+        // Assert
+        long expiresAt = NOW + DURATION_MINUTES * 60_000L;
+        assertTrue(contracts.hasActiveContractFor("WHEAT", NOW));
+        assertTrue(contracts.hasActiveContractFor("WHEAT", expiresAt));
+        assertFalse(contracts.hasActiveContractFor("WHEAT", expiresAt + 1));
+        assertFalse(contracts.hasActiveContractFor("CARROT", NOW));
+    }
+
+    @Test
+    @DisplayName("Tick should drop only expired contracts")
+    void tickShouldDropExpired() {
+        // Arrange
+        contracts.tick(NOW);
+        contracts.tick(NOW + 30 * 60_000L);
+        assertEquals(2, contracts.getActiveContracts().size());
+
+        // Act — first contract expired, second still running, cap leaves room for one spawn
+        contracts.tick(NOW + DURATION_MINUTES * 60_000L + 1);
+
+        // Assert
+        List<ContractService.Contract> active = List.copyOf(contracts.getActiveContracts());
+        assertEquals(2, active.size());
+        assertEquals(NOW + 90 * 60_000L, active.get(0).expiresAt(), "Soonest expiry first");
+    }
+
+    @Test
+    @DisplayName("Deliveries should accumulate and complete the contract")
+    void deliveriesShouldComplete() {
+        // Arrange
+        contracts.tick(NOW);
+        ContractService.Contract contract = contracts.getActiveContracts().iterator().next();
+
+        // Act
+        contracts.onSell("WHEAT", 60, NOW);
+        int progress = contracts.getContractProgress(contract.id());
+        contracts.onSell("WHEAT", 60, NOW);
+
+        // Assert
+        assertEquals(60, progress);
+        assertTrue(contracts.getActiveContracts().isEmpty());
+        assertEquals(0, contracts.getContractProgress(contract.id()));
+        assertFalse(contracts.hasActiveContractFor("WHEAT", NOW));
+    }
+
+    @Test
+    @DisplayName("Completed contract should not expire a second time")
+    void completedContractShouldLeaveQueue() {
+        // Arrange
+        contracts.tick(NOW);
+        contracts.onSell("WHEAT", 100, NOW);
+
+        // Act — tick past the completed contract's expiry spawns a fresh one
+        contracts.tick(NOW + DURATION_MINUTES * 60_000L + 1);
+
+        // Assert
+        assertEquals(1, contracts.getActiveContracts().size());
+        assertTrue(contracts.hasActiveContractFor("WHEAT", NOW + DURATION_MINUTES * 60_000L + 1));
+    }
+}
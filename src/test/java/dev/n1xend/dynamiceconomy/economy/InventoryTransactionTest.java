@@ -0,0 +1,113 @@
+package dev.n1xend.dynamiceconomy.economy;
+
+import dev.n1xend.dynamiceconomy.services.InventoryTransaction;
+import org.bukkit.Material;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link InventoryTransaction}.
+ *
+ * @author n1xend
+ */
+@DisplayName("InventoryTransaction Tests")
+class InventoryTransactionTest {
+
+    private Inventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        inventory = mock(Inventory.class);
+    }
+
+    @Test
+    @DisplayName("Should snapshot contents once and count across slots")
+    void shouldCountFromSingleSnapshot() {
+        // Arrange
+        contents(stack(Material.WHEAT, 64), null, stack(Material.CARROT, 5), stack(Material.WHEAT, 10));
+
+        // Act
+        InventoryTransaction tx = InventoryTransaction.of(inventory);
+        int wheat  = tx.count(Material.WHEAT);
+        int carrot = tx.count(Material.CARROT);
+
+        // Assert
+        assertEquals(74, wheat);
+        assertEquals(5, carrot);
+        verify(inventory, times(1)).getContents();
+    }
+
+    @Test
+    @DisplayName("Should remove first slots first and report exactly what was taken")
+    void shouldRemoveAndReportChangedSlots() {
+        // Arrange
+        contents(stack(Material.WHEAT, 64), stack(Material.STONE, 1), stack(Material.WHEAT, 10));
+        InventoryTransaction tx = InventoryTransaction.of(inventory);
+
+        // Act
+        int taken = tx.remove(Material.WHEAT, 70);
+
+        // Assert
+        assertEquals(70, taken);
+        assertEquals(70, tx.removed());
+        assertArrayEquals(new int[]{0, 2}, tx.changedSlots());
+        assertEquals(4, tx.amountAt(2));
+        assertNull(tx.typeAt(0), "Emptied slot should read as empty");
+    }
+
+    @Test
+    @DisplayName("Should never take more than the inventory holds")
+    void shouldClampRemovalToAvailable() {
+        // Arrange
+        contents(stack(Material.WHEAT, 3));
+        InventoryTransaction tx = InventoryTransaction.of(inventory);
+
+        // Act
+        int taken = tx.remove(Material.WHEAT, 64);
+
+        // Assert
+        assertEquals(3, taken);
+        assertEquals(0, tx.count(Material.WHEAT));
+    }
+
+    @Test
+    @DisplayName("Commit should write back only the changed slots")
+    void commitShouldWriteOnlyChangedSlots() {
+        // Arrange
+        ItemStack partial = stack(Material.WHEAT, 10);
+        ItemStack copy = mock(ItemStack.class);
+        when(partial.clone()).thenReturn(copy);
+        contents(stack(Material.WHEAT, 64), stack(Material.STONE, 1), partial);
+        InventoryTransaction tx = InventoryTransaction.of(inventory);
+        tx.remove(Material.WHEAT, 70);
+
+        // Act
+        int written = tx.commit();
+
+        // Assert
+        assertEquals(2, written);
+        verify(inventory).setItem(0, null);
+        verify(copy).setAmount(4);
+        verify(inventory).setItem(2, copy);
+        verify(inventory, never()).setItem(eq(1), any());
+        verify(partial, never()).setAmount(anyInt());
+    }
+
+    // -------------------------------------------------------------------------
+
+    private void contents(ItemStack... stacks) {
+        when(inventory.getContents()).thenReturn(stacks);
+    }
+
+    private static ItemStack stack(Material type, int amount) {
+        ItemStack stack = mock(ItemStack.class);
+        when(stack.getType()).thenReturn(type);
+        when(stack.getAmount()).thenReturn(amount);
+        return stack;
+    }
+}
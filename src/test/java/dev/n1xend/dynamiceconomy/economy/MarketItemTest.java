@@ -103,4 +103,67 @@ class MarketItemTest {
             assertEquals(-0.8, item.getTrend(), 0.001);
         }
     }
+
+    @Nested
+    @DisplayName("Lazy Recovery Tests")
+    class LazyRecoveryTests {
+
+        private static final long HOUR = 3_600_000L;
+
+        @Test
+        @DisplayName("Should recover linearly from the moment the multiplier was written")
+        void shouldRecoverFromWriteTime() {
+            // Arrange
+            long now = System.currentTimeMillis();
+            item.setRecoveryPerHour(0.05);
+            item.setCurrentMultiplier(0.5, now - 2 * HOUR);
+
+            // Act
+            double mult = item.getMultiplierAt(now);
+
+            // Assert
+            assertEquals(0.6, mult, 0.001, "2 hours × 0.05 = +0.1");
+        }
+
+        @Test
+        @DisplayName("Should stop recovering at base price")
+        void shouldStopAtBase() {
+            // Arrange
+            long now = System.currentTimeMillis();
+            item.setRecoveryPerHour(0.05);
+            item.setCurrentMultiplier(0.9, now - 10 * HOUR);
+
+            // Assert
+            assertEquals(1.0, item.getMultiplierAt(now));
+        }
+
+        @Test
+        @DisplayName("Should not recover when no recovery rate is assigned")
+        void shouldNotRecoverWithoutRate() {
+            // Arrange
+            long now = System.currentTimeMillis();
+            item.setCurrentMultiplier(0.5, now - 10 * HOUR);
+
+            // Assert
+            assertEquals(0.5, item.getMultiplierAt(now), 0.001);
+        }
+
+        @Test
+        @DisplayName("Settling should not change the observed multiplier")
+        void settleShouldPreserveMultiplier() {
+            // Arrange
+            long now = System.currentTimeMillis();
+            item.setRecoveryPerHour(0.05);
+            item.setCurrentMultiplier(0.4, now - 3 * HOUR);
+            double before = item.getMultiplierAt(now);
+
+            // Act
+            item.settle(now);
+
+            // Assert
+            assertEquals(before, item.getMultiplierAt(now), 0.001);
+            assertEquals(before + 0.05, item.getMultiplierAt(now + HOUR), 0.001,
+                "Recovery continues from the settled value");
+        }
+    }
 }
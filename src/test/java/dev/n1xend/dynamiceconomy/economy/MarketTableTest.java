@@ -0,0 +1,220 @@
+package dev.n1xend.dynamiceconomy.economy;
+
+import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.data.models.PriceState;
+import org.bukkit.Material;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link MarketTable}.
+ *
+ * @author n1xend
+ */
+@DisplayName("MarketTable Tests")
+class MarketTableTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long HOUR = 3_600_000L;
+
+    private MarketTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new MarketTable(1);
+    }
+
+    @Test
+    @DisplayName("Should grow past initial capacity and keep existing rows")
+    void shouldGrowAndKeepRows() {
+        // Arrange
+        MarketItem wheat = new MarketItem(table, "WHEAT", "farming", "Wheat", Material.WHEAT, 10.0);
+        wheat.setCurrentMultiplier(0.5, NOW);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            table.allocate("ITEM_" + i, NOW);
+        }
+
+        // Assert
+        assertEquals(11, table.size());
+        assertEquals("WHEAT", table.id(wheat.getOrdinal()));
+        assertEquals(0.5, wheat.getMultiplierAt(NOW), 1e-9, "Row state must survive growth");
+        assertEquals("ITEM_9", table.id(10));
+    }
+
+    @Test
+    @DisplayName("Writes on another thread should survive rows being appended")
+    void concurrentWritesShouldSurviveGrowth() throws Exception {
+        // Arrange
+        int ordinal = table.allocate("WHEAT", NOW);
+        int sells = 200_000;
+        Thread seller = new Thread(() -> {
+            for (int i = 0; i < sells; i++) table.recordSell(ordinal, 1, NOW);
+        });
+
+        // Act — a reload appends rows on the main thread while sales land
+        seller.start();
+        for (int i = 0; i < 50_000; i++) {
+            table.allocate("ITEM_" + i, NOW);
+        }
+        seller.join();
+
+        // Assert
+        assertEquals(sells, table.totalSold(ordinal));
+        assertEquals("ITEM_49999", table.id(50_000));
+        assertEquals(50_001, table.snapshot().size());
+    }
+
+    @Test
+    @DisplayName("Item view and table row should share state")
+    void itemShouldViewTableRow() {
+        // Arrange
+        MarketItem item = new MarketItem(table, "WHEAT", "farming", "Wheat", Material.WHEAT, 10.0);
+
+        // Act
+        table.setPriceState(item.getOrdinal(), PriceState.pack(0.75, NOW));
+        item.recordSell(3);
+
+        // Assert
+        assertEquals(0.75, item.getMultiplierAt(NOW), 1e-9);
+        assertEquals(3, table.totalSold(item.getOrdinal()));
+    }
+
+    @Test
+    @DisplayName("Should average multipliers over the given rows only")
+    void shouldAverageSelectedRows() {
+        // Arrange
+        int a = table.allocate("A", NOW);
+        int b = table.allocate("B", NOW);
+        int c = table.allocate("C", NOW);
+        table.setPriceState(a, PriceState.pack(0.5, NOW));
+        table.setPriceState(b, PriceState.pack(0.25, NOW));
+        table.setPriceState(c, PriceState.pack(2.0, NOW));
+
+        // Act
+        double avg = table.averageMultiplier(new int[]{a, b}, NOW);
+
+        // Assert
+        assertEquals(0.375, avg, 1e-9);
+        assertEquals(1.0, table.averageMultiplier(new int[0], NOW), "Empty set averages to base");
+    }
+
+    @Test
+    @DisplayName("Reset all should return every row to base price")
+    void resetAllShouldRestoreBase() {
+        // Arrange
+        int a = table.allocate("A", NOW);
+        int b = table.allocate("B", NOW);
+        table.setPriceState(a, PriceState.pack(0.1, NOW));
+        table.setPriceState(b, PriceState.pack(3.0, NOW));
+
+        // Act
+        table.resetAll(NOW);
+
+        // Assert
+        assertEquals(1.0, table.multiplierAt(a, NOW));
+        assertEquals(1.0, table.multiplierAt(b, NOW));
+    }
+
+    @Test
+    @DisplayName("Settle all should fold recovery into every row without changing reads")
+    void settleAllShouldPreserveReads() {
+        // Arrange
+        int a = table.allocate("A", NOW);
+        int b = table.allocate("B", NOW);
+        table.setPriceState(a, PriceState.pack(0.5, NOW));
+        table.setPriceState(b, PriceState.pack(0.75, NOW));
+        table.setRecoveryPerHourAll(0.125, NOW);
+        long later = NOW + 2 * HOUR;
+
+        // Act
+        table.settleAll(later);
+
+        // Assert
+        assertEquals(0.75, PriceState.multiplier(table.priceState(a)), 1e-9);
+        assertEquals(1.0, PriceState.multiplier(table.priceState(b)), 1e-9);
+        assertEquals(0.75, table.multiplierAt(a, later), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Repeated settles at one instant should not change the multiplier")
+    void repeatedSettleShouldNotDrift() {
+        // Arrange — an instant between two whole seconds
+        int a = table.allocate("A", NOW);
+        table.setPriceState(a, PriceState.pack(0.5, NOW));
+        table.setRecoveryPerHourAll(0.125, NOW);
+        long instant = NOW + 2 * HOUR + 750;
+        double before = table.multiplierAt(a, instant);
+
+        // Act
+        table.settle(a, instant);
+        long settled = table.priceState(a);
+        for (int i = 0; i < 1_000; i++) {
+            table.settle(a, instant);
+        }
+
+        // Assert
+        assertEquals(settled, table.priceState(a));
+        assertEquals(before, table.multiplierAt(a, instant), 1e-8);
+    }
+
+    @Test
+    @DisplayName("Writes should mark rows dirty once until drained")
+    void writesShouldMarkRowsDirty() {
+        // Arrange
+        int a = table.allocate("A", NOW);
+        int b = table.allocate("B", NOW);
+        int c = table.allocate("C", NOW);
+
+        // Act
+        table.setPriceState(b, PriceState.pack(0.5, NOW));
+        table.recordSell(b, 64, NOW);
+        table.setTotalSold(a, 10);
+
+        // Assert
+        assertArrayEquals(new int[]{b, a}, table.drainDirty(), "Each row once, in order of first change");
+        assertFalse(table.isDirty(a));
+        assertFalse(table.isDirty(c));
+        assertEquals(0, table.drainDirty().length, "Drain must clear");
+    }
+
+    @Test
+    @DisplayName("Settling recovery should not mark rows dirty")
+    void settleShouldNotMarkDirty() {
+        // Arrange
+        int a = table.allocate("A", NOW);
+        table.setPriceState(a, PriceState.pack(0.5, NOW));
+        table.setRecoveryPerHourAll(0.125, NOW);
+        table.drainDirty();
+
+        // Act
+        table.settleAll(NOW + 2 * HOUR);
+
+        // Assert
+        assertFalse(table.isDirty(a));
+    }
+
+    @Test
+    @DisplayName("Snapshot should not see writes made after it")
+    void snapshotShouldBeDetached() {
+        // Arrange
+        int a = table.allocate("A", NOW);
+        table.setPriceState(a, PriceState.pack(0.5, NOW));
+        table.recordSell(a, 64, NOW);
+
+        // Act
+        MarketTable.Snapshot snapshot = table.snapshot();
+        table.setPriceState(a, PriceState.pack(0.25, NOW));
+        table.recordSell(a, 1, NOW + HOUR);
+
+        // Assert
+        assertEquals(1, snapshot.size());
+        assertEquals("A", snapshot.ids()[a]);
+        assertEquals(0.5, PriceState.multiplier(snapshot.priceStates()[a]), 1e-9);
+        assertEquals(64, snapshot.totalSold()[a]);
+        assertEquals(NOW, snapshot.lastSell()[a]);
+    }
+}
@@ -0,0 +1,151 @@
+package dev.n1xend.dynamiceconomy.economy;
+
+import dev.n1xend.dynamiceconomy.config.ConfigManager;
+import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import dev.n1xend.dynamiceconomy.services.PriceCalculator;
+import org.bukkit.Material;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Concurrency stress tests for {@link PriceCalculator} mutations on a shared {@link MarketItem}.
+ *
+ * <p>Parameters are chosen so the multiplier never touches a clamp, which makes
+ * the final value order-independent: any lost update shows up as a difference
+ * of at least one drop/recovery step. Steps are powers of two so the
+ * fixed-point {@code PriceState} encoding represents every intermediate value exactly.</p>
+ *
+ * @author n1xend
+ */
+@DisplayName("Price Concurrency Tests")
+class PriceConcurrencyTest {
+
+    private static final int THREADS    = 8;
+    private static final int ITERATIONS = 5_000;
+
+    private static final double STEP              = 1.0 / (1 << 13); // ~0.000122
+    private static final double DROP_PER_STACK    = STEP * 64;       // 1 unit = STEP
+    private static final double RECOVERY_PER_HOUR = STEP;            // 1 hour = STEP
+
+    private PriceCalculator priceCalculator;
+    private MarketItem item;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        ConfigManager config = mock(ConfigManager.class, withSettings().stubOnly());
+        when(config.getMinPriceMultiplier()).thenReturn(0.0);
+        when(config.getMaxPriceMultiplier()).thenReturn(1.0);
+        when(config.getPriceDropPerStack()).thenReturn(DROP_PER_STACK);
+        when(config.getPriceRecoveryPerHour()).thenReturn(RECOVERY_PER_HOUR);
+        when(config.getSellTax()).thenReturn(0.05);
+
+        priceCalculator = new PriceCalculator(config);
+        item = new MarketItem("WHEAT", "farming", "§eПшеница", Material.WHEAT, 10.0);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Concurrent sales should never lose a price drop or a sold unit")
+    void concurrentSalesShouldNotLoseUpdates() throws Exception {
+        // Arrange — 8 × 5000 single-unit sales = 40000 × STEP ≈ 4.88 total drop, start high enough
+        item.setCurrentMultiplier(5.0);
+
+        // Act
+        runConcurrently(THREADS, () -> priceCalculator.applySale(item, 1));
+
+        // Assert
+        long expectedSold = (long) THREADS * ITERATIONS;
+        assertEquals(expectedSold, item.getTotalSold(), "Every sold unit must be counted");
+        assertEquals(5.0 - expectedSold * STEP, item.getCurrentMultiplier(), 1e-9,
+            "Every sale must be reflected in the multiplier");
+    }
+
+    @Test
+    @DisplayName("Sales racing recovery should keep both sets of updates")
+    void salesAndRecoveryShouldNotLoseUpdates() throws Exception {
+        // Arrange — 4 sellers and 4 recoverers, 1000 ops each: any ordering stays within 0.5 ± 0.49
+        item.setCurrentMultiplier(0.5);
+        int opsPerThread = 1_000;
+        int half = THREADS / 2;
+
+        // Act
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            boolean seller = t < half;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < opsPerThread; i++) {
+                    if (seller) priceCalculator.applySale(item, 1);
+                    else        priceCalculator.applyRecovery(item, 1.0);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) f.get(30, TimeUnit.SECONDS);
+
+        // Assert — drops and recoveries cancel out exactly
+        assertEquals((long) half * opsPerThread, item.getTotalSold());
+        assertEquals(0.5, item.getCurrentMultiplier(), 1e-9,
+            "Equal numbers of drops and recoveries must cancel out");
+        double mult = item.getCurrentMultiplier();
+        assertTrue(mult > 0.0 && mult < 1.0, "Multiplier must stay within bounds");
+    }
+
+    @Test
+    @DisplayName("Concurrent recovery should stop exactly at base price")
+    void concurrentRecoveryShouldClampAtBase() throws Exception {
+        // Arrange
+        item.setCurrentMultiplier(0.9);
+
+        // Act — far more recovery than needed
+        runConcurrently(THREADS, () -> priceCalculator.applyRecovery(item, 10.0));
+
+        // Assert
+        assertEquals(1.0, item.getCurrentMultiplier(), "Recovery must never overshoot 1.0");
+    }
+
+    @Test
+    @DisplayName("Last sell timestamp should never move backwards")
+    void lastSellTimestampShouldBeMonotonic() throws Exception {
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        runConcurrently(THREADS, () -> item.recordSell(1));
+
+        // Assert
+        assertTrue(item.getLastSellTimestamp() >= before);
+        assertTrue(item.getLastSellTimestamp() <= System.currentTimeMillis());
+        assertEquals((long) THREADS * ITERATIONS, item.getTotalSold());
+    }
+
+    // -------------------------------------------------------------------------
+
+    private void runConcurrently(int threads, Runnable op) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ITERATIONS; i++) op.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) f.get(30, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,155 @@
+package dev.n1xend.dynamiceconomy.economy;
+
+import dev.n1xend.dynamiceconomy.config.ConfigManager;
+import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import dev.n1xend.dynamiceconomy.pricing.*;
+import dev.n1xend.dynamiceconomy.services.PriceCalculator;
+import org.bukkit.Material;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link PriceModel} implementations.
+ *
+ * @author n1xend
+ */
+@DisplayName("PriceModel Tests")
+class PriceModelTest {
+
+    private static final double DROP  = 0.02;
+    private static final double FLOOR = 0.2;
+
+    @Nested
+    @DisplayName("Linear")
+    class Linear {
+
+        private final PriceModel model = LinearPriceModel.DEFAULT;
+
+        @Test
+        @DisplayName("Should match the original drop and recovery formulas")
+        void shouldMatchOriginalFormulas() {
+            assertEquals(1.0 - DROP * 2, model.afterSale(1.0, 2.0, DROP), 1e-12);
+            assertEquals(0.5 + 0.05 * 3, model.recover(0.5, 3.0, 0.05), 1e-12);
+        }
+
+        @Test
+        @DisplayName("Elasticity should scale the drop")
+        void elasticityShouldScaleDrop() {
+            PriceModel steep = new LinearPriceModel(2.0);
+            assertEquals(1.0 - DROP * 2, steep.afterSale(1.0, 1.0, DROP), 1e-12);
+        }
+    }
+
+    @Nested
+    @DisplayName("Exponential")
+    class Exponential {
+
+        private final PriceModel model = new ExponentialPriceModel(1.0, FLOOR);
+
+        @Test
+        @DisplayName("First stack at base should drop like linear")
+        void firstStackShouldMatchLinearSlope() {
+            double linear = LinearPriceModel.DEFAULT.afterSale(1.0, 0.01, DROP);
+            double expo   = model.afterSale(1.0, 0.01, DROP);
+            assertEquals(linear, expo, 1e-6);
+        }
+
+        @Test
+        @DisplayName("Should approach but never cross the floor")
+        void shouldNotCrossFloor() {
+            double m = model.afterSale(1.0, 10_000, DROP);
+            assertTrue(m >= FLOOR, "Multiplier must stay at or above floor");
+            assertEquals(FLOOR, m, 1e-3);
+        }
+
+        @Test
+        @DisplayName("Recovery should close the gap to base without overshooting")
+        void recoveryShouldApproachBase() {
+            double after1h  = model.recover(0.5, 1.0, 0.05);
+            double after100 = model.recover(0.5, 100.0, 0.05);
+            assertTrue(after1h > 0.5 && after1h < 1.0);
+            assertTrue(after100 <= 1.0);
+            assertEquals(1.0, after100, 1e-2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Logistic")
+    class Logistic {
+
+        private final PriceModel model = new LogisticPriceModel(1.0, FLOOR);
+
+        @Test
+        @DisplayName("Should drop slower at the edges than mid-curve")
+        void shouldBeSShaped() {
+            double nearBase = 0.99 - model.afterSale(0.99, 1.0, DROP);
+            double mid      = 0.60 - model.afterSale(0.60, 1.0, DROP);
+            assertTrue(mid > nearBase, "Mid-curve should be most elastic");
+            assertEquals(DROP, mid, DROP * 0.05, "Mid-curve slope should match linear");
+        }
+
+        @Test
+        @DisplayName("Should stay strictly between floor and base")
+        void shouldStayWithinBounds() {
+            double m = 1.0;
+            for (int i = 0; i < 1_000; i++) {
+                m = model.afterSale(m, 1.0, DROP);
+                assertTrue(m > FLOOR && m < 1.0, "Multiplier out of bounds: " + m);
+            }
+        }
+
+        @Test
+        @DisplayName("Should never lower the price on recovery near base")
+        void recoveryShouldNotDropNearBase() {
+            for (double stored : new double[]{0.999, 0.9995, 0.99999, Math.nextDown(1.0)}) {
+                assertTrue(model.recover(stored, 0.001, 0.05) >= stored, "Recovery dropped " + stored);
+            }
+        }
+
+        @Test
+        @DisplayName("Should never raise the price on a sale near the floor")
+        void saleShouldNotRiseNearFloor() {
+            double edge = FLOOR + (1.0 - FLOOR) * 1e-3;
+            for (double current : new double[]{edge, FLOOR + 1e-4, FLOOR + 1e-9, Math.nextUp(FLOOR)}) {
+                assertTrue(model.afterSale(current, 0.01, DROP) <= current, "Sale raised " + current);
+            }
+        }
+
+        @Test
+        @DisplayName("Should fall back to linear above base")
+        void shouldDropLinearlyAboveBase() {
+            assertEquals(1.5 - DROP, model.afterSale(1.5, 1.0, DROP), 1e-12);
+        }
+    }
+
+    @Test
+    @DisplayName("Factory should resolve identifiers and reject unknown ones")
+    void factoryShouldResolveIds() {
+        assertSame(LinearPriceModel.DEFAULT, PriceModels.create("linear", 1.0, FLOOR));
+        assertEquals("exponential", PriceModels.create("Exponential", 1.0, FLOOR).id());
+        assertEquals("logistic", PriceModels.create("LOGISTIC", 1.0, FLOOR).id());
+        assertNull(PriceModels.create("quadratic", 1.0, FLOOR));
+    }
+
+    @Test
+    @DisplayName("PriceCalculator should apply the item's model and clamp to the configured minimum")
+    void calculatorShouldUseItemModel() {
+        // Arrange
+        ConfigManager config = mock(ConfigManager.class);
+        when(config.getMinPriceMultiplier()).thenReturn(FLOOR);
+        when(config.getPriceDropPerStack()).thenReturn(DROP);
+        PriceCalculator calculator = new PriceCalculator(config);
+        MarketItem item = new MarketItem("WHEAT", "farming", "§eПшеница", Material.WHEAT, 10.0);
+        item.setPriceModel(new ExponentialPriceModel(1.0, FLOOR));
+        long now = System.currentTimeMillis();
+
+        // Act
+        calculator.applySale(item, 64 * 5, now);
+
+        // Assert
+        double expected = FLOOR + (1.0 - FLOOR) * Math.exp(-DROP / (1.0 - FLOOR) * 5);
+        assertEquals(expected, item.getMultiplierAt(now), 1e-6);
+    }
+}
@@ -0,0 +1,94 @@
+package dev.n1xend.dynamiceconomy.economy;
+
+import dev.n1xend.dynamiceconomy.DynamicEconomy;
+import dev.n1xend.dynamiceconomy.config.ConfigManager;
+import dev.n1xend.dynamiceconomy.data.models.MarketCategory;
+import dev.n1xend.dynamiceconomy.data.models.MarketItem;
+import dev.n1xend.dynamiceconomy.data.models.MarketTable;
+import dev.n1xend.dynamiceconomy.services.EconomyService;
+import dev.n1xend.dynamiceconomy.services.EconomyService.SellData;
+import dev.n1xend.dynamiceconomy.services.EconomyService.SellResult;
+import dev.n1xend.dynamiceconomy.session.SessionService;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the checks {@link EconomyService#trySell} makes before selling.
+ *
+ * @author n1xend
+ */
+@DisplayName("Sell Amount Tests")
+class SellAmountTest {
+
+    private DynamicEconomy plugin;
+    private EconomyService economy;
+    private MarketTable    table;
+
+    @BeforeEach
+    void setUp() {
+        ConfigManager config = mock(ConfigManager.class);
+        when(config.getPriceRecoveryPerHour()).thenReturn(0.0);
+        when(config.getMinPriceMultiplier()).thenReturn(0.1);
+        when(config.isSeasonalDemandEnabled()).thenReturn(false);
+
+        plugin = mock(DynamicEconomy.class);
+        when(plugin.getConfigManager()).thenReturn(config);
+        when(plugin.getSessionService()).thenReturn(new SessionService());
+        when(plugin.getLogger()).thenReturn(Logger.getLogger("test"));
+
+        table = new MarketTable(1);
+        MarketCategory farming = new MarketCategory("farming", "Farming", "", Material.WHEAT, 0, true);
+        farming.addItem(new MarketItem(table, "WHEAT", "farming", "Wheat", Material.WHEAT, 10.0));
+        Map<String, MarketCategory> categories = new LinkedHashMap<>();
+        categories.put("farming", farming);
+        economy = new EconomyService(plugin, categories, table);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -2, Integer.MIN_VALUE})
+    @DisplayName("A non-positive amount other than -1 should be rejected before anything is sold")
+    void nonPositiveAmountShouldBeRejected(int amount) {
+        // Arrange
+        Player player = mock(Player.class);
+        long stateBefore = table.priceState(economy.getItem("WHEAT").getOrdinal());
+
+        // Act
+        SellData result = economy.trySell(player, "WHEAT", amount);
+
+        // Assert
+        assertEquals(SellResult.INVALID_AMOUNT, result.result());
+        assertEquals(0.0, result.payout());
+        assertEquals(stateBefore, table.priceState(economy.getItem("WHEAT").getOrdinal()));
+        verifyNoInteractions(player);
+        verify(plugin, never()).getDepositService();
+    }
+
+    @Test
+    @DisplayName("A player without an open session should not sell or get a new session")
+    void playerWhoQuitShouldNotSell() {
+        // Arrange — the sale runs after PlayerQuitEvent closed the session
+        UUID uuid = UUID.randomUUID();
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(uuid);
+
+        // Act
+        SellData result = economy.trySell(player, "WHEAT", 1);
+
+        // Assert
+        assertEquals(SellResult.OFFLINE, result.result());
+        assertNull(plugin.getSessionService().peek(uuid));
+        verify(player, never()).getInventory();
+        verify(plugin, never()).getDepositService();
+    }
+}
@@ -0,0 +1,166 @@
+package dev.n1xend.dynamiceconomy.session;
+
+import dev.n1xend.dynamiceconomy.gui.GuiStateStore;
+import dev.n1xend.dynamiceconomy.gui.GuiStateStore.SellMode;
+import org.junit.jupiter.api.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link PlayerSession} and {@link SessionService}.
+ *
+ * @author n1xend
+ */
+@DisplayName("PlayerSession Tests")
+class PlayerSessionTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long WINDOW = 30 * 60_000L;
+
+    private static final int FARMING = 0;
+    private static final int MINING  = 1;
+    private static final int FISHING = 2;
+
+    private PlayerSession session;
+
+    @BeforeEach
+    void setUp() {
+        session = new PlayerSession(UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("Pending sale should count as a distinct category")
+    void pendingSaleShouldCount() {
+        assertEquals(1, session.distinctCategoriesWith(FARMING, NOW, WINDOW));
+
+        session.recordCategorySale(FARMING, NOW, WINDOW);
+        assertEquals(1, session.distinctCategoriesWith(FARMING, NOW, WINDOW));
+        assertEquals(2, session.distinctCategoriesWith(MINING, NOW, WINDOW));
+    }
+
+    @Test
+    @DisplayName("Sales outside the window should not count")
+    void expiredSalesShouldNotCount() {
+        // Arrange
+        session.recordCategorySale(FARMING, NOW, WINDOW);
+        session.recordCategorySale(MINING, NOW + WINDOW / 2, WINDOW);
+
+        // Act
+        int distinct = session.distinctCategoriesWith(FISHING, NOW + WINDOW + 1, WINDOW);
+
+        // Assert
+        assertEquals(2, distinct, "farming expired, mining and fishing remain");
+    }
+
+    @Test
+    @DisplayName("A category sold after the others expired should count alone")
+    void expiredCategoriesShouldDropOut() {
+        // Sell 1000 different categories, each after the previous one expired
+        for (int i = 0; i < 1000; i++) {
+            long t = NOW + i * (WINDOW + 1);
+            session.recordCategorySale(i, t, WINDOW);
+            assertEquals(1, session.distinctCategoriesWith(i, t, WINDOW));
+        }
+    }
+
+    @Test
+    @DisplayName("Running count should match a full scan of the history")
+    void runningCountShouldMatchFullScan() {
+        // Reference: the original per-player map of category → last sale
+        Map<Integer, Long> reference = new HashMap<>();
+        Random random = new Random(7);
+        long now = NOW;
+
+        for (int i = 0; i < 20_000; i++) {
+            now += random.nextInt(5) == 0 ? random.nextLong(WINDOW) : random.nextLong(60_000L);
+            int category = random.nextInt(12);
+
+            long t = now;
+            long expected = reference.values().stream().filter(at -> t - at <= WINDOW).count();
+            Long last = reference.get(category);
+            if (last == null || now - last > WINDOW) expected++;
+
+            assertEquals(expected, session.distinctCategoriesWith(category, now, WINDOW), "sale " + i);
+            session.recordCategorySale(category, now, WINDOW);
+            reference.put(category, now);
+        }
+    }
+
+    @Test
+    @DisplayName("Changing the window should recount the history")
+    void windowChangeShouldRecount() {
+        // Arrange
+        session.recordCategorySale(FARMING, NOW, WINDOW);
+        session.recordCategorySale(MINING, NOW + WINDOW / 2, WINDOW);
+
+        // Act / Assert
+        assertEquals(2, session.distinctCategoriesWith(MINING, NOW + WINDOW / 2, WINDOW));
+        assertEquals(1, session.distinctCategoriesWith(MINING, NOW + WINDOW / 2, WINDOW / 4));
+    }
+
+    @Test
+    @DisplayName("clearGui should reset navigation but keep selling history")
+    void clearGuiShouldKeepSellingState() {
+        // Arrange
+        session.setCategory("farming");
+        session.setPage(3);
+        session.setSellMode(SellMode.ONE);
+        session.setLastSellMillis(NOW);
+        session.recordCategorySale(FARMING, NOW, WINDOW);
+
+        // Act
+        session.clearGui();
+
+        // Assert
+        assertNull(session.getCategory());
+        assertEquals(0, session.getPage());
+        assertEquals(SellMode.ALL, session.getSellMode());
+        assertEquals(NOW, session.getLastSellMillis());
+        assertEquals(2, session.distinctCategoriesWith(MINING, NOW, WINDOW));
+    }
+
+    @Test
+    @DisplayName("Closing a session should drop it from the service")
+    void closeShouldDropSession() {
+        // Arrange
+        SessionService sessions = new SessionService();
+        UUID uuid = UUID.randomUUID();
+        sessions.open(uuid);
+        sessions.peek(uuid).setPage(2);
+
+        // Act
+        sessions.close(uuid);
+
+        // Assert
+        assertNull(sessions.peek(uuid));
+        assertEquals(0, sessions.size());
+        sessions.open(uuid);
+        assertEquals(0, sessions.peek(uuid).getPage(), "A new session starts fresh");
+    }
+
+    @Test
+    @DisplayName("GUI state writes after quit should not re-create a session")
+    void writesAfterQuitShouldNotCreateSession() {
+        // Arrange
+        SessionService sessions = new SessionService();
+        GuiStateStore store = new GuiStateStore(sessions);
+        UUID uuid = UUID.randomUUID();
+        sessions.open(uuid);
+        sessions.close(uuid);
+
+        // Act
+        store.setPage(uuid, 3);
+        store.setSellItem(uuid, "WHEAT");
+        store.setSellMode(uuid, SellMode.ONE);
+
+        // Assert
+        assertNull(store.session(uuid));
+        assertEquals(0, store.getPage(uuid));
+        assertEquals(0, sessions.size());
+    }
+}
@@ -0,0 +1,57 @@
+package dev.n1xend.dynamiceconomy.simulation;
+
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Determinism tests for {@link MarketSimulator}.
+ *
+ * @author n1xend
+ */
+@DisplayName("MarketSimulator Tests")
+class MarketSimulatorTest {
+
+    // Long enough for several seasonal rotations at the default 24 h interval
+    private static final String[] ARGS = {"--players", "20", "--hours", "96", "--seed", "7"};
+
+    /** Runs the simulator and drops the lines that depend on wall-clock time. */
+    private static List<String> simulate(String... args) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(bytes, true, StandardCharsets.UTF_8)) {
+            MarketSimulator.simulate(args, out);
+        }
+        return bytes.toString(StandardCharsets.UTF_8).lines()
+            .filter(line -> !line.startsWith("Throughput") && !line.startsWith("Latency"))
+            .toList();
+    }
+
+    @Test
+    @DisplayName("The same seed should produce the same report")
+    void sameSeedShouldReproduce() throws IOException {
+        // Act
+        List<String> first  = simulate(ARGS);
+        List<String> second = simulate(ARGS);
+
+        // Assert
+        assertTrue(first.stream().anyMatch(line -> line.contains("seasonal rotations")));
+        assertEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("Another seed should produce another market")
+    void otherSeedShouldDiffer() throws IOException {
+        // Act
+        List<String> first = simulate(ARGS);
+        List<String> other = simulate("--players", "20", "--hours", "96", "--seed", "8");
+
+        // Assert
+        assertNotEquals(first.subList(1, first.size()), other.subList(1, other.size()));
+    }
+}